@@ -0,0 +1,89 @@
+package com.dnsimple.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.ValueInstantiator;
+import com.fasterxml.jackson.databind.deser.ValueInstantiators;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Lets Jackson create the data and response classes of this library, which only have
+ * constructors taking all their fields, by allocating them without calling any
+ * constructor and then setting their fields, which is what Gson does with them.
+ * <p>
+ * Allocation goes through {@code sun.misc.Unsafe}, which is looked up reflectively as
+ * Gson does, so that this module compiles without warnings about internal APIs.
+ */
+class AllocatingModule extends SimpleModule {
+    private static final String PACKAGE_PREFIX = "com.dnsimple.";
+    private static final Allocator ALLOCATOR = Allocator.create();
+
+    AllocatingModule() {
+        super("DnsimpleAllocatingModule");
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+        context.addValueInstantiators(new ValueInstantiators.Base() {
+            @Override
+            public ValueInstantiator findValueInstantiator(DeserializationConfig config, BeanDescription beanDesc, ValueInstantiator defaultInstantiator) {
+                Class<?> type = beanDesc.getBeanClass();
+                if (!type.getName().startsWith(PACKAGE_PREFIX) || type.isEnum() || type.isInterface() || Modifier.isAbstract(type.getModifiers()) || defaultInstantiator.canCreateUsingDefault())
+                    return defaultInstantiator;
+                return new AllocatingInstantiator(type);
+            }
+        });
+    }
+
+    private static class AllocatingInstantiator extends ValueInstantiator.Base {
+        AllocatingInstantiator(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        public boolean canCreateUsingDefault() {
+            return true;
+        }
+
+        @Override
+        public Object createUsingDefault(DeserializationContext context) throws IOException {
+            try {
+                return ALLOCATOR.allocate(getValueClass());
+            } catch (ReflectiveOperationException e) {
+                return context.handleInstantiationProblem(getValueClass(), null, e);
+            }
+        }
+    }
+
+    private static class Allocator {
+        private final Object unsafe;
+        private final Method allocateInstance;
+
+        private Allocator(Object unsafe, Method allocateInstance) {
+            this.unsafe = unsafe;
+            this.allocateInstance = allocateInstance;
+        }
+
+        static Allocator create() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                return new Allocator(theUnsafe.get(null), unsafeClass.getMethod("allocateInstance", Class.class));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("The data classes can't be allocated without sun.misc.Unsafe", e);
+            }
+        }
+
+        Object allocate(Class<?> type) throws ReflectiveOperationException {
+            return allocateInstance.invoke(unsafe, type);
+        }
+    }
+}
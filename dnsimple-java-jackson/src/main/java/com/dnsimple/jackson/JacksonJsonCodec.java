@@ -0,0 +1,183 @@
+package com.dnsimple.jackson;
+
+import com.dnsimple.http.JsonCodec;
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
+import com.dnsimple.response.SimpleResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.ANY;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.databind.DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE;
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+/**
+ * JsonCodec implementation backed by Jackson, for applications that already use it and
+ * don't want to ship Gson's reflective adapters or the hand-written ones of GsonJsonCodec.
+ * <p>
+ * Like the default codec, it reads and writes the fields of the data and request classes
+ * directly, ignores unknown fields and omits null values when writing. The data classes
+ * don't have no-arg constructors, so they are allocated without calling any constructor,
+ * as Gson does.
+ *
+ * @see com.dnsimple.Client.Builder#jsonCodec(JsonCodec)
+ */
+public class JacksonJsonCodec implements JsonCodec {
+    private static final Set<Class<?>> CONTAINER_TYPES = Set.of(SimpleResponse.class, ListResponse.class, PaginatedResponse.class);
+    private static final TypeReference<Map<String, Object>> ERROR_TYPE = new TypeReference<>() {
+    };
+    private final ObjectMapper mapper;
+    private final ObjectReader paginationReader;
+    private final Map<Class<?>, Map<Class<?>, ObjectReader>> containerReaders = new ConcurrentHashMap<>();
+    private final Set<Class<?>> preloadedEndpoints = ConcurrentHashMap.newKeySet();
+
+    public JacksonJsonCodec() {
+        this.mapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setVisibility(PropertyAccessor.ALL, NONE)
+                .setVisibility(PropertyAccessor.FIELD, ANY)
+                .setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL))
+                .configure(FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(ADJUST_DATES_TO_CONTEXT_TIME_ZONE, false)
+                .configure(WRITE_DATES_AS_TIMESTAMPS, false)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new AllocatingModule());
+        this.paginationReader = mapper.readerFor(Pagination.class);
+    }
+
+    @Override
+    public void write(Object value, Writer writer) {
+        try {
+            mapper.writeValue(writer, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <CONTAINER, DATA_TYPE> CONTAINER readContainer(InputStream inputStream, Class<DATA_TYPE> dataType, Class<CONTAINER> containerType) {
+        try (JsonParser parser = mapper.createParser(inputStream)) {
+            if (parser.nextToken() == null)
+                return null;
+            return containerReader(containerType, dataType).readValue(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <DATA_TYPE> Pagination readPage(InputStream inputStream, Class<DATA_TYPE> dataType, Consumer<? super DATA_TYPE> consumer) {
+        try (JsonParser parser = mapper.createParser(inputStream)) {
+            ObjectReader dataReader = mapper.readerFor(dataType);
+            Pagination pagination = Pagination.empty();
+            expect(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (name.equals("data") && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY)
+                        consumer.accept(dataReader.readValue(parser));
+                } else if (name.equals("pagination") && value == JsonToken.START_OBJECT) {
+                    pagination = paginationReader.readValue(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return pagination;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <DATA_TYPE> DATA_TYPE read(InputStream inputStream, Class<DATA_TYPE> dataType) {
+        try (InputStream stream = inputStream) {
+            return mapper.readValue(stream, dataType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> readError(InputStream inputStream) {
+        try (InputStream stream = inputStream) {
+            return mapper.readValue(stream, ERROR_TYPE);
+        } catch (IOException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Resolves the Jackson deserializers of the responses returned by the public methods of
+     * the provided endpoint classes, so that the first request to each endpoint doesn't
+     * have to pay for it. Endpoint classes that have already been preloaded are skipped.
+     */
+    @Override
+    public void preloadAdapters(Class<?>... endpointClasses) {
+        for (Class<?> endpointClass : endpointClasses) {
+            if (!preloadedEndpoints.add(endpointClass))
+                continue;
+            for (Method method : endpointClass.getMethods()) {
+                Type returnType = method.getGenericReturnType();
+                if (isParameterized(returnType, CompletableFuture.class))
+                    returnType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+                if (!(returnType instanceof ParameterizedType) || !CONTAINER_TYPES.contains(((ParameterizedType) returnType).getRawType()))
+                    continue;
+                Type dataType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+                if (dataType instanceof Class && !Modifier.isAbstract(((Class<?>) dataType).getModifiers()))
+                    containerReader((Class<?>) ((ParameterizedType) returnType).getRawType(), (Class<?>) dataType);
+            }
+        }
+    }
+
+    private static boolean isParameterized(Type type, Class<?> rawType) {
+        return type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == rawType;
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.nextToken() != token)
+            throw new IOException("Expected " + token + " but found " + parser.currentToken() + " at " + parser.getCurrentLocation());
+    }
+
+    /**
+     * Readers are created with their deserializers already resolved, and they are cached
+     * by their classes so that no JavaType has to be built for each response.
+     */
+    private ObjectReader containerReader(Class<?> containerType, Class<?> dataType) {
+        return containerReaders
+                .computeIfAbsent(containerType, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dataType, type -> mapper.readerFor(javaType(containerType, type)));
+    }
+
+    private JavaType javaType(Class<?> containerType, Class<?> dataType) {
+        return containerType.getTypeParameters().length == 0
+                ? mapper.constructType(containerType)
+                : mapper.getTypeFactory().constructParametricType(containerType, dataType);
+    }
+}
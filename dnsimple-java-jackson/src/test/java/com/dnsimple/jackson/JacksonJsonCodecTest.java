@@ -0,0 +1,153 @@
+package com.dnsimple.jackson;
+
+import com.dnsimple.data.*;
+import com.dnsimple.endpoints.Zones;
+import com.dnsimple.http.GsonJsonCodec;
+import com.dnsimple.http.JsonCodec;
+import com.dnsimple.request.CertificatePurchaseOptions;
+import com.dnsimple.request.ContactOptions;
+import com.dnsimple.request.RegistrationOptions;
+import com.dnsimple.request.SignatureAlgorithm;
+import com.dnsimple.request.ZoneRecordOptions;
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
+import com.dnsimple.response.SimpleResponse;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JacksonJsonCodecTest {
+    private static final JsonCodec gson = GsonJsonCodec.defaults();
+    private final JacksonJsonCodec jackson = new JacksonJsonCodec();
+
+    @Test
+    public void testReadsPaginatedResponsesLikeTheGsonCodec() throws IOException {
+        assertReadsLikeTheGsonCodec("listZoneRecords/success.http", ZoneRecord.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listZones/success.http", Zone.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listDomains/success.http", Domain.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listCertificates/success.http", Certificate.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listContacts/success.http", Contact.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listEmailForwards/success.http", EmailForward.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listPushes/success.http", DomainPush.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listTemplates/success.http", Template.class, PaginatedResponse.class);
+        assertReadsLikeTheGsonCodec("listTlds/success.http", Tld.class, PaginatedResponse.class);
+    }
+
+    @Test
+    public void testReadsListResponsesLikeTheGsonCodec() throws IOException {
+        assertReadsLikeTheGsonCodec("listAccounts/success-user.http", Account.class, ListResponse.class);
+        assertReadsLikeTheGsonCodec("listCharges/success.http", Charge.class, ListResponse.class);
+        assertReadsLikeTheGsonCodec("listServices/success.http", Service.class, ListResponse.class);
+        assertReadsLikeTheGsonCodec("listWebhooks/success.http", Webhook.class, ListResponse.class);
+        assertReadsLikeTheGsonCodec("getTldExtendedAttributes/success.http", TldExtendedAttribute.class, ListResponse.class);
+        assertReadsLikeTheGsonCodec("getDomainDelegation/success.http", String.class, ListResponse.class);
+    }
+
+    @Test
+    public void testReadsSimpleResponsesLikeTheGsonCodec() throws IOException {
+        assertReadsLikeTheGsonCodec("whoami/success.http", WhoamiData.class, SimpleResponse.class);
+        assertReadsLikeTheGsonCodec("getWhoisPrivacy/success.http", WhoisPrivacy.class, SimpleResponse.class);
+        assertReadsLikeTheGsonCodec("getDomainPrices/success.http", DomainPrice.class, SimpleResponse.class);
+        assertReadsLikeTheGsonCodec("getZoneFile/success.http", ZoneFile.class, SimpleResponse.class);
+    }
+
+    @Test
+    public void testReadsTimestampsAndDates() throws IOException {
+        SimpleResponse<WhoisPrivacy> response = jackson.readContainer(fixtureBody("getWhoisPrivacy/success.http"), WhoisPrivacy.class, SimpleResponse.class);
+        assertThat(response.getData().getExpiresOn(), is(LocalDate.of(2017, 2, 13)));
+        assertThat(response.getData().getCreatedAt(), is(OffsetDateTime.parse("2016-02-13T14:34:50Z")));
+    }
+
+    @Test
+    public void testReadsPagesElementByElement() throws IOException {
+        List<ZoneRecord> records = new ArrayList<>();
+        Pagination pagination = jackson.readPage(fixtureBody("listZoneRecords/success.http"), ZoneRecord.class, records::add);
+        PaginatedResponse<ZoneRecord> expected = gson.readContainer(fixtureBody("listZoneRecords/success.http"), ZoneRecord.class, PaginatedResponse.class);
+        assertThat(write(records), is(write(expected.getData())));
+        assertThat(write(pagination), is(write(expected.getPagination())));
+    }
+
+    @Test
+    public void testReadsNullFromAnEmptyBody() {
+        assertThat(jackson.readContainer(new ByteArrayInputStream(new byte[0]), Zone.class, SimpleResponse.class), is(nullValue()));
+    }
+
+    @Test
+    public void testSkipsUnknownFieldsAndLeavesMissingFieldsNull() {
+        ZoneRecord record = jackson.read(stream("{\"id\":1,\"unknown\":{\"nested\":[1,2]},\"ttl\":\"3600\",\"system_record\":null}"), ZoneRecord.class);
+        assertThat(record.getId(), is(1L));
+        assertThat(record.getTtl(), is(3600));
+        assertThat(record.isSystemRecord(), is(nullValue()));
+        assertThat(record.getCreatedAt(), is(nullValue()));
+    }
+
+    @Test
+    public void testReadsErrors() throws IOException {
+        Map<String, Object> error = jackson.readError(fixtureBody("validation-error.http"));
+        assertThat(error, hasEntry("message", "Validation failed"));
+        assertThat(error, hasKey("errors"));
+    }
+
+    @Test
+    public void testReadsAnEmptyErrorFromMalformedBodies() {
+        assertThat(jackson.readError(stream("{\"message\":")), is(emptyMap()));
+    }
+
+    @Test
+    public void testWritesRequestBodiesLikeTheGsonCodec() {
+        assertWritesLikeTheGsonCodec(ZoneRecordOptions.of("www", "A", "1.2.3.4").ttl(600).regions("SV1", "IAD").asPayload());
+        assertWritesLikeTheGsonCodec(ContactOptions.of("John", "Doe", "Main St 1", "Rome", "RM", "00100", "IT", "john@example.com", "+39 06 0000000").label("Home"));
+        assertWritesLikeTheGsonCodec(RegistrationOptions.of(1234).whoisPrivacy().extendedAttribute("x-eu-registrant-citizenship", "it"));
+        assertWritesLikeTheGsonCodec(CertificatePurchaseOptions.of("www").alternateNames("api.example.com").signatureAlgorithm(SignatureAlgorithm.ECDSA));
+    }
+
+    @Test
+    public void testPreloadsTheReadersOfTheEndpointResponses() throws IOException {
+        jackson.preloadAdapters(Zones.class);
+        assertReadsLikeTheGsonCodec("getZoneFile/success.http", ZoneFile.class, SimpleResponse.class);
+    }
+
+    private void assertReadsLikeTheGsonCodec(String fixture, Class<?> dataType, Class<?> containerType) throws IOException {
+        Object expected = gson.readContainer(fixtureBody(fixture), dataType, containerType);
+        Object actual = jackson.readContainer(fixtureBody(fixture), dataType, containerType);
+        assertThat(fixture, actual, is(instanceOf(containerType)));
+        assertThat(fixture, write(actual), is(write(expected)));
+    }
+
+    private void assertWritesLikeTheGsonCodec(Object value) {
+        StringWriter expected = new StringWriter();
+        gson.write(value, expected);
+        assertThat(write(value), is(expected.toString()));
+    }
+
+    private String write(Object value) {
+        StringWriter writer = new StringWriter();
+        jackson.write(value, writer);
+        return writer.toString();
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+
+    private static InputStream fixtureBody(String fixture) throws IOException {
+        try (InputStream inputStream = JacksonJsonCodecTest.class.getResourceAsStream("/com/dnsimple/" + fixture)) {
+            String content = new String(inputStream.readAllBytes(), UTF_8).replace("\r\n", "\n");
+            return stream(content.substring(content.indexOf("\n\n") + 2));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Zone;
+import com.dnsimple.response.SimpleResponse;
+import com.dnsimple.tools.Fixtures;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Measures what caching the container adapters by class saves on small responses, where
+ * looking the adapter up is a noticeable part of the work: GsonJsonCodec reads a zone with
+ * its cached adapter, and an equally configured Gson reads it by building the
+ * parameterized type of the response and looking its adapter up on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ContainerAdapterBenchmark {
+    private JsonCodec codec;
+    private Gson gson;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        codec = GsonJsonCodec.defaults();
+        gson = new GsonBuilder()
+                .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter(1024))
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapterFactory(new DataTypeAdapterFactory(false))
+                .create();
+        body = Fixtures.body("getZone/success.http").getBytes(UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public SimpleResponse<Zone> cachedContainerAdapter() {
+        return codec.readContainer(new ByteArrayInputStream(body), Zone.class, SimpleResponse.class);
+    }
+
+    @Benchmark
+    public SimpleResponse<Zone> parameterizedTypeLookup() {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body)));
+        return gson.fromJson(reader, TypeToken.getParameterized(SimpleResponse.class, Zone.class).getType());
+    }
+}
@@ -0,0 +1,70 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Certificate;
+import com.dnsimple.data.Contact;
+import com.dnsimple.data.Domain;
+import com.dnsimple.data.Zone;
+import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.jackson.JacksonJsonCodec;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
+import com.dnsimple.tools.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.dnsimple.request.PageRequest.MAX_ITEMS_PER_PAGE;
+
+/**
+ * Compares the JsonCodec implementations reading full pages of the largest listings of
+ * the API, both as a whole PaginatedResponse and element by element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JsonCodecBenchmark {
+    private static final Map<String, Class<?>> DATA_TYPES = Map.of(
+            "listZoneRecords", ZoneRecord.class,
+            "listZones", Zone.class,
+            "listDomains", Domain.class,
+            "listCertificates", Certificate.class,
+            "listContacts", Contact.class
+    );
+
+    @Param({"gson", "jackson"})
+    public String codec;
+
+    @Param({"listZoneRecords", "listZones", "listDomains", "listCertificates", "listContacts"})
+    public String listing;
+
+    private JsonCodec jsonCodec;
+    private Class<?> dataType;
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        jsonCodec = codec.equals("jackson") ? new JacksonJsonCodec() : GsonJsonCodec.defaults();
+        dataType = DATA_TYPES.get(listing);
+        page = Fixtures.page(listing + "/success.http", MAX_ITEMS_PER_PAGE);
+    }
+
+    @Benchmark
+    public Object readContainer() {
+        return jsonCodec.readContainer(new ByteArrayInputStream(page), dataType, PaginatedResponse.class);
+    }
+
+    @Benchmark
+    public Pagination readPage(Blackhole blackhole) {
+        return jsonCodec.readPage(new ByteArrayInputStream(page), dataType, blackhole::consume);
+    }
+}
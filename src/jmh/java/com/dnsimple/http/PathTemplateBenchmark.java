@@ -0,0 +1,54 @@
+package com.dnsimple.http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URLEncoder;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares the ways of building the path of a zone record: concatenating the raw values,
+ * as the endpoints did before, concatenating values encoded with URLEncoder, formatting
+ * them with String.format(), and expanding a precompiled PathTemplate. The zone is either
+ * a plain name, which PathTemplate appends as it is, or an internationalized one that has
+ * to be percent-encoded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PathTemplateBenchmark {
+    private static final PathTemplate ZONE_RECORD = PathTemplate.compile("{account}/zones/{zone}/records/{record}");
+
+    @Param({"example.com", "b\u00fccher.example"})
+    public String zone;
+
+    private final Number account = 1010;
+    private final Number record = 5;
+
+    @Benchmark
+    public String concatenation() {
+        return account + "/zones/" + zone + "/records/" + record;
+    }
+
+    @Benchmark
+    public String encodedConcatenation() {
+        return URLEncoder.encode(String.valueOf(account), UTF_8) + "/zones/" + URLEncoder.encode(zone, UTF_8) + "/records/" + URLEncoder.encode(String.valueOf(record), UTF_8);
+    }
+
+    @Benchmark
+    public String format() {
+        return String.format("%s/zones/%s/records/%s", account, zone, record);
+    }
+
+    @Benchmark
+    public String pathTemplate() {
+        return ZONE_RECORD.expand(account, zone, record);
+    }
+}
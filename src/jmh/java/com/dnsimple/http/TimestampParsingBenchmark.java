@@ -0,0 +1,79 @@
+package com.dnsimple.http;
+
+import com.dnsimple.tools.Fixtures;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static com.dnsimple.request.PageRequest.MAX_ITEMS_PER_PAGE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares the ways of reading the created_at and updated_at timestamps of a full page of
+ * zone records: OffsetDateTime.parse(), the fixed-format fast path of
+ * OffsetDateTimeTypeAdapter, and the fast path behind the cache that the endpoint client
+ * keeps for the lifetime of its codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TimestampParsingBenchmark {
+    private final OffsetDateTimeTypeAdapter uncachedAdapter = new OffsetDateTimeTypeAdapter();
+    private final OffsetDateTimeTypeAdapter cachedAdapter = new OffsetDateTimeTypeAdapter(1024);
+    private String timestamps;
+
+    @Setup
+    public void setUp() {
+        JsonObject page = JsonParser.parseString(new String(Fixtures.page("listZoneRecords/success.http", MAX_ITEMS_PER_PAGE), UTF_8)).getAsJsonObject();
+        JsonArray values = new JsonArray();
+        for (JsonElement record : page.getAsJsonArray("data")) {
+            values.add(record.getAsJsonObject().get("created_at"));
+            values.add(record.getAsJsonObject().get("updated_at"));
+        }
+        timestamps = values.toString();
+    }
+
+    @Benchmark
+    public void generalParser(Blackhole blackhole) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(timestamps))) {
+            reader.beginArray();
+            while (reader.hasNext())
+                blackhole.consume(OffsetDateTime.parse(reader.nextString()));
+            reader.endArray();
+        }
+    }
+
+    @Benchmark
+    public void fastPath(Blackhole blackhole) throws IOException {
+        read(uncachedAdapter, blackhole);
+    }
+
+    @Benchmark
+    public void cachedFastPath(Blackhole blackhole) throws IOException {
+        read(cachedAdapter, blackhole);
+    }
+
+    private void read(OffsetDateTimeTypeAdapter adapter, Blackhole blackhole) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(timestamps))) {
+            reader.beginArray();
+            while (reader.hasNext())
+                blackhole.consume(adapter.read(reader));
+            reader.endArray();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.dnsimple.http.java11;
+
+import com.dnsimple.http.RawResponse;
+import com.dnsimple.tools.Fixtures;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.request.PageRequest.MAX_ITEMS_PER_PAGE;
+
+/**
+ * Compares HTTP/1.1 with HTTP/2 over cleartext (h2c) when sending batches of concurrent
+ * requests with Java11HttpRequestFactory to a local server that responds with a full page
+ * of zone records. With HTTP/1.1, the JDK client opens a connection per concurrent
+ * request; with HTTP/2, it multiplexes them over a single connection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransportBenchmark {
+    @Param({"http1", "http2"})
+    public String transport;
+
+    @Param({"1", "16", "64"})
+    public int concurrentRequests;
+
+    private Server server;
+    private URI uri;
+    private Java11HttpRequestFactory requestFactory;
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] page = Fixtures.page("listZoneRecords/success.http", MAX_ITEMS_PER_PAGE);
+        server = new Server();
+        HttpConfiguration configuration = new HttpConfiguration();
+        ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(configuration), new HTTP2CServerConnectionFactory(configuration));
+        server.addConnector(connector);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                baseRequest.setHandled(true);
+                response.setStatus(200);
+                response.setContentType("application/json");
+                response.setContentLength(page.length);
+                response.getOutputStream().write(page);
+            }
+        });
+        server.start();
+        uri = URI.create("http://localhost:" + connector.getLocalPort() + "/v2/1/zones/example.com/records");
+        Java11HttpRequestFactory.Builder builder = new Java11HttpRequestFactory.Builder();
+        if (transport.equals("http2"))
+            builder.http2();
+        requestFactory = builder.build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Benchmark
+    public void requests() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrentRequests];
+        for (int i = 0; i < concurrentRequests; i++)
+            responses[i] = requestFactory.executeAsync("benchmark", Optional.of("token"), GET, uri, null)
+                    .thenAccept(TransportBenchmark::drain);
+        CompletableFuture.allOf(responses).join();
+    }
+
+    private static void drain(RawResponse response) {
+        try (InputStream body = response.getBody()) {
+            body.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.dnsimple.tools;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads the bodies of the HTTP fixture files shared with the tests, which the
+ * benchmarks use as realistic responses of the API.
+ */
+public final class Fixtures {
+    private Fixtures() {
+    }
+
+    /**
+     * @param fixture the path of the fixture, relative to the {@code com/dnsimple} resources
+     * @return the body of the fixture, without its status line and headers
+     */
+    public static String body(String fixture) {
+        try (InputStream inputStream = Fixtures.class.getResourceAsStream("/com/dnsimple/" + fixture)) {
+            if (inputStream == null)
+                throw new IllegalArgumentException("Unknown fixture " + fixture);
+            String content = new String(inputStream.readAllBytes(), UTF_8).replace("\r\n", "\n");
+            return content.substring(content.indexOf("\n\n") + 2);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Builds a full page out of the fixture of a paginated listing, repeating the
+     * elements of its data in order until it has the provided number of them.
+     *
+     * @param fixture the path of the fixture, relative to the {@code com/dnsimple} resources
+     * @param size    the number of elements of the page
+     * @return the UTF-8 encoded body of the page
+     */
+    public static byte[] page(String fixture, int size) {
+        JsonObject response = JsonParser.parseString(body(fixture)).getAsJsonObject();
+        JsonArray data = response.getAsJsonArray("data");
+        JsonArray page = new JsonArray(size);
+        for (int i = 0; i < size; i++)
+            page.add(data.get(i % data.size()).deepCopy());
+        response.add("data", page);
+        JsonElement pagination = response.get("pagination");
+        if (pagination != null) {
+            pagination.getAsJsonObject().addProperty("per_page", size);
+            pagination.getAsJsonObject().addProperty("total_entries", size);
+        }
+        return response.toString().getBytes(UTF_8);
+    }
+}
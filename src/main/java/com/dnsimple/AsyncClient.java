@@ -0,0 +1,72 @@
+package com.dnsimple;
+
+import com.dnsimple.endpoints.async.*;
+import com.dnsimple.http.HttpEndpointClient;
+
+import java.util.function.Function;
+
+/**
+ * The AsyncClient class provides non-blocking access to all the endpoints of DNSimple's API
+ * <p>
+ * Every endpoint method returns a CompletableFuture that completes once the response
+ * has been received and deserialized, or completes exceptionally with the same exceptions
+ * that the blocking methods of the Client class would throw.
+ * <p>
+ * Use the Client.async() method to obtain an instance of this class.
+ */
+public class AsyncClient {
+    public final Accounts accounts;
+    public final Billing billing;
+    public final Certificates certificates;
+    public final Contacts contacts;
+    public final Domains domains;
+    public final Identity identity;
+    public final Oauth oauth;
+    public final Registrar registrar;
+    public final Services services;
+    public final Templates templates;
+    public final Tlds tlds;
+    public final VanityNameServers vanityNameServers;
+    public final Webhooks webhooks;
+    public final Zones zones;
+
+    private AsyncClient(Accounts accounts, Billing billing, Certificates certificates, Contacts contacts, Domains domains, Identity identity, Oauth oauth, Registrar registrar, Services services, Templates templates, Tlds tlds, VanityNameServers vanityNameServers, Webhooks webhooks, Zones zones) {
+        this.accounts = accounts;
+        this.billing = billing;
+        this.certificates = certificates;
+        this.contacts = contacts;
+        this.domains = domains;
+        this.identity = identity;
+        this.oauth = oauth;
+        this.registrar = registrar;
+        this.services = services;
+        this.templates = templates;
+        this.tlds = tlds;
+        this.vanityNameServers = vanityNameServers;
+        this.webhooks = webhooks;
+        this.zones = zones;
+    }
+
+    /**
+     * @param endpointClients provides the endpoint client of the endpoints, by the class of
+     *                        their blocking variant
+     */
+    static AsyncClient of(Function<Class<?>, HttpEndpointClient> endpointClients) {
+        return new AsyncClient(
+                new Accounts(endpointClients.apply(com.dnsimple.endpoints.Accounts.class)),
+                new Billing(endpointClients.apply(com.dnsimple.endpoints.Billing.class)),
+                new Certificates(endpointClients.apply(com.dnsimple.endpoints.Certificates.class)),
+                new Contacts(endpointClients.apply(com.dnsimple.endpoints.Contacts.class)),
+                new Domains(endpointClients.apply(com.dnsimple.endpoints.Domains.class)),
+                new Identity(endpointClients.apply(com.dnsimple.endpoints.Identity.class)),
+                new Oauth(endpointClients.apply(com.dnsimple.endpoints.Oauth.class)),
+                new Registrar(endpointClients.apply(com.dnsimple.endpoints.Registrar.class)),
+                new Services(endpointClients.apply(com.dnsimple.endpoints.Services.class)),
+                new Templates(endpointClients.apply(com.dnsimple.endpoints.Templates.class)),
+                new Tlds(endpointClients.apply(com.dnsimple.endpoints.Tlds.class)),
+                new VanityNameServers(endpointClients.apply(com.dnsimple.endpoints.VanityNameServers.class)),
+                new Webhooks(endpointClients.apply(com.dnsimple.endpoints.Webhooks.class)),
+                new Zones(endpointClients.apply(com.dnsimple.endpoints.Zones.class))
+        );
+    }
+}
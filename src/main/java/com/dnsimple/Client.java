@@ -1,15 +1,35 @@
 package com.dnsimple;
 
 import com.dnsimple.endpoints.*;
+import com.dnsimple.http.AdaptiveConcurrencyLimiter;
+import com.dnsimple.http.Bulkhead;
+import com.dnsimple.http.BulkheadHttpRequestFactory;
+import com.dnsimple.http.CircuitBreaker;
+import com.dnsimple.http.CircuitBreakingHttpRequestFactory;
+import com.dnsimple.http.ConcurrencyLimitedHttpRequestFactory;
+import com.dnsimple.http.GsonJsonCodec;
+import com.dnsimple.http.HedgingHttpRequestFactory;
 import com.dnsimple.http.HttpEndpointClient;
 import com.dnsimple.http.HttpRequestFactory;
+import com.dnsimple.http.JsonCodec;
+import com.dnsimple.http.RateLimitScheduler;
+import com.dnsimple.http.ResponseCache;
+import com.dnsimple.http.RateLimitedHttpRequestFactory;
+import com.dnsimple.http.RequestHedger;
+import com.dnsimple.http.RetryPolicy;
+import com.dnsimple.http.RetryingHttpRequestFactory;
 import com.dnsimple.http.java11.Java11HttpRequestFactory;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * The Client class provides access to all the endpoints of DNSimple's API
@@ -20,7 +40,11 @@ public class Client {
     private static final URL PRODUCTION_API_BASE = url("https://api.dnsimple.com");
     private static final URL SANDBOX_API_BASE = url("https://api.sandbox.dnsimple.com");
     private static final String DEFAULT_USER_AGENT = "dnsimple-java/" + Dnsimple.VERSION;
+    private static final List<Class<?>> ENDPOINT_CLASSES = List.of(Accounts.class, Billing.class, Certificates.class, Contacts.class, Domains.class, Identity.class, Oauth.class, Registrar.class, Services.class, Templates.class, Tlds.class, VanityNameServers.class, Webhooks.class, Zones.class);
     private final HttpEndpointClient endpointClient;
+    private final Map<Class<?>, HttpRequestFactory> endpointRequestFactories;
+    private final Function<Class<?>, HttpEndpointClient> endpointClients;
+    private volatile AsyncClient asyncClient;
     public final Accounts accounts;
     public final Billing billing;
     public final Certificates certificates;
@@ -36,8 +60,10 @@ public class Client {
     public final Webhooks webhooks;
     public final Zones zones;
 
-    private Client(HttpEndpointClient endpointClient, Accounts accounts, Billing billing, Certificates certificates, Contacts contacts, Domains domains, Identity identity, Oauth oauth, Registrar registrar, Services services, Templates templates, Tlds tlds, VanityNameServers vanityNameServers, Webhooks webhooks, Zones zones) {
+    private Client(HttpEndpointClient endpointClient, Map<Class<?>, HttpRequestFactory> endpointRequestFactories, Function<Class<?>, HttpEndpointClient> endpointClients, Accounts accounts, Billing billing, Certificates certificates, Contacts contacts, Domains domains, Identity identity, Oauth oauth, Registrar registrar, Services services, Templates templates, Tlds tlds, VanityNameServers vanityNameServers, Webhooks webhooks, Zones zones) {
         this.endpointClient = endpointClient;
+        this.endpointRequestFactories = endpointRequestFactories;
+        this.endpointClients = endpointClients;
         this.accounts = accounts;
         this.billing = billing;
         this.certificates = certificates;
@@ -54,24 +80,42 @@ public class Client {
         this.zones = zones;
     }
 
-    private static Client of(HttpRequestFactory httpRequestFactory, URL apiBase, String userAgent, Optional<String> accessToken) {
-        HttpEndpointClient endpointClient = new HttpEndpointClient(httpRequestFactory, apiBase, userAgent, accessToken);
+    private static Client of(HttpRequestFactory httpRequestFactory, Map<Class<?>, HttpRequestFactory> endpointRequestFactories, URL apiBase, String userAgent, Optional<String> accessToken, Optional<ResponseCache> responseCache, JsonCodec jsonCodec, boolean coalesceRequests) {
+        HttpEndpointClient endpointClient = new HttpEndpointClient(httpRequestFactory, apiBase, userAgent, accessToken, responseCache, jsonCodec);
+        if (coalesceRequests)
+            endpointClient = endpointClient.withRequestCoalescing();
+        endpointClient.preloadAdapters(ENDPOINT_CLASSES.toArray(new Class<?>[0]));
+        return of(endpointClient, endpointRequestFactories);
+    }
+
+    /**
+     * The endpoints with their own request factory get an endpoint client derived from the
+     * shared one, so that they still share its access token. Derived endpoint clients are
+     * shared by the blocking and non-blocking variants of the endpoints, and the latter are
+     * only created when they are first used, so that per-tenant views stay cheap.
+     */
+    private static Client of(HttpEndpointClient endpointClient, Map<Class<?>, HttpRequestFactory> endpointRequestFactories) {
+        Map<Class<?>, HttpEndpointClient> derivedClients = new HashMap<>();
+        endpointRequestFactories.forEach((endpointClass, factory) -> derivedClients.put(endpointClass, endpointClient.withRequestFactory(factory)));
+        Function<Class<?>, HttpEndpointClient> endpointClients = endpointClass -> derivedClients.getOrDefault(endpointClass, endpointClient);
         return new Client(
                 endpointClient,
-                new Accounts(endpointClient),
-                new Billing(endpointClient),
-                new Certificates(endpointClient),
-                new Contacts(endpointClient),
-                new Domains(endpointClient),
-                new Identity(endpointClient),
-                new Oauth(endpointClient),
-                new Registrar(endpointClient),
-                new Services(endpointClient),
-                new Templates(endpointClient),
-                new Tlds(endpointClient),
-                new VanityNameServers(endpointClient),
-                new Webhooks(endpointClient),
-                new Zones(endpointClient)
+                endpointRequestFactories,
+                endpointClients,
+                new Accounts(endpointClients.apply(Accounts.class)),
+                new Billing(endpointClients.apply(Billing.class)),
+                new Certificates(endpointClients.apply(Certificates.class)),
+                new Contacts(endpointClients.apply(Contacts.class)),
+                new Domains(endpointClients.apply(Domains.class)),
+                new Identity(endpointClients.apply(Identity.class)),
+                new Oauth(endpointClients.apply(Oauth.class)),
+                new Registrar(endpointClients.apply(Registrar.class)),
+                new Services(endpointClients.apply(Services.class)),
+                new Templates(endpointClients.apply(Templates.class)),
+                new Tlds(endpointClients.apply(Tlds.class)),
+                new VanityNameServers(endpointClients.apply(VanityNameServers.class)),
+                new Webhooks(endpointClients.apply(Webhooks.class)),
+                new Zones(endpointClients.apply(Zones.class))
         );
     }
 
@@ -86,6 +130,40 @@ public class Client {
         return this;
     }
 
+    /**
+     * Returns a Client object that uses the provided access token, and shares everything
+     * else with this one, including its HTTP request factory with its connections, and its
+     * response cache. Calling setAccessToken on either object doesn't affect the other, so
+     * objects obtained this way can serve requests for different access tokens concurrently
+     * from a single pool of connections.
+     *
+     * @param accessToken the access token to be used
+     * @return the new Client object
+     */
+    public Client withAccessToken(String accessToken) {
+        return of(endpointClient.withAccessToken(accessToken), endpointRequestFactories);
+    }
+
+    /**
+     * Gives access to the non-blocking variants of all the endpoints. The returned
+     * object shares the configuration and access token of this Client object.
+     *
+     * @return the AsyncClient object
+     */
+    public AsyncClient async() {
+        AsyncClient async = asyncClient;
+        if (async == null) {
+            synchronized (this) {
+                async = asyncClient;
+                if (async == null) {
+                    async = AsyncClient.of(endpointClients);
+                    asyncClient = async;
+                }
+            }
+        }
+        return async;
+    }
+
     private static URL url(String url) {
         try {
             return new URL(url);
@@ -104,9 +182,21 @@ public class Client {
      */
     public static class Builder {
         private URL apiBase = PRODUCTION_API_BASE;
-        private HttpRequestFactory httpRequestFactory = new Java11HttpRequestFactory();
+        private final Java11HttpRequestFactory.Builder java11HttpRequestFactory = new Java11HttpRequestFactory.Builder();
+        private Optional<HttpRequestFactory> httpRequestFactory = Optional.empty();
         private Optional<String> extraUserAgent = Optional.empty();
         private Optional<String> accessToken = Optional.empty();
+        private Optional<RateLimitScheduler> rateLimitScheduler = Optional.empty();
+        private Optional<RetryPolicy> retryPolicy = Optional.empty();
+        private Optional<AdaptiveConcurrencyLimiter> concurrencyLimiter = Optional.empty();
+        private Optional<ResponseCache> responseCache = Optional.empty();
+        private final GsonJsonCodec.Builder gsonJsonCodec = new GsonJsonCodec.Builder();
+        private Optional<JsonCodec> jsonCodec = Optional.empty();
+        private final Map<Class<?>, Duration> endpointRequestTimeouts = new HashMap<>();
+        private final Map<Class<?>, CircuitBreaker> endpointCircuitBreakers = new HashMap<>();
+        private final Map<Class<?>, Bulkhead> endpointBulkheads = new HashMap<>();
+        private final Map<Class<?>, RequestHedger> endpointRequestHedgers = new HashMap<>();
+        private boolean coalesceRequests = false;
 
         /**
          * Use DNSimple API's sandbox environment
@@ -147,7 +237,101 @@ public class Client {
          * @return this Builder object
          */
         public Builder httpRequestFactory(HttpRequestFactory factory) {
-            httpRequestFactory = factory;
+            httpRequestFactory = Optional.of(factory);
+            return this;
+        }
+
+        /**
+         * Use HTTP/2 to multiplex concurrent requests over a single connection to the API.
+         * Requests fall back to HTTP/1.1 when HTTP/2 can't be negotiated.
+         * <p>
+         * This option only applies to the default Java11 native HTTP client implementation
+         * of HttpRequestFactory and it's ignored when a custom factory is used.
+         *
+         * @return this Builder object
+         */
+        public Builder http2() {
+            java11HttpRequestFactory.http2();
+            return this;
+        }
+
+        /**
+         * Ask the API to compress responses with gzip or deflate, and decompress them
+         * transparently while they are read. This reduces the transferred size of large
+         * responses like zone files, pages of zone records or the list of TLDs.
+         * <p>
+         * This option only applies to the default Java11 native HTTP client implementation
+         * of HttpRequestFactory and it's ignored when a custom factory is used.
+         *
+         * @return this Builder object
+         */
+        public Builder compression() {
+            java11HttpRequestFactory.compression();
+            return this;
+        }
+
+        /**
+         * Use the provided executor to send asynchronous requests, instead of the default
+         * cached thread pool of the Java11 native HTTP client. On JDK 21 and later, blocking
+         * code can scale to thousands of concurrent requests by using an executor that starts
+         * a virtual thread per task, like Executors.newVirtualThreadPerTaskExecutor().
+         * <p>
+         * This option only applies to the default Java11 native HTTP client implementation
+         * of HttpRequestFactory and it's ignored when a custom factory is used.
+         *
+         * @param executor the executor to be used
+         * @return this Builder object
+         */
+        public Builder executor(Executor executor) {
+            java11HttpRequestFactory.executor(executor);
+            return this;
+        }
+
+        /**
+         * Fail requests that can't connect to the API within the provided timeout.
+         * <p>
+         * This option only applies to the default Java11 native HTTP client implementation
+         * of HttpRequestFactory and it's ignored when a custom factory is used.
+         *
+         * @param timeout the connect timeout to be used
+         * @return this Builder object
+         */
+        public Builder connectTimeout(Duration timeout) {
+            java11HttpRequestFactory.connectTimeout(timeout);
+            return this;
+        }
+
+        /**
+         * Fail requests whose response doesn't arrive within the provided timeout, instead of
+         * blocking the calling thread indefinitely when a connection stalls.
+         * <p>
+         * This option only applies to the default Java11 native HTTP client implementation
+         * of HttpRequestFactory and it's ignored when a custom factory is used.
+         *
+         * @param timeout the request timeout to be used
+         * @return this Builder object
+         */
+        public Builder requestTimeout(Duration timeout) {
+            java11HttpRequestFactory.requestTimeout(timeout);
+            return this;
+        }
+
+        /**
+         * Fail requests to the provided endpoints whose response doesn't arrive within the
+         * provided timeout, overriding the default request timeout for them. The endpoints
+         * are identified by their class, like Registrar.class, and the timeout applies to
+         * both their blocking and non-blocking variants.
+         * <p>
+         * This option only applies to the default Java11 native HTTP client implementation
+         * of HttpRequestFactory, and building a client fails with an IllegalStateException
+         * when it's combined with a custom factory.
+         *
+         * @param endpointClass the class of the endpoints
+         * @param timeout       the request timeout to be used
+         * @return this Builder object
+         */
+        public Builder requestTimeout(Class<?> endpointClass, Duration timeout) {
+            endpointRequestTimeouts.put(checkEndpointClass(endpointClass), timeout);
             return this;
         }
 
@@ -174,6 +358,182 @@ public class Client {
             return this;
         }
 
+        /**
+         * Pace requests with a rate limit scheduler that learns the available budget from
+         * the rate limit headers of the API responses. Share the same scheduler between
+         * Client objects that use the same access token to pace all their requests together.
+         *
+         * @param scheduler the rate limit scheduler to be used
+         * @return this Builder object
+         * @see RateLimitScheduler
+         */
+        public Builder rateLimitScheduler(RateLimitScheduler scheduler) {
+            rateLimitScheduler = Optional.of(scheduler);
+            return this;
+        }
+
+        /**
+         * Retry idempotent requests (GET, HEAD, PUT and DELETE) that fail with server
+         * errors, 429 Too Many Requests errors, or network errors such as connection resets.
+         *
+         * @param policy the retry policy to be used
+         * @return this Builder object
+         * @see RetryPolicy
+         */
+        public Builder retryPolicy(RetryPolicy policy) {
+            retryPolicy = Optional.of(policy);
+            return this;
+        }
+
+        /**
+         * Limit the number of requests in flight at the same time to the level the API can
+         * take without slowing down or failing, which the limiter finds out from the latency
+         * and errors of the responses. Requests over the limit wait until others finish.
+         * Share the same limiter between Client objects to limit all their requests together.
+         *
+         * @param limiter the adaptive concurrency limiter to be used
+         * @return this Builder object
+         * @see AdaptiveConcurrencyLimiter
+         */
+        public Builder adaptiveConcurrencyLimiter(AdaptiveConcurrencyLimiter limiter) {
+            concurrencyLimiter = Optional.of(limiter);
+            return this;
+        }
+
+        /**
+         * Stop sending requests to the provided endpoints while they keep failing, so that
+         * calls to them fail fast with a CircuitBreakerOpenException instead of tying up
+         * threads that other endpoints need. The endpoints are identified by their class,
+         * like Registrar.class. Pass the same breaker for several classes to count their
+         * failures together.
+         * <p>
+         * Combine it with a request timeout for the same endpoints to count slow responses
+         * as failures.
+         *
+         * @param endpointClass the class of the endpoints
+         * @param breaker       the circuit breaker to be used
+         * @return this Builder object
+         * @see CircuitBreaker
+         */
+        public Builder circuitBreaker(Class<?> endpointClass, CircuitBreaker breaker) {
+            endpointCircuitBreakers.put(checkEndpointClass(endpointClass), breaker);
+            return this;
+        }
+
+        /**
+         * Cap the number of requests to the provided endpoints that can be in flight at the
+         * same time, so that a slow backend can't exhaust the threads and connections shared
+         * with other endpoints. The endpoints are identified by their class, like
+         * Registrar.class. Pass the same bulkhead for several classes to cap their requests
+         * together.
+         *
+         * @param endpointClass the class of the endpoints
+         * @param bulkhead      the bulkhead to be used
+         * @return this Builder object
+         * @see Bulkhead
+         */
+        public Builder bulkhead(Class<?> endpointClass, Bulkhead bulkhead) {
+            endpointBulkheads.put(checkEndpointClass(endpointClass), bulkhead);
+            return this;
+        }
+
+        /**
+         * Send a second, hedge request when a GET request to the provided endpoints takes
+         * longer than the requests to them usually do, and take the first response of the
+         * two. This cuts the tail latency of interactive calls, like checking the
+         * availability of a domain, at the cost of a capped share of extra requests. The
+         * endpoints are identified by their class, like Registrar.class.
+         * <p>
+         * The hedge delay starts once a request is sent, after any wait for the rate limit
+         * pacing or the concurrency limit. Blocking GET requests to these endpoints are sent
+         * through the non-blocking path of the HTTP client, which reads the whole response
+         * before it is deserialized, instead of deserializing it as it streams in.
+         *
+         * @param endpointClass the class of the endpoints
+         * @param hedger        the request hedger to be used
+         * @return this Builder object
+         * @see RequestHedger
+         */
+        public Builder hedgeRequests(Class<?> endpointClass, RequestHedger hedger) {
+            endpointRequestHedgers.put(checkEndpointClass(endpointClass), hedger);
+            return this;
+        }
+
+        /**
+         * Keep the responses of GET requests in a cache and repeat them as conditional
+         * requests with the If-None-Match header. When the API responds with a 304 Not
+         * Modified status, the cached response is returned without downloading and
+         * parsing it again.
+         * <p>
+         * Cached responses are shared between calls and must be treated as read-only.
+         *
+         * @param cache the response cache to be used
+         * @return this Builder object
+         * @see ResponseCache
+         */
+        public Builder responseCache(ResponseCache cache) {
+            responseCache = Optional.of(cache);
+            return this;
+        }
+
+        /**
+         * Coalesce identical GET requests that are in flight at the same time, so that only
+         * one of them is sent to the API, and all of them get its response. This saves round
+         * trips and rate limit when many threads ask for the same zone, domain or TLD at
+         * nearly the same moment. Requests are identical when they have the same URL and
+         * access token, and the coalesced requests share the same response objects.
+         *
+         * @return this Builder object
+         */
+        public Builder coalesceRequests() {
+            coalesceRequests = true;
+            return this;
+        }
+
+        /**
+         * Defer parsing the timestamps of ZoneRecord, Domain and Certificate objects until
+         * their getters are called for the first time. This saves parsing timestamps that
+         * are never read when listing those objects in bulk.
+         * <p>
+         * This option only applies to the default GsonJsonCodec and it's ignored when a
+         * custom codec is used.
+         *
+         * @return this Builder object
+         */
+        public Builder lazyTimestamps() {
+            gsonJsonCodec.lazyTimestamps();
+            return this;
+        }
+
+        /**
+         * Share a single instance of the strings that repeat across ZoneRecord objects, like
+         * their zone, type, name and content, to reduce the memory retained by large listings
+         * of zone records. Records in the global region share a single, immutable list of regions.
+         * <p>
+         * This option only applies to the default GsonJsonCodec and it's ignored when a
+         * custom codec is used.
+         *
+         * @return this Builder object
+         */
+        public Builder deduplicateStrings() {
+            gsonJsonCodec.deduplicateStrings();
+            return this;
+        }
+
+        /**
+         * Use a custom JSON codec to read responses and, with the default Java11 native HTTP
+         * client implementation of HttpRequestFactory, to write request bodies and read error
+         * responses.
+         *
+         * @param codec the JSON codec to be used
+         * @return this Builder object
+         * @see JsonCodec
+         */
+        public Builder jsonCodec(JsonCodec codec) {
+            jsonCodec = Optional.of(codec);
+            return this;
+        }
+
         /**
          * Builds a Client object with the configured values and returns it.
          *
@@ -181,7 +541,61 @@ public class Client {
          */
         public Client build() {
             String userAgent = String.join(" ", buildUserAgents(extraUserAgent));
-            return Client.of(httpRequestFactory, apiBase, userAgent, accessToken);
+            JsonCodec codec = jsonCodec.orElseGet(gsonJsonCodec::build);
+            Map<Class<?>, HttpRequestFactory> endpointBaseFactories = new HashMap<>();
+            HttpRequestFactory baseFactory;
+            if (httpRequestFactory.isPresent()) {
+                if (!endpointRequestTimeouts.isEmpty())
+                    throw new IllegalStateException("Request timeouts for endpoint classes can't be used with a custom HttpRequestFactory");
+                baseFactory = httpRequestFactory.get();
+            } else {
+                Java11HttpRequestFactory java11Factory = java11HttpRequestFactory.jsonCodec(codec).build();
+                baseFactory = java11Factory;
+                endpointRequestTimeouts.forEach((endpointClass, timeout) -> endpointBaseFactories.put(endpointClass, java11Factory.withRequestTimeout(timeout)));
+            }
+            Map<Class<?>, HttpRequestFactory> endpointRequestFactories = new HashMap<>();
+            for (Class<?> endpointClass : ENDPOINT_CLASSES) {
+                Optional<CircuitBreaker> circuitBreaker = Optional.ofNullable(endpointCircuitBreakers.get(endpointClass));
+                Optional<Bulkhead> bulkhead = Optional.ofNullable(endpointBulkheads.get(endpointClass));
+                Optional<RequestHedger> hedger = Optional.ofNullable(endpointRequestHedgers.get(endpointClass));
+                if (endpointBaseFactories.containsKey(endpointClass) || circuitBreaker.isPresent() || bulkhead.isPresent() || hedger.isPresent())
+                    endpointRequestFactories.put(endpointClass, decorate(endpointBaseFactories.getOrDefault(endpointClass, baseFactory), hedger, circuitBreaker, bulkhead));
+            }
+            HttpRequestFactory requestFactory = decorate(baseFactory, Optional.empty(), Optional.empty(), Optional.empty());
+            return Client.of(requestFactory, endpointRequestFactories, apiBase, userAgent, accessToken, responseCache, codec, coalesceRequests);
+        }
+
+        private static Class<?> checkEndpointClass(Class<?> endpointClass) {
+            if (!ENDPOINT_CLASSES.contains(endpointClass))
+                throw new IllegalArgumentException(endpointClass.getName() + " is not a class of endpoints of the Client class");
+            return endpointClass;
+        }
+
+        /**
+         * The hedging sits below the concurrency limiter and the rate limit pacing, so that
+         * the hedge delay only starts once a request is actually sent, and a hedge isn't
+         * queued behind the request it backs up. Hedges share the permit and the pacing slot
+         * of their request, and the RequestHedger caps them to a fraction of the requests.
+         * The concurrency limiter sits inside the rate limit pacing, so that it only measures
+         * the latency of the API. The circuit breaker and the bulkhead see a hedged request
+         * as a single one. The circuit breaker sits inside the bulkhead, so that requests
+         * rejected by an open breaker give their room back immediately, and both sit inside
+         * the retries, so that every attempt is counted and rejected attempts aren't retried
+         */
+        private HttpRequestFactory decorate(HttpRequestFactory requestFactory, Optional<RequestHedger> hedger, Optional<CircuitBreaker> circuitBreaker, Optional<Bulkhead> bulkhead) {
+            if (hedger.isPresent())
+                requestFactory = new HedgingHttpRequestFactory(requestFactory, hedger.get());
+            if (concurrencyLimiter.isPresent())
+                requestFactory = new ConcurrencyLimitedHttpRequestFactory(requestFactory, concurrencyLimiter.get());
+            if (rateLimitScheduler.isPresent())
+                requestFactory = new RateLimitedHttpRequestFactory(requestFactory, rateLimitScheduler.get());
+            if (circuitBreaker.isPresent())
+                requestFactory = new CircuitBreakingHttpRequestFactory(requestFactory, circuitBreaker.get());
+            if (bulkhead.isPresent())
+                requestFactory = new BulkheadHttpRequestFactory(requestFactory, bulkhead.get());
+            if (retryPolicy.isPresent())
+                requestFactory = new RetryingHttpRequestFactory(requestFactory, retryPolicy.get());
+            return requestFactory;
         }
 
         private static List<String> buildUserAgents(Optional<String> userAgent) {
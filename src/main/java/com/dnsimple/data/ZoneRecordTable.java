@@ -0,0 +1,275 @@
+package com.dnsimple.data;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Compact, column-oriented collection of zone records, meant to hold millions of them in
+ * memory with a fraction of the heap that the equivalent ZoneRecord objects need.
+ * <p>
+ * Each field is kept in its own column: ids, TTLs, priorities and timestamps in primitive
+ * arrays, and the zone ids, types, names and regions as codes into dictionaries of their
+ * distinct values. Timestamps are packed as epoch seconds, so they are read back in UTC
+ * and without fractions of a second, which is how the API sends them.
+ * <p>
+ * The table can be filled while the records are parsed, for example with
+ * {@code zones.listAllZoneRecords(account, zone, options, table::add)}, and the records
+ * are read back as ZoneRecord views over the table, created on access.
+ * <p>
+ * ZoneRecordTable objects are not thread-safe.
+ */
+public class ZoneRecordTable implements Iterable<ZoneRecord> {
+    private static final long NO_LONG = Long.MIN_VALUE;
+    private static final int NO_INT = Integer.MIN_VALUE;
+    private static final byte NO_BOOLEAN = -1;
+    private final Dictionary<String> zoneIds = new Dictionary<>();
+    private final Dictionary<String> types = new Dictionary<>();
+    private final Dictionary<String> names = new Dictionary<>();
+    private final Dictionary<List<String>> regions = new Dictionary<>();
+    private int size;
+    private long[] ids;
+    private long[] parentIds;
+    private int[] zoneIdCodes;
+    private int[] typeCodes;
+    private int[] nameCodes;
+    private String[] contents;
+    private int[] ttls;
+    private int[] priorities;
+    private byte[] systemRecords;
+    private int[] regionCodes;
+    private long[] createdAts;
+    private long[] updatedAts;
+
+    public ZoneRecordTable() {
+        this(1024);
+    }
+
+    /**
+     * @param initialCapacity the number of records the table can hold before growing
+     */
+    public ZoneRecordTable(int initialCapacity) {
+        if (initialCapacity < 1)
+            throw new IllegalArgumentException("The initial capacity must be greater than 0");
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Copies the data of the record into the table
+     */
+    public void add(ZoneRecord record) {
+        if (size == ids.length)
+            allocate(size * 2);
+        ids[size] = fromLong(record.getId());
+        parentIds[size] = fromLong(record.getParentId());
+        zoneIdCodes[size] = zoneIds.encode(record.getZoneId());
+        typeCodes[size] = types.encode(record.getType());
+        nameCodes[size] = names.encode(record.getName());
+        contents[size] = record.getContent();
+        ttls[size] = fromInteger(record.getTtl());
+        priorities[size] = fromInteger(record.getPriority());
+        systemRecords[size] = fromBoolean(record.isSystemRecord());
+        regionCodes[size] = regions.encode(record.getRegions() == null ? null : Collections.unmodifiableList(new ArrayList<>(record.getRegions())));
+        createdAts[size] = fromTimestamp(record.getCreatedAt());
+        updatedAts[size] = fromTimestamp(record.getUpdatedAt());
+        size++;
+    }
+
+    /**
+     * @return a view of the record at the provided position, which reads its data from the table
+     */
+    public ZoneRecord get(int index) {
+        return new View(this, Objects.checkIndex(index, size));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Shrinks the columns of the table to the number of records it holds
+     */
+    public void trimToSize() {
+        if (size > 0 && size < ids.length)
+            allocate(size);
+    }
+
+    @Override
+    public Iterator<ZoneRecord> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public ZoneRecord next() {
+                if (next >= size)
+                    throw new NoSuchElementException();
+                return get(next++);
+            }
+        };
+    }
+
+    public Stream<ZoneRecord> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    @Override
+    public Spliterator<ZoneRecord> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL);
+    }
+
+    private void allocate(int capacity) {
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        parentIds = parentIds == null ? new long[capacity] : Arrays.copyOf(parentIds, capacity);
+        zoneIdCodes = zoneIdCodes == null ? new int[capacity] : Arrays.copyOf(zoneIdCodes, capacity);
+        typeCodes = typeCodes == null ? new int[capacity] : Arrays.copyOf(typeCodes, capacity);
+        nameCodes = nameCodes == null ? new int[capacity] : Arrays.copyOf(nameCodes, capacity);
+        contents = contents == null ? new String[capacity] : Arrays.copyOf(contents, capacity);
+        ttls = ttls == null ? new int[capacity] : Arrays.copyOf(ttls, capacity);
+        priorities = priorities == null ? new int[capacity] : Arrays.copyOf(priorities, capacity);
+        systemRecords = systemRecords == null ? new byte[capacity] : Arrays.copyOf(systemRecords, capacity);
+        regionCodes = regionCodes == null ? new int[capacity] : Arrays.copyOf(regionCodes, capacity);
+        createdAts = createdAts == null ? new long[capacity] : Arrays.copyOf(createdAts, capacity);
+        updatedAts = updatedAts == null ? new long[capacity] : Arrays.copyOf(updatedAts, capacity);
+    }
+
+    private static long fromLong(Long value) {
+        return value == null ? NO_LONG : value;
+    }
+
+    private static Long toLong(long value) {
+        return value == NO_LONG ? null : value;
+    }
+
+    private static int fromInteger(Integer value) {
+        return value == null ? NO_INT : value;
+    }
+
+    private static Integer toInteger(int value) {
+        return value == NO_INT ? null : value;
+    }
+
+    private static byte fromBoolean(Boolean value) {
+        return value == null ? NO_BOOLEAN : (byte) (value ? 1 : 0);
+    }
+
+    private static Boolean toBoolean(byte value) {
+        return value == NO_BOOLEAN ? null : value == 1;
+    }
+
+    private static long fromTimestamp(OffsetDateTime value) {
+        return value == null ? NO_LONG : value.toEpochSecond();
+    }
+
+    private static OffsetDateTime toTimestamp(long value) {
+        return value == NO_LONG ? null : OffsetDateTime.ofInstant(Instant.ofEpochSecond(value), UTC);
+    }
+
+    /**
+     * Assigns a code to each distinct value, so that columns can store the code of a value
+     * instead of a reference to a copy of it. Null values are coded as -1.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> codes = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        int encode(T value) {
+            if (value == null)
+                return -1;
+            return codes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+
+        T decode(int code) {
+            return code == -1 ? null : values.get(code);
+        }
+    }
+
+    /**
+     * ZoneRecord that reads its data from a row of the table on each getter call
+     */
+    private static class View extends ZoneRecord {
+        private final transient ZoneRecordTable table;
+        private final transient int index;
+
+        View(ZoneRecordTable table, int index) {
+            super(null, null, null, null, null, null, null, null, null, null, null, null);
+            this.table = table;
+            this.index = index;
+        }
+
+        @Override
+        public Long getId() {
+            return toLong(table.ids[index]);
+        }
+
+        @Override
+        public String getZoneId() {
+            return table.zoneIds.decode(table.zoneIdCodes[index]);
+        }
+
+        @Override
+        public Long getParentId() {
+            return toLong(table.parentIds[index]);
+        }
+
+        @Override
+        public String getType() {
+            return table.types.decode(table.typeCodes[index]);
+        }
+
+        @Override
+        public String getName() {
+            return table.names.decode(table.nameCodes[index]);
+        }
+
+        @Override
+        public String getContent() {
+            return table.contents[index];
+        }
+
+        @Override
+        public Integer getTtl() {
+            return toInteger(table.ttls[index]);
+        }
+
+        @Override
+        public Integer getPriority() {
+            return toInteger(table.priorities[index]);
+        }
+
+        @Override
+        public Boolean isSystemRecord() {
+            return toBoolean(table.systemRecords[index]);
+        }
+
+        @Override
+        public List<String> getRegions() {
+            return table.regions.decode(table.regionCodes[index]);
+        }
+
+        @Override
+        public OffsetDateTime getCreatedAt() {
+            return toTimestamp(table.createdAts[index]);
+        }
+
+        @Override
+        public OffsetDateTime getUpdatedAt() {
+            return toTimestamp(table.updatedAts[index]);
+        }
+    }
+}
@@ -2,11 +2,8 @@ package com.dnsimple.endpoints;
 
 import com.dnsimple.data.Account;
 import com.dnsimple.http.HttpEndpointClient;
-import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.ListResponse;
 
-import static com.dnsimple.http.HttpMethod.GET;
-
 /**
  * Provides access to the DNSimple Accounts API.
  *
@@ -26,6 +23,6 @@ public final class Accounts {
      * @see <a href="https://developer.dnsimple.com/v2/accounts#listAccounts">https://developer.dnsimple.com/v2/accounts#listAccounts</a>
      */
     public ListResponse<Account> listAccounts() {
-        return client.list(GET, "accounts", ListOptions.empty(), null, Account.class);
+        return client.list(EndpointRequests.Accounts.listAccounts());
     }
 }
@@ -5,8 +5,6 @@ import com.dnsimple.http.HttpEndpointClient;
 import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.ListResponse;
 
-import static com.dnsimple.http.HttpMethod.GET;
-
 public class Billing {
     private final HttpEndpointClient client;
 
@@ -20,6 +18,6 @@ public class Billing {
      * @see <a href="https://developer.dnsimple.com/v2/billing/#listCharges">https://developer.dnsimple.com/v2/billing/#listCharges</a>
      */
     public ListResponse<Charge> listCharges(Number account, ListOptions options) {
-        return client.list(GET, String.format("/%s/billing/charges", account), options, null, Charge.class);
+        return client.list(EndpointRequests.Billing.listCharges(account, options));
     }
 }
\ No newline at end of file
@@ -11,8 +11,8 @@ import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.PaginatedResponse;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.GET;
-import static com.dnsimple.http.HttpMethod.POST;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple Certificates API.
@@ -35,7 +35,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#listCertificates">https://developer.dnsimple.com/v2/certificates/#listCertificates</a>
      */
     public PaginatedResponse<Certificate> listCertificates(Number account, String domain) {
-        return client.page(GET, account + "/domains/" + domain + "/certificates", ListOptions.empty(), null, Certificate.class);
+        return client.page(EndpointRequests.Certificates.listCertificates(account, domain, ListOptions.empty()));
     }
 
     /**
@@ -48,7 +48,37 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#listCertificates">https://developer.dnsimple.com/v2/certificates/#listCertificates</a>
      */
     public PaginatedResponse<Certificate> listCertificates(Number account, String domain, ListOptions options) {
-        return client.page(GET, account + "/domains/" + domain + "/certificates", options, null, Certificate.class);
+        return client.page(EndpointRequests.Certificates.listCertificates(account, domain, options));
+    }
+
+    /**
+     * Streams all the certificates for a domain in the account, requesting pages of 100 items
+     * lazily and prefetching the next page in the background while the current one is
+     * consumed. The stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param domain  The domain name or ID
+     * @param options The options for the list request
+     * @return The stream of all the certificates for a domain in the account
+     * @see <a href="https://developer.dnsimple.com/v2/certificates/#listCertificates">https://developer.dnsimple.com/v2/certificates/#listCertificates</a>
+     */
+    public Stream<Certificate> streamAllCertificates(Number account, String domain, ListOptions options) {
+        return client.streamAll(EndpointRequests.Certificates.listCertificates(account, domain, options));
+    }
+
+    /**
+     * Iterates over all the certificates for a domain in the account, requesting pages of 100
+     * items lazily and prefetching the next page in the background while the current one is
+     * consumed.
+     *
+     * @param account The account ID
+     * @param domain  The domain name or ID
+     * @param options The options for the list request
+     * @return The iterator over all the certificates for a domain in the account
+     * @see <a href="https://developer.dnsimple.com/v2/certificates/#listCertificates">https://developer.dnsimple.com/v2/certificates/#listCertificates</a>
+     */
+    public Iterator<Certificate> iterateAllCertificates(Number account, String domain, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Certificates.listCertificates(account, domain, options));
     }
 
     /**
@@ -61,7 +91,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#getCertificate">https://developer.dnsimple.com/v2/certificates/#getCertificate</a>
      */
     public SimpleResponse<Certificate> getCertificate(Number account, String domain, Number certificateId) {
-        return client.simple(GET, account + "/domains/" + domain + "/certificates/" + certificateId, ListOptions.empty(), null, Certificate.class);
+        return client.simple(EndpointRequests.Certificates.getCertificate(account, domain, certificateId));
     }
 
     /**
@@ -74,7 +104,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#downloadCertificate">https://developer.dnsimple.com/v2/certificates/#downloadCertificate</a>
      */
     public SimpleResponse<CertificateBundle> downloadCertificate(Number account, String domain, Number certificateId) {
-        return client.simple(GET, account + "/domains/" + domain + "/certificates/" + certificateId + "/download", ListOptions.empty(), null, CertificateBundle.class);
+        return client.simple(EndpointRequests.Certificates.downloadCertificate(account, domain, certificateId));
     }
 
     /**
@@ -87,7 +117,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#getCertificatePrivateKey">https://developer.dnsimple.com/v2/certificates/#getCertificatePrivateKey</a>
      */
     public SimpleResponse<CertificateBundle> getCertificatePrivateKey(Number account, String domain, Number certificateId) {
-        return client.simple(GET, account + "/domains/" + domain + "/certificates/" + certificateId + "/private_key", ListOptions.empty(), null, CertificateBundle.class);
+        return client.simple(EndpointRequests.Certificates.getCertificatePrivateKey(account, domain, certificateId));
     }
 
     /**
@@ -103,7 +133,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#purchaseLetsencryptCertificate">https://developer.dnsimple.com/v2/certificates/#purchaseLetsencryptCertificate</a>
      */
     public SimpleResponse<CertificatePurchase> purchaseLetsencryptCertificate(Number account, String domain, CertificatePurchaseOptions options) {
-        return client.simple(POST, account + "/domains/" + domain + "/certificates/letsencrypt", ListOptions.empty(), options, CertificatePurchase.class);
+        return client.simple(EndpointRequests.Certificates.purchaseLetsencryptCertificate(account, domain, options));
     }
 
     /**
@@ -119,7 +149,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#issueLetsencryptCertificate">https://developer.dnsimple.com/v2/certificates/#issueLetsencryptCertificate</a>
      */
     public SimpleResponse<Certificate> issueLetsencryptCertificate(Number account, String domain, Number certificatePurchaseId) {
-        return client.simple(POST, account + "/domains/" + domain + "/certificates/letsencrypt/" + certificatePurchaseId + "/issue", ListOptions.empty(), null, Certificate.class);
+        return client.simple(EndpointRequests.Certificates.issueLetsencryptCertificate(account, domain, certificatePurchaseId));
     }
 
     /**
@@ -136,7 +166,7 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#purchaseRenewalLetsencryptCertificate">https://developer.dnsimple.com/v2/certificates/#purchaseRenewalLetsencryptCertificate</a>
      */
     public SimpleResponse<CertificateRenewal> purchaseLetsencryptCertificateRenewal(Number account, String domain, Number certificateId, CertificateRenewalPurchaseOptions options) {
-        return client.simple(POST, account + "/domains/" + domain + "/certificates/letsencrypt/" + certificateId + "/renewals", ListOptions.empty(), options, CertificateRenewal.class);
+        return client.simple(EndpointRequests.Certificates.purchaseLetsencryptCertificateRenewal(account, domain, certificateId, options));
     }
 
     /**
@@ -153,6 +183,6 @@ public class Certificates {
      * @see <a href="https://developer.dnsimple.com/v2/certificates/#issueRenewalLetsencryptCertificate">https://developer.dnsimple.com/v2/certificates/#issueRenewalLetsencryptCertificate</a>
      */
     public SimpleResponse<Certificate> issueLetsencryptCertificateRenewal(Number account, String domain, Number certificateId, Number certificateRenewalId) {
-        return client.simple(POST, account + "/domains/" + domain + "/certificates/letsencrypt/" + certificateId + "/renewals/" + certificateRenewalId + "/issue", ListOptions.empty(), null, Certificate.class);
+        return client.simple(EndpointRequests.Certificates.issueLetsencryptCertificateRenewal(account, domain, certificateId, certificateRenewalId));
     }
 }
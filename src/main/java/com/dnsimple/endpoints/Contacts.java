@@ -8,8 +8,8 @@ import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.PaginatedResponse;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.*;
-import static java.util.Collections.emptyMap;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple Contacts API.
@@ -31,7 +31,7 @@ public class Contacts {
      * @see <a href="https://developer.dnsimple.com/v2/contacts/#listContacts">https://developer.dnsimple.com/v2/contacts/#listContacts</a>
      */
     public PaginatedResponse<Contact> listContacts(Number account) {
-        return client.page(GET, account + "/contacts", ListOptions.empty(), null, Contact.class);
+        return client.page(EndpointRequests.Contacts.listContacts(account, ListOptions.empty()));
     }
 
     /**
@@ -43,7 +43,34 @@ public class Contacts {
      * @see <a href="https://developer.dnsimple.com/v2/contacts/#listContacts">https://developer.dnsimple.com/v2/contacts/#listContacts</a>
      */
     public PaginatedResponse<Contact> listContacts(Number account, ListOptions options) {
-        return client.page(GET, account + "/contacts", options, null, Contact.class);
+        return client.page(EndpointRequests.Contacts.listContacts(account, options));
+    }
+
+    /**
+     * Streams all the contacts in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The stream of all the contacts in the account
+     * @see <a href="https://developer.dnsimple.com/v2/contacts/#listContacts">https://developer.dnsimple.com/v2/contacts/#listContacts</a>
+     */
+    public Stream<Contact> streamAllContacts(Number account, ListOptions options) {
+        return client.streamAll(EndpointRequests.Contacts.listContacts(account, options));
+    }
+
+    /**
+     * Iterates over all the contacts in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The iterator over all the contacts in the account
+     * @see <a href="https://developer.dnsimple.com/v2/contacts/#listContacts">https://developer.dnsimple.com/v2/contacts/#listContacts</a>
+     */
+    public Iterator<Contact> iterateAllContacts(Number account, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Contacts.listContacts(account, options));
     }
 
     /**
@@ -55,7 +82,7 @@ public class Contacts {
      * @see <a href="https://developer.dnsimple.com/v2/contacts/#createContact">https://developer.dnsimple.com/v2/contacts/#createContact</a>
      */
     public SimpleResponse<Contact> createContact(Number account, ContactOptions options) {
-        return client.simple(POST, account + "/contacts", ListOptions.empty(), options, Contact.class);
+        return client.simple(EndpointRequests.Contacts.createContact(account, options));
     }
 
     /**
@@ -67,7 +94,7 @@ public class Contacts {
      * @see <a href="https://developer.dnsimple.com/v2/contacts/#getContact">https://developer.dnsimple.com/v2/contacts/#getContact</a>
      */
     public SimpleResponse<Contact> getContact(Number account, Number contactId) {
-        return client.simple(GET, account + "/contacts/" + contactId, ListOptions.empty(), emptyMap(), Contact.class);
+        return client.simple(EndpointRequests.Contacts.getContact(account, contactId));
     }
 
     /**
@@ -80,7 +107,7 @@ public class Contacts {
      * @see <a href="https://developer.dnsimple.com/v2/contacts/#updateContact">https://developer.dnsimple.com/v2/contacts/#updateContact</a>
      */
     public SimpleResponse<Contact> updateContact(Number account, Number contactId, ContactOptions options) {
-        return client.simple(PATCH, account + "/contacts/" + contactId, ListOptions.empty(), options, Contact.class);
+        return client.simple(EndpointRequests.Contacts.updateContact(account, contactId, options));
     }
 
     /**
@@ -92,6 +119,6 @@ public class Contacts {
      * @see <a href="https://developer.dnsimple.com/v2/contacts/#deleteContact">https://developer.dnsimple.com/v2/contacts/#deleteContact</a>
      */
     public EmptyResponse deleteContact(Number account, Number contactId) {
-        return client.empty(DELETE, account + "/contacts/" + contactId, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Contacts.deleteContact(account, contactId));
     }
 }
@@ -6,13 +6,13 @@ import com.dnsimple.request.DSRecordOptions;
 import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
 import com.dnsimple.response.SimpleResponse;
 
-import java.util.HashMap;
-import java.util.Map;
-
-import static com.dnsimple.http.HttpMethod.*;
-import static java.util.Collections.singletonMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple Domains API.
@@ -34,7 +34,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
      */
     public PaginatedResponse<Domain> listDomains(Number account) {
-        return client.page(GET, account + "/domains", ListOptions.empty(), null, Domain.class);
+        return client.page(EndpointRequests.Domains.listDomains(account, ListOptions.empty()));
     }
 
     /**
@@ -46,7 +46,93 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
      */
     public PaginatedResponse<Domain> listDomains(Number account, ListOptions options) {
-        return client.page(GET, account + "/domains", options, null, Domain.class);
+        return client.page(EndpointRequests.Domains.listDomains(account, options));
+    }
+
+    /**
+     * Lists the domains in the account, passing each domain to the consumer as soon as
+     * it's parsed instead of collecting them in a list. This allows processing large pages
+     * of domains with constant memory.
+     *
+     * @param account  The account ID
+     * @param options  The options for the list request
+     * @param consumer The consumer of the domains
+     * @return The pagination details of the list domains response
+     * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
+     */
+    public Pagination listDomains(Number account, ListOptions options, Consumer<? super Domain> consumer) {
+        return client.page(EndpointRequests.Domains.listDomains(account, options), consumer);
+    }
+
+    /**
+     * Streams all the domains in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The stream of all the domains in the account
+     * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
+     */
+    public Stream<Domain> streamAllDomains(Number account, ListOptions options) {
+        return client.streamAll(EndpointRequests.Domains.listDomains(account, options));
+    }
+
+    /**
+     * Iterates over all the domains in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The iterator over all the domains in the account
+     * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
+     */
+    public Iterator<Domain> iterateAllDomains(Number account, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Domains.listDomains(account, options));
+    }
+
+    /**
+     * Lists all the domains in the account, requesting pages of 100 items with up to the
+     * provided number of concurrent requests once the first page reveals the total number of
+     * pages.
+     *
+     * @param account     The account ID
+     * @param options     The options for the list request
+     * @param parallelism The maximum number of concurrent page requests
+     * @return All the domains in the account, in order
+     * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
+     */
+    public List<Domain> fetchAllDomains(Number account, ListOptions options, int parallelism) {
+        return client.fetchAll(EndpointRequests.Domains.listDomains(account, options), parallelism);
+    }
+
+    /**
+     * Lists all the domains in the account, requesting pages of 100 items with up to the
+     * provided number of concurrent requests once the first page reveals the total number of
+     * pages, and passes each page to the consumer as soon as it arrives. Pages may arrive out
+     * of order, and the consumer is called from different threads, but never concurrently.
+     *
+     * @param account      The account ID
+     * @param options      The options for the list request
+     * @param parallelism  The maximum number of concurrent page requests
+     * @param pageConsumer The consumer of the pages
+     * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
+     */
+    public void fetchAllDomains(Number account, ListOptions options, int parallelism, Consumer<? super List<Domain>> pageConsumer) {
+        client.fetchAll(EndpointRequests.Domains.listDomains(account, options), parallelism, pageConsumer);
+    }
+
+    /**
+     * Streams all the domains in the account with a parallel stream that requests different
+     * ranges of pages of 100 items concurrently from the threads processing the stream.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The parallel stream of all the domains in the account
+     * @see <a href="https://developer.dnsimple.com/v2/domains/#listDomains">https://developer.dnsimple.com/v2/domains/#listDomains</a>
+     */
+    public Stream<Domain> parallelStreamAllDomains(Number account, ListOptions options) {
+        return client.parallelStreamAll(EndpointRequests.Domains.listDomains(account, options));
     }
 
     /**
@@ -58,7 +144,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/#createDomain">https://developer.dnsimple.com/v2/domains/#createDomain</a>
      */
     public SimpleResponse<Domain> createDomain(Number account, String name) {
-        return client.simple(POST, account + "/domains", ListOptions.empty(), singletonMap("name", name), Domain.class);
+        return client.simple(EndpointRequests.Domains.createDomain(account, name));
     }
 
     /**
@@ -70,7 +156,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/#getDomain">https://developer.dnsimple.com/v2/domains/#getDomain</a>
      */
     public SimpleResponse<Domain> getDomain(Number account, String domain) {
-        return client.simple(GET, account + "/domains/" + domain, ListOptions.empty(), null, Domain.class);
+        return client.simple(EndpointRequests.Domains.getDomain(account, domain));
     }
 
     /**
@@ -84,7 +170,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/#deleteDomain">https://developer.dnsimple.com/v2/domains/#deleteDomain</a>
      */
     public EmptyResponse deleteDomain(Number account, String domain) {
-        return client.empty(DELETE, account + "/domains/" + domain, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Domains.deleteDomain(account, domain));
     }
 
     /**
@@ -96,7 +182,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/collaborators/#list">https://developer.dnsimple.com/v2/domains/collaborators/#list</a>
      */
     public PaginatedResponse<Collaborator> listCollaborators(Number account, String domain) {
-        return client.page(GET, account + "/domains/" + domain + "/collaborators", ListOptions.empty(), null, Collaborator.class);
+        return client.page(EndpointRequests.Domains.listCollaborators(account, domain, ListOptions.empty()));
     }
 
     /**
@@ -109,7 +195,36 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/collaborators/#listCollaborators">https://developer.dnsimple.com/v2/domains/collaborators/#listCollaborators</a>
      */
     public PaginatedResponse<Collaborator> listCollaborators(Number account, String domain, ListOptions options) {
-        return client.page(GET, account + "/domains/" + domain + "/collaborators", options, null, Collaborator.class);
+        return client.page(EndpointRequests.Domains.listCollaborators(account, domain, options));
+    }
+
+    /**
+     * Streams all the collaborators of the domain, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param domain  The domain ID or name
+     * @param options The options for the list request
+     * @return The stream of all the collaborators of the domain
+     * @see <a href="https://developer.dnsimple.com/v2/domains/collaborators/#listCollaborators">https://developer.dnsimple.com/v2/domains/collaborators/#listCollaborators</a>
+     */
+    public Stream<Collaborator> streamAllCollaborators(Number account, String domain, ListOptions options) {
+        return client.streamAll(EndpointRequests.Domains.listCollaborators(account, domain, options));
+    }
+
+    /**
+     * Iterates over all the collaborators of the domain, requesting pages of 100 items lazily
+     * and prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param domain  The domain ID or name
+     * @param options The options for the list request
+     * @return The iterator over all the collaborators of the domain
+     * @see <a href="https://developer.dnsimple.com/v2/domains/collaborators/#listCollaborators">https://developer.dnsimple.com/v2/domains/collaborators/#listCollaborators</a>
+     */
+    public Iterator<Collaborator> iterateAllCollaborators(Number account, String domain, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Domains.listCollaborators(account, domain, options));
     }
 
     /**
@@ -122,7 +237,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/collaborators/#addCollaborator">https://developer.dnsimple.com/v2/domains/collaborators/#addCollaborator</a>
      */
     public SimpleResponse<Collaborator> addCollaborator(Number account, String domain, String email) {
-        return client.simple(POST, account + "/domains/" + domain + "/collaborators", ListOptions.empty(), singletonMap("email", email), Collaborator.class);
+        return client.simple(EndpointRequests.Domains.addCollaborator(account, domain, email));
     }
 
     /**
@@ -135,7 +250,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/collaborators/#removeCollaborator">https://developer.dnsimple.com/v2/domains/collaborators/#removeCollaborator</a>
      */
     public EmptyResponse removeCollaborator(Number account, String domain, String collaboratorId) {
-        return client.empty(DELETE, account + "/domains/" + domain + "/collaborators/" + collaboratorId, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Domains.removeCollaborator(account, domain, collaboratorId));
     }
 
     /**
@@ -147,7 +262,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#enableDomainDnssec">https://developer.dnsimple.com/v2/domains/dnssec/#enableDomainDnssec</a>
      */
     public SimpleResponse<Dnssec> enableDnssec(Number account, String domain) {
-        return client.simple(POST, account + "/domains/" + domain + "/dnssec", ListOptions.empty(), null, Dnssec.class);
+        return client.simple(EndpointRequests.Domains.enableDnssec(account, domain));
     }
 
     /**
@@ -159,7 +274,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#disableDomainDnsec">https://developer.dnsimple.com/v2/domains/dnssec/#disableDomainDnsec</a>
      */
     public EmptyResponse disableDnssec(Number account, String domain) {
-        return client.empty(DELETE, account + "/domains/" + domain + "/dnssec", ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Domains.disableDnssec(account, domain));
     }
 
     /**
@@ -171,7 +286,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#getDomainDnssec">https://developer.dnsimple.com/v2/domains/dnssec/#getDomainDnssec</a>
      */
     public SimpleResponse<Dnssec> getDnssec(Number account, String domain) {
-        return client.simple(GET, account + "/domains/" + domain + "/dnssec", ListOptions.empty(), null, Dnssec.class);
+        return client.simple(EndpointRequests.Domains.getDnssec(account, domain));
     }
 
     /**
@@ -183,7 +298,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords">https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords</a>
      */
     public PaginatedResponse<DelegationSignerRecord> listDelegationSignerRecords(Number account, String domain) {
-        return client.page(GET, account + "/domains/" + domain + "/ds_records", ListOptions.empty(), null, DelegationSignerRecord.class);
+        return client.page(EndpointRequests.Domains.listDelegationSignerRecords(account, domain, ListOptions.empty()));
     }
 
     /**
@@ -196,7 +311,37 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords">https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords</a>
      */
     public PaginatedResponse<DelegationSignerRecord> listDelegationSignerRecords(Number account, String domain, ListOptions options) {
-        return client.page(GET, account + "/domains/" + domain + "/ds_records", options, null, DelegationSignerRecord.class);
+        return client.page(EndpointRequests.Domains.listDelegationSignerRecords(account, domain, options));
+    }
+
+    /**
+     * Streams all the delegation signer records in the domain, requesting pages of 100 items
+     * lazily and prefetching the next page in the background while the current one is
+     * consumed. The stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param domain  The domain ID or name or name
+     * @param options The options for the list request
+     * @return The stream of all the delegation signer records in the domain
+     * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords">https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords</a>
+     */
+    public Stream<DelegationSignerRecord> streamAllDelegationSignerRecords(Number account, String domain, ListOptions options) {
+        return client.streamAll(EndpointRequests.Domains.listDelegationSignerRecords(account, domain, options));
+    }
+
+    /**
+     * Iterates over all the delegation signer records in the domain, requesting pages of 100
+     * items lazily and prefetching the next page in the background while the current one is
+     * consumed.
+     *
+     * @param account The account ID
+     * @param domain  The domain ID or name or name
+     * @param options The options for the list request
+     * @return The iterator over all the delegation signer records in the domain
+     * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords">https://developer.dnsimple.com/v2/domains/dnssec/#listDomainDelegationSignerRecords</a>
+     */
+    public Iterator<DelegationSignerRecord> iterateAllDelegationSignerRecords(Number account, String domain, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Domains.listDelegationSignerRecords(account, domain, options));
     }
 
     /**
@@ -209,7 +354,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#createDomainDelegationSignerRecord">https://developer.dnsimple.com/v2/domains/dnssec/#createDomainDelegationSignerRecord</a>
      */
     public SimpleResponse<DelegationSignerRecord> createDelegationSignerRecord(Number account, String domain, DSRecordOptions options) {
-        return client.simple(POST, account + "/domains/" + domain + "/ds_records", ListOptions.empty(), options, DelegationSignerRecord.class);
+        return client.simple(EndpointRequests.Domains.createDelegationSignerRecord(account, domain, options));
     }
 
     /**
@@ -222,7 +367,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#getDomainDelegationSignerRecord">https://developer.dnsimple.com/v2/domains/dnssec/#getDomainDelegationSignerRecord</a>
      */
     public SimpleResponse<DelegationSignerRecord> getDelegationSignerRecord(Number account, String domain, Number dsRecordId) {
-        return client.simple(GET, account + "/domains/" + domain + "/ds_records/" + dsRecordId, ListOptions.empty(), null, DelegationSignerRecord.class);
+        return client.simple(EndpointRequests.Domains.getDelegationSignerRecord(account, domain, dsRecordId));
     }
 
     /**
@@ -237,7 +382,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/dnssec/#deleteDomainDelegationSignerRecord">https://developer.dnsimple.com/v2/domains/dnssec/#deleteDomainDelegationSignerRecord</a>
      */
     public EmptyResponse deleteDelegationSignerRecord(Number account, String domain, Number dsRecordId) {
-        return client.empty(DELETE, account + "/domains/" + domain + "/ds_records/" + dsRecordId, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Domains.deleteDelegationSignerRecord(account, domain, dsRecordId));
     }
 
     /**
@@ -249,7 +394,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards">https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards</a>
      */
     public PaginatedResponse<EmailForward> listEmailForwards(Number account, String domain) {
-        return client.page(GET, account + "/domains/" + domain + "/email_forwards", ListOptions.empty(), null, EmailForward.class);
+        return client.page(EndpointRequests.Domains.listEmailForwards(account, domain, ListOptions.empty()));
     }
 
     /**
@@ -262,7 +407,37 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards">https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards</a>
      */
     public PaginatedResponse<EmailForward> listEmailForwards(Number account, String domain, ListOptions options) {
-        return client.page(GET, account + "/domains/" + domain + "/email_forwards", options, null, EmailForward.class);
+        return client.page(EndpointRequests.Domains.listEmailForwards(account, domain, options));
+    }
+
+    /**
+     * Streams all the email forwards under a given domain, requesting pages of 100 items
+     * lazily and prefetching the next page in the background while the current one is
+     * consumed. The stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param domain  The domain ID or name or name
+     * @param options The options for the list request
+     * @return The stream of all the email forwards under a given domain
+     * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards">https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards</a>
+     */
+    public Stream<EmailForward> streamAllEmailForwards(Number account, String domain, ListOptions options) {
+        return client.streamAll(EndpointRequests.Domains.listEmailForwards(account, domain, options));
+    }
+
+    /**
+     * Iterates over all the email forwards under a given domain, requesting pages of 100 items
+     * lazily and prefetching the next page in the background while the current one is
+     * consumed.
+     *
+     * @param account The account ID
+     * @param domain  The domain ID or name or name
+     * @param options The options for the list request
+     * @return The iterator over all the email forwards under a given domain
+     * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards">https://developer.dnsimple.com/v2/domains/email-forwards/#listEmailForwards</a>
+     */
+    public Iterator<EmailForward> iterateAllEmailForwards(Number account, String domain, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Domains.listEmailForwards(account, domain, options));
     }
 
     /**
@@ -276,10 +451,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#createEmailForward">https://developer.dnsimple.com/v2/domains/email-forwards/#createEmailForward</a>
      */
     public SimpleResponse<EmailForward> createEmailForward(Number account, String domain, String aliasName, String destinationEmail) {
-        Map<String, String> options = new HashMap<>();
-        options.put("alias_name", aliasName);
-        options.put("destination_email", destinationEmail);
-        return client.simple(POST, account + "/domains/" + domain + "/email_forwards", ListOptions.empty(), options, EmailForward.class);
+        return client.simple(EndpointRequests.Domains.createEmailForward(account, domain, aliasName, destinationEmail));
     }
 
     /**
@@ -292,7 +464,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#getEmailForward">https://developer.dnsimple.com/v2/domains/email-forwards/#getEmailForward</a>
      */
     public SimpleResponse<EmailForward> getEmailForward(Number account, String domain, Number emailForward) {
-        return client.simple(GET, account + "/domains/" + domain + "/email_forwards/" + emailForward, ListOptions.empty(), null, EmailForward.class);
+        return client.simple(EndpointRequests.Domains.getEmailForward(account, domain, emailForward));
     }
 
     /**
@@ -307,7 +479,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/email-forwards/#deleteEmailForward">https://developer.dnsimple.com/v2/domains/email-forwards/#deleteEmailForward</a>
      */
     public EmptyResponse deleteEmailForward(Number account, String domain, Number emailForward) {
-        return client.empty(DELETE, account + "/domains/" + domain + "/email_forwards/" + emailForward, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Domains.deleteEmailForward(account, domain, emailForward));
     }
 
     /**
@@ -320,7 +492,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#initiateDomainPush">https://developer.dnsimple.com/v2/domains/pushes/#initiateDomainPush</a>
      */
     public SimpleResponse<DomainPush> initiatePush(Number account, String domain, String newAccountEmail) {
-        return client.simple(POST, account + "/domains/" + domain + "/pushes", ListOptions.empty(), singletonMap("new_account_email", newAccountEmail), DomainPush.class);
+        return client.simple(EndpointRequests.Domains.initiatePush(account, domain, newAccountEmail));
     }
 
     /**
@@ -331,7 +503,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#listPushes">https://developer.dnsimple.com/v2/domains/pushes/#listPushes</a>
      */
     public PaginatedResponse<DomainPush> listPushes(Number account) {
-        return client.page(GET, account + "/pushes", ListOptions.empty(), null, DomainPush.class);
+        return client.page(EndpointRequests.Domains.listPushes(account, ListOptions.empty()));
     }
 
     /**
@@ -343,7 +515,34 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#listPushes">https://developer.dnsimple.com/v2/domains/pushes/#listPushes</a>
      */
     public PaginatedResponse<DomainPush> listPushes(Number account, ListOptions options) {
-        return client.page(GET, account + "/pushes", options, null, DomainPush.class);
+        return client.page(EndpointRequests.Domains.listPushes(account, options));
+    }
+
+    /**
+     * Streams all the pushes in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The stream of all the pushes in the account
+     * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#listPushes">https://developer.dnsimple.com/v2/domains/pushes/#listPushes</a>
+     */
+    public Stream<DomainPush> streamAllPushes(Number account, ListOptions options) {
+        return client.streamAll(EndpointRequests.Domains.listPushes(account, options));
+    }
+
+    /**
+     * Iterates over all the pushes in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The iterator over all the pushes in the account
+     * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#listPushes">https://developer.dnsimple.com/v2/domains/pushes/#listPushes</a>
+     */
+    public Iterator<DomainPush> iterateAllPushes(Number account, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Domains.listPushes(account, options));
     }
 
     /**
@@ -356,7 +555,7 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#acceptPush">https://developer.dnsimple.com/v2/domains/pushes/#acceptPush</a>
      */
     public EmptyResponse acceptPush(Number account, Number push, Number contactId) {
-        return client.empty(POST, account + "/pushes/" + push, ListOptions.empty(), singletonMap("contact_id", contactId.longValue()));
+        return client.empty(EndpointRequests.Domains.acceptPush(account, push, contactId));
     }
 
     /**
@@ -368,6 +567,6 @@ public class Domains {
      * @see <a href="https://developer.dnsimple.com/v2/domains/pushes/#rejectPush">https://developer.dnsimple.com/v2/domains/pushes/#rejectPush</a>
      */
     public EmptyResponse rejectPush(Number account, Number push) {
-        return client.empty(DELETE, account + "/pushes/" + push, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Domains.rejectPush(account, push));
     }
 }
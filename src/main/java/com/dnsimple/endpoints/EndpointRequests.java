@@ -0,0 +1,668 @@
+package com.dnsimple.endpoints;
+
+import com.dnsimple.data.AccessToken;
+import com.dnsimple.data.Account;
+import com.dnsimple.data.Certificate;
+import com.dnsimple.data.CertificateBundle;
+import com.dnsimple.data.CertificatePurchase;
+import com.dnsimple.data.CertificateRenewal;
+import com.dnsimple.data.Charge;
+import com.dnsimple.data.Collaborator;
+import com.dnsimple.data.Contact;
+import com.dnsimple.data.DelegationSignerRecord;
+import com.dnsimple.data.Dnssec;
+import com.dnsimple.data.Domain;
+import com.dnsimple.data.DomainCheck;
+import com.dnsimple.data.DomainPremiumPriceCheck;
+import com.dnsimple.data.DomainPrice;
+import com.dnsimple.data.DomainPush;
+import com.dnsimple.data.DomainRegistration;
+import com.dnsimple.data.DomainRenewal;
+import com.dnsimple.data.DomainTransfer;
+import com.dnsimple.data.DomainTransferLock;
+import com.dnsimple.data.EmailForward;
+import com.dnsimple.data.RegistrantChange;
+import com.dnsimple.data.RegistrantChangeCheck;
+import com.dnsimple.data.Service;
+import com.dnsimple.data.Template;
+import com.dnsimple.data.TemplateRecord;
+import com.dnsimple.data.Tld;
+import com.dnsimple.data.TldExtendedAttribute;
+import com.dnsimple.data.VanityNameServer;
+import com.dnsimple.data.Webhook;
+import com.dnsimple.data.WhoamiData;
+import com.dnsimple.data.WhoisPrivacy;
+import com.dnsimple.data.WhoisPrivacyRenewal;
+import com.dnsimple.data.Zone;
+import com.dnsimple.data.ZoneDistribution;
+import com.dnsimple.data.ZoneFile;
+import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.http.EndpointRequest;
+import com.dnsimple.http.PathTemplate;
+import com.dnsimple.request.CertificatePurchaseOptions;
+import com.dnsimple.request.CertificateRenewalPurchaseOptions;
+import com.dnsimple.request.CheckRegistrantChangeInput;
+import com.dnsimple.request.ContactOptions;
+import com.dnsimple.request.CreateRegistrantChangeInput;
+import com.dnsimple.request.DSRecordOptions;
+import com.dnsimple.request.DomainCheckPremiumPriceAction;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.request.OauthAuthorizeOptions;
+import com.dnsimple.request.OauthExchangeOptions;
+import com.dnsimple.request.RegistrationOptions;
+import com.dnsimple.request.RenewOptions;
+import com.dnsimple.request.TemplateOptions;
+import com.dnsimple.request.TemplateRecordOptions;
+import com.dnsimple.request.TransferOptions;
+import com.dnsimple.request.ZoneRecordOptions;
+import com.dnsimple.request.ZoneRecordUpdateOptions;
+
+import java.net.URL;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.dnsimple.http.HttpMethod.*;
+import static java.net.URLEncoder.encode;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Requests of the DNSimple API endpoints, described once for both the blocking endpoint
+ * classes and the non-blocking ones in {@link com.dnsimple.endpoints.async}. Each nested
+ * class holds the requests of the endpoint class with the same name, and each of its
+ * methods is named after the first endpoint method that sends the request.
+ * <p>
+ * The values of the placeholders of the paths are percent-encoded when they are expanded.
+ */
+public final class EndpointRequests {
+    private static final PathTemplate ACCOUNTS = PathTemplate.compile("accounts");
+
+    private static final PathTemplate BILLING_CHARGES = PathTemplate.compile("{account}/billing/charges");
+
+    private static final PathTemplate DOMAIN_CERTIFICATES = PathTemplate.compile("{account}/domains/{domain}/certificates");
+    private static final PathTemplate DOMAIN_CERTIFICATE = PathTemplate.compile("{account}/domains/{domain}/certificates/{certificate}");
+    private static final PathTemplate DOMAIN_CERTIFICATE_DOWNLOAD = PathTemplate.compile("{account}/domains/{domain}/certificates/{certificate}/download");
+    private static final PathTemplate DOMAIN_CERTIFICATE_PRIVATE_KEY = PathTemplate.compile("{account}/domains/{domain}/certificates/{certificate}/private_key");
+    private static final PathTemplate DOMAIN_LETSENCRYPT_CERTIFICATES = PathTemplate.compile("{account}/domains/{domain}/certificates/letsencrypt");
+    private static final PathTemplate DOMAIN_LETSENCRYPT_CERTIFICATE_ISSUE = PathTemplate.compile("{account}/domains/{domain}/certificates/letsencrypt/{certificate}/issue");
+    private static final PathTemplate DOMAIN_LETSENCRYPT_CERTIFICATE_RENEWALS = PathTemplate.compile("{account}/domains/{domain}/certificates/letsencrypt/{certificate}/renewals");
+    private static final PathTemplate DOMAIN_LETSENCRYPT_CERTIFICATE_RENEWAL_ISSUE = PathTemplate.compile("{account}/domains/{domain}/certificates/letsencrypt/{certificate}/renewals/{renewal}/issue");
+
+    private static final PathTemplate CONTACTS = PathTemplate.compile("{account}/contacts");
+    private static final PathTemplate CONTACT = PathTemplate.compile("{account}/contacts/{contact}");
+
+    private static final PathTemplate DOMAINS = PathTemplate.compile("{account}/domains");
+    private static final PathTemplate DOMAIN = PathTemplate.compile("{account}/domains/{domain}");
+    private static final PathTemplate DOMAIN_COLLABORATORS = PathTemplate.compile("{account}/domains/{domain}/collaborators");
+    private static final PathTemplate DOMAIN_COLLABORATOR = PathTemplate.compile("{account}/domains/{domain}/collaborators/{collaborator}");
+    private static final PathTemplate DOMAIN_DNSSEC = PathTemplate.compile("{account}/domains/{domain}/dnssec");
+    private static final PathTemplate DOMAIN_DS_RECORDS = PathTemplate.compile("{account}/domains/{domain}/ds_records");
+    private static final PathTemplate DOMAIN_DS_RECORD = PathTemplate.compile("{account}/domains/{domain}/ds_records/{dsRecord}");
+    private static final PathTemplate DOMAIN_EMAIL_FORWARDS = PathTemplate.compile("{account}/domains/{domain}/email_forwards");
+    private static final PathTemplate DOMAIN_EMAIL_FORWARD = PathTemplate.compile("{account}/domains/{domain}/email_forwards/{emailForward}");
+    private static final PathTemplate DOMAIN_PUSHES = PathTemplate.compile("{account}/domains/{domain}/pushes");
+    private static final PathTemplate PUSHES = PathTemplate.compile("{account}/pushes");
+    private static final PathTemplate PUSH = PathTemplate.compile("{account}/pushes/{push}");
+
+    private static final PathTemplate WHOAMI = PathTemplate.compile("whoami");
+
+    private static final PathTemplate OAUTH_ACCESS_TOKEN = PathTemplate.compile("oauth/access_token");
+
+    private static final PathTemplate REGISTRAR_DOMAIN_CHECK = PathTemplate.compile("{account}/registrar/domains/{domain}/check");
+    private static final PathTemplate REGISTRAR_DOMAIN_PRICES = PathTemplate.compile("{account}/registrar/domains/{domain}/prices");
+    private static final PathTemplate REGISTRAR_DOMAIN_PREMIUM_PRICE = PathTemplate.compile("{account}/registrar/domains/{domain}/premium_price");
+    private static final PathTemplate REGISTRAR_DOMAIN_REGISTRATIONS = PathTemplate.compile("{account}/registrar/domains/{domain}/registrations");
+    private static final PathTemplate REGISTRAR_DOMAIN_REGISTRATION = PathTemplate.compile("{account}/registrar/domains/{domain}/registrations/{registration}");
+    private static final PathTemplate REGISTRAR_DOMAIN_TRANSFERS = PathTemplate.compile("{account}/registrar/domains/{domain}/transfers");
+    private static final PathTemplate REGISTRAR_DOMAIN_TRANSFER = PathTemplate.compile("{account}/registrar/domains/{domain}/transfers/{transfer}");
+    private static final PathTemplate REGISTRAR_DOMAIN_RENEWALS = PathTemplate.compile("{account}/registrar/domains/{domain}/renewals");
+    private static final PathTemplate REGISTRAR_DOMAIN_RENEWAL = PathTemplate.compile("{account}/registrar/domains/{domain}/renewals/{renewal}");
+    private static final PathTemplate REGISTRAR_DOMAIN_AUTHORIZE_TRANSFER_OUT = PathTemplate.compile("{account}/registrar/domains/{domain}/authorize_transfer_out");
+    private static final PathTemplate REGISTRAR_DOMAIN_AUTO_RENEWAL = PathTemplate.compile("{account}/registrar/domains/{domain}/auto_renewal");
+    private static final PathTemplate REGISTRAR_DOMAIN_WHOIS_PRIVACY = PathTemplate.compile("{account}/registrar/domains/{domain}/whois_privacy");
+    private static final PathTemplate REGISTRAR_DOMAIN_WHOIS_PRIVACY_RENEWALS = PathTemplate.compile("{account}/registrar/domains/{domain}/whois_privacy/renewals");
+    private static final PathTemplate REGISTRAR_DOMAIN_DELEGATION = PathTemplate.compile("{account}/registrar/domains/{domain}/delegation");
+    private static final PathTemplate REGISTRAR_DOMAIN_DELEGATION_VANITY = PathTemplate.compile("{account}/registrar/domains/{domain}/delegation/vanity");
+    private static final PathTemplate REGISTRAR_REGISTRANT_CHANGES = PathTemplate.compile("{account}/registrar/registrant_changes");
+    private static final PathTemplate REGISTRAR_REGISTRANT_CHANGES_CHECK = PathTemplate.compile("{account}/registrar/registrant_changes/check");
+    private static final PathTemplate REGISTRAR_REGISTRANT_CHANGE = PathTemplate.compile("{account}/registrar/registrant_changes/{registrantChange}");
+    private static final PathTemplate REGISTRAR_DOMAIN_TRANSFER_LOCK = PathTemplate.compile("{account}/registrar/domains/{domain}/transfer_lock");
+
+    private static final PathTemplate SERVICES = PathTemplate.compile("services");
+    private static final PathTemplate SERVICE = PathTemplate.compile("services/{service}");
+    private static final PathTemplate DOMAIN_SERVICES = PathTemplate.compile("{account}/domains/{domain}/services");
+    private static final PathTemplate DOMAIN_SERVICE = PathTemplate.compile("{account}/domains/{domain}/services/{service}");
+
+    private static final PathTemplate TEMPLATES = PathTemplate.compile("{account}/templates");
+    private static final PathTemplate TEMPLATE = PathTemplate.compile("{account}/templates/{template}");
+    private static final PathTemplate DOMAIN_TEMPLATE = PathTemplate.compile("{account}/domains/{domain}/templates/{template}");
+    private static final PathTemplate TEMPLATE_RECORDS = PathTemplate.compile("{account}/templates/{template}/records");
+    private static final PathTemplate TEMPLATE_RECORD = PathTemplate.compile("{account}/templates/{template}/records/{record}");
+
+    private static final PathTemplate TLDS = PathTemplate.compile("tlds");
+    private static final PathTemplate TLD = PathTemplate.compile("tlds/{tld}");
+    private static final PathTemplate TLD_EXTENDED_ATTRIBUTES = PathTemplate.compile("tlds/{tld}/extended_attributes");
+
+    private static final PathTemplate VANITY = PathTemplate.compile("{account}/vanity/{domain}");
+
+    private static final PathTemplate WEBHOOKS = PathTemplate.compile("{account}/webhooks");
+    private static final PathTemplate WEBHOOK = PathTemplate.compile("{account}/webhooks/{webhook}");
+
+    private static final PathTemplate ZONES = PathTemplate.compile("{account}/zones");
+    private static final PathTemplate ZONE = PathTemplate.compile("{account}/zones/{zone}");
+    private static final PathTemplate ZONE_ACTIVATION = PathTemplate.compile("{account}/zones/{zone}/activation");
+    private static final PathTemplate ZONE_FILE = PathTemplate.compile("{account}/zones/{zone}/file");
+    private static final PathTemplate ZONE_DISTRIBUTION = PathTemplate.compile("{account}/zones/{zone}/distribution");
+    private static final PathTemplate ZONE_RECORDS = PathTemplate.compile("{account}/zones/{zone}/records");
+    private static final PathTemplate ZONE_RECORD = PathTemplate.compile("{account}/zones/{zone}/records/{record}");
+    private static final PathTemplate ZONE_RECORD_DISTRIBUTION = PathTemplate.compile("{account}/zones/{zone}/records/{record}/distribution");
+
+    public static final class Accounts {
+        private Accounts() {
+        }
+
+        public static EndpointRequest<Account> listAccounts() {
+            return EndpointRequest.of(GET, ACCOUNTS.expand(), ListOptions.empty(), null, Account.class);
+        }
+    }
+
+    public static final class Billing {
+        private Billing() {
+        }
+
+        public static EndpointRequest<Charge> listCharges(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, BILLING_CHARGES.expand(account), options, null, Charge.class);
+        }
+    }
+
+    public static final class Certificates {
+        private Certificates() {
+        }
+
+        public static EndpointRequest<Certificate> listCertificates(Number account, String domain, ListOptions options) {
+            return EndpointRequest.of(GET, DOMAIN_CERTIFICATES.expand(account, domain), options, null, Certificate.class);
+        }
+
+        public static EndpointRequest<Certificate> getCertificate(Number account, String domain, Number certificateId) {
+            return EndpointRequest.of(GET, DOMAIN_CERTIFICATE.expand(account, domain, certificateId), ListOptions.empty(), null, Certificate.class);
+        }
+
+        public static EndpointRequest<CertificateBundle> downloadCertificate(Number account, String domain, Number certificateId) {
+            return EndpointRequest.of(GET, DOMAIN_CERTIFICATE_DOWNLOAD.expand(account, domain, certificateId), ListOptions.empty(), null, CertificateBundle.class);
+        }
+
+        public static EndpointRequest<CertificateBundle> getCertificatePrivateKey(Number account, String domain, Number certificateId) {
+            return EndpointRequest.of(GET, DOMAIN_CERTIFICATE_PRIVATE_KEY.expand(account, domain, certificateId), ListOptions.empty(), null, CertificateBundle.class);
+        }
+
+        public static EndpointRequest<CertificatePurchase> purchaseLetsencryptCertificate(Number account, String domain, CertificatePurchaseOptions options) {
+            return EndpointRequest.of(POST, DOMAIN_LETSENCRYPT_CERTIFICATES.expand(account, domain), ListOptions.empty(), options, CertificatePurchase.class);
+        }
+
+        public static EndpointRequest<Certificate> issueLetsencryptCertificate(Number account, String domain, Number certificatePurchaseId) {
+            return EndpointRequest.of(POST, DOMAIN_LETSENCRYPT_CERTIFICATE_ISSUE.expand(account, domain, certificatePurchaseId), ListOptions.empty(), null, Certificate.class);
+        }
+
+        public static EndpointRequest<CertificateRenewal> purchaseLetsencryptCertificateRenewal(Number account, String domain, Number certificateId, CertificateRenewalPurchaseOptions options) {
+            return EndpointRequest.of(POST, DOMAIN_LETSENCRYPT_CERTIFICATE_RENEWALS.expand(account, domain, certificateId), ListOptions.empty(), options, CertificateRenewal.class);
+        }
+
+        public static EndpointRequest<Certificate> issueLetsencryptCertificateRenewal(Number account, String domain, Number certificateId, Number certificateRenewalId) {
+            return EndpointRequest.of(POST, DOMAIN_LETSENCRYPT_CERTIFICATE_RENEWAL_ISSUE.expand(account, domain, certificateId, certificateRenewalId), ListOptions.empty(), null, Certificate.class);
+        }
+    }
+
+    public static final class Contacts {
+        private Contacts() {
+        }
+
+        public static EndpointRequest<Contact> listContacts(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, CONTACTS.expand(account), options, null, Contact.class);
+        }
+
+        public static EndpointRequest<Contact> createContact(Number account, ContactOptions options) {
+            return EndpointRequest.of(POST, CONTACTS.expand(account), ListOptions.empty(), options, Contact.class);
+        }
+
+        public static EndpointRequest<Contact> getContact(Number account, Number contactId) {
+            return EndpointRequest.of(GET, CONTACT.expand(account, contactId), ListOptions.empty(), emptyMap(), Contact.class);
+        }
+
+        public static EndpointRequest<Contact> updateContact(Number account, Number contactId, ContactOptions options) {
+            return EndpointRequest.of(PATCH, CONTACT.expand(account, contactId), ListOptions.empty(), options, Contact.class);
+        }
+
+        public static EndpointRequest<Void> deleteContact(Number account, Number contactId) {
+            return EndpointRequest.of(DELETE, CONTACT.expand(account, contactId), ListOptions.empty(), null);
+        }
+    }
+
+    public static final class Domains {
+        private Domains() {
+        }
+
+        public static EndpointRequest<Domain> listDomains(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, DOMAINS.expand(account), options, null, Domain.class);
+        }
+
+        public static EndpointRequest<Domain> createDomain(Number account, String name) {
+            return EndpointRequest.of(POST, DOMAINS.expand(account), ListOptions.empty(), singletonMap("name", name), Domain.class);
+        }
+
+        public static EndpointRequest<Domain> getDomain(Number account, String domain) {
+            return EndpointRequest.of(GET, DOMAIN.expand(account, domain), ListOptions.empty(), null, Domain.class);
+        }
+
+        public static EndpointRequest<Void> deleteDomain(Number account, String domain) {
+            return EndpointRequest.of(DELETE, DOMAIN.expand(account, domain), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<Collaborator> listCollaborators(Number account, String domain, ListOptions options) {
+            return EndpointRequest.of(GET, DOMAIN_COLLABORATORS.expand(account, domain), options, null, Collaborator.class);
+        }
+
+        public static EndpointRequest<Collaborator> addCollaborator(Number account, String domain, String email) {
+            return EndpointRequest.of(POST, DOMAIN_COLLABORATORS.expand(account, domain), ListOptions.empty(), singletonMap("email", email), Collaborator.class);
+        }
+
+        public static EndpointRequest<Void> removeCollaborator(Number account, String domain, String collaboratorId) {
+            return EndpointRequest.of(DELETE, DOMAIN_COLLABORATOR.expand(account, domain, collaboratorId), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<Dnssec> enableDnssec(Number account, String domain) {
+            return EndpointRequest.of(POST, DOMAIN_DNSSEC.expand(account, domain), ListOptions.empty(), null, Dnssec.class);
+        }
+
+        public static EndpointRequest<Void> disableDnssec(Number account, String domain) {
+            return EndpointRequest.of(DELETE, DOMAIN_DNSSEC.expand(account, domain), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<Dnssec> getDnssec(Number account, String domain) {
+            return EndpointRequest.of(GET, DOMAIN_DNSSEC.expand(account, domain), ListOptions.empty(), null, Dnssec.class);
+        }
+
+        public static EndpointRequest<DelegationSignerRecord> listDelegationSignerRecords(Number account, String domain, ListOptions options) {
+            return EndpointRequest.of(GET, DOMAIN_DS_RECORDS.expand(account, domain), options, null, DelegationSignerRecord.class);
+        }
+
+        public static EndpointRequest<DelegationSignerRecord> createDelegationSignerRecord(Number account, String domain, DSRecordOptions options) {
+            return EndpointRequest.of(POST, DOMAIN_DS_RECORDS.expand(account, domain), ListOptions.empty(), options, DelegationSignerRecord.class);
+        }
+
+        public static EndpointRequest<DelegationSignerRecord> getDelegationSignerRecord(Number account, String domain, Number dsRecordId) {
+            return EndpointRequest.of(GET, DOMAIN_DS_RECORD.expand(account, domain, dsRecordId), ListOptions.empty(), null, DelegationSignerRecord.class);
+        }
+
+        public static EndpointRequest<Void> deleteDelegationSignerRecord(Number account, String domain, Number dsRecordId) {
+            return EndpointRequest.of(DELETE, DOMAIN_DS_RECORD.expand(account, domain, dsRecordId), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<EmailForward> listEmailForwards(Number account, String domain, ListOptions options) {
+            return EndpointRequest.of(GET, DOMAIN_EMAIL_FORWARDS.expand(account, domain), options, null, EmailForward.class);
+        }
+
+        public static EndpointRequest<EmailForward> createEmailForward(Number account, String domain, String aliasName, String destinationEmail) {
+            Map<String, String> options = new HashMap<>();
+            options.put("alias_name", aliasName);
+            options.put("destination_email", destinationEmail);
+            return EndpointRequest.of(POST, DOMAIN_EMAIL_FORWARDS.expand(account, domain), ListOptions.empty(), options, EmailForward.class);
+        }
+
+        public static EndpointRequest<EmailForward> getEmailForward(Number account, String domain, Number emailForward) {
+            return EndpointRequest.of(GET, DOMAIN_EMAIL_FORWARD.expand(account, domain, emailForward), ListOptions.empty(), null, EmailForward.class);
+        }
+
+        public static EndpointRequest<Void> deleteEmailForward(Number account, String domain, Number emailForward) {
+            return EndpointRequest.of(DELETE, DOMAIN_EMAIL_FORWARD.expand(account, domain, emailForward), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<DomainPush> initiatePush(Number account, String domain, String newAccountEmail) {
+            return EndpointRequest.of(POST, DOMAIN_PUSHES.expand(account, domain), ListOptions.empty(), singletonMap("new_account_email", newAccountEmail), DomainPush.class);
+        }
+
+        public static EndpointRequest<DomainPush> listPushes(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, PUSHES.expand(account), options, null, DomainPush.class);
+        }
+
+        public static EndpointRequest<Void> acceptPush(Number account, Number push, Number contactId) {
+            return EndpointRequest.of(POST, PUSH.expand(account, push), ListOptions.empty(), singletonMap("contact_id", contactId.longValue()));
+        }
+
+        public static EndpointRequest<Void> rejectPush(Number account, Number push) {
+            return EndpointRequest.of(DELETE, PUSH.expand(account, push), ListOptions.empty(), null);
+        }
+    }
+
+    public static final class Identity {
+        private Identity() {
+        }
+
+        public static EndpointRequest<WhoamiData> whoami() {
+            return EndpointRequest.of(GET, WHOAMI.expand(), ListOptions.empty(), null, WhoamiData.class);
+        }
+    }
+
+    public static final class Oauth {
+        private Oauth() {
+        }
+
+        /**
+         * @return the URL that authorizes a user for an application via the OAuth2 flow
+         */
+        public static String authorizeUrl(URL apiBase, OauthAuthorizeOptions options) {
+            String baseUrl = apiBase.toString().replaceFirst("api\\.", "") + "/oauth/authorize";
+            Map<String, String> optionsAsMap = options.asMap();
+            optionsAsMap.put("response_type", "code");
+            String queryStringParams = optionsAsMap.entrySet().stream().map(e -> e.getKey() + "=" + encode(e.getValue(), UTF_8)).collect(joining("&"));
+            return baseUrl + "?" + queryStringParams;
+        }
+
+        public static EndpointRequest<AccessToken> exchangeAuthorizationForToken(OauthExchangeOptions options) {
+            Map<String, String> optionsAsMap = options.asMap();
+            optionsAsMap.put("grant_type", "authorization_code");
+            return EndpointRequest.of(POST, OAUTH_ACCESS_TOKEN.expand(), ListOptions.empty(), optionsAsMap, AccessToken.class);
+        }
+    }
+
+    public static final class Registrar {
+        private Registrar() {
+        }
+
+        public static EndpointRequest<DomainCheck> checkDomain(Number account, String domainName) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_CHECK.expand(account, domainName), ListOptions.empty(), null, DomainCheck.class);
+        }
+
+        public static EndpointRequest<DomainPremiumPriceCheck> getDomainPremiumPrice(Number account, String domainName, DomainCheckPremiumPriceAction action) {
+            var options = ListOptions.empty().filter("action", action.name().toLowerCase());
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_PREMIUM_PRICE.expand(account, domainName), options, action, DomainPremiumPriceCheck.class);
+        }
+
+        public static EndpointRequest<DomainPrice> getDomainPrices(Number account, String domainName) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_PRICES.expand(account, domainName), ListOptions.empty(), null, DomainPrice.class);
+        }
+
+        public static EndpointRequest<DomainRegistration> getDomainRegistration(Number account, String domainName, Number domainRegistration) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_REGISTRATION.expand(account, domainName, domainRegistration), ListOptions.empty(), null, DomainRegistration.class);
+        }
+
+        public static EndpointRequest<DomainRenewal> getDomainRenewal(Number account, String domainName, Number domainRenewal) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_RENEWAL.expand(account, domainName, domainRenewal), ListOptions.empty(), null, DomainRenewal.class);
+        }
+
+        public static EndpointRequest<DomainRegistration> registerDomain(Number account, String domainName, RegistrationOptions options) {
+            return EndpointRequest.of(POST, REGISTRAR_DOMAIN_REGISTRATIONS.expand(account, domainName), ListOptions.empty(), options, DomainRegistration.class);
+        }
+
+        public static EndpointRequest<DomainTransfer> transferDomain(Number account, String domain, TransferOptions options) {
+            return EndpointRequest.of(POST, REGISTRAR_DOMAIN_TRANSFERS.expand(account, domain), ListOptions.empty(), options, DomainTransfer.class);
+        }
+
+        public static EndpointRequest<DomainTransfer> getDomainTransfer(Number account, String domain, Number domainTransferId) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_TRANSFER.expand(account, domain, domainTransferId), ListOptions.empty(), null, DomainTransfer.class);
+        }
+
+        public static EndpointRequest<DomainTransfer> cancelDomainTransfer(Number account, String domain, Number domainTransferId) {
+            return EndpointRequest.of(DELETE, REGISTRAR_DOMAIN_TRANSFER.expand(account, domain, domainTransferId), ListOptions.empty(), null, DomainTransfer.class);
+        }
+
+        public static EndpointRequest<DomainRenewal> renewDomain(Number account, String domain, RenewOptions options) {
+            return EndpointRequest.of(POST, REGISTRAR_DOMAIN_RENEWALS.expand(account, domain), ListOptions.empty(), options, DomainRenewal.class);
+        }
+
+        public static EndpointRequest<Void> authorizeTransferOut(Number account, String domain) {
+            return EndpointRequest.of(POST, REGISTRAR_DOMAIN_AUTHORIZE_TRANSFER_OUT.expand(account, domain), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<Void> enableAutoRenewal(Number account, String domain) {
+            return EndpointRequest.of(PUT, REGISTRAR_DOMAIN_AUTO_RENEWAL.expand(account, domain), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<Void> disableAutoRenewal(Number account, String domain) {
+            return EndpointRequest.of(DELETE, REGISTRAR_DOMAIN_AUTO_RENEWAL.expand(account, domain), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<WhoisPrivacy> getWhoisPrivacy(Number account, String domain) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_WHOIS_PRIVACY.expand(account, domain), ListOptions.empty(), null, WhoisPrivacy.class);
+        }
+
+        public static EndpointRequest<WhoisPrivacy> enableWhoisPrivacy(Number account, String domain) {
+            return EndpointRequest.of(PUT, REGISTRAR_DOMAIN_WHOIS_PRIVACY.expand(account, domain), ListOptions.empty(), null, WhoisPrivacy.class);
+        }
+
+        public static EndpointRequest<WhoisPrivacy> disableWhoisPrivacy(Number account, String domain) {
+            return EndpointRequest.of(DELETE, REGISTRAR_DOMAIN_WHOIS_PRIVACY.expand(account, domain), ListOptions.empty(), null, WhoisPrivacy.class);
+        }
+
+        public static EndpointRequest<WhoisPrivacyRenewal> renewWhoisPrivacy(Number account, String domain) {
+            return EndpointRequest.of(POST, REGISTRAR_DOMAIN_WHOIS_PRIVACY_RENEWALS.expand(account, domain), ListOptions.empty(), null, WhoisPrivacyRenewal.class);
+        }
+
+        public static EndpointRequest<String> getDomainDelegation(Number account, String domain) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_DELEGATION.expand(account, domain), ListOptions.empty(), null, String.class);
+        }
+
+        public static EndpointRequest<String> changeDomainDelegation(Number account, String domain, List<String> nameServerNames) {
+            return EndpointRequest.of(PUT, REGISTRAR_DOMAIN_DELEGATION.expand(account, domain), ListOptions.empty(), nameServerNames, String.class);
+        }
+
+        public static EndpointRequest<VanityNameServer> changeDomainDelegationToVanity(Number account, String domain, List<String> nameServerNames) {
+            return EndpointRequest.of(PUT, REGISTRAR_DOMAIN_DELEGATION_VANITY.expand(account, domain), ListOptions.empty(), nameServerNames, VanityNameServer.class);
+        }
+
+        public static EndpointRequest<Void> changeDomainDelegationFromVanity(Number account, String domain) {
+            return EndpointRequest.of(DELETE, REGISTRAR_DOMAIN_DELEGATION_VANITY.expand(account, domain), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<RegistrantChange> listRegistrantChanges(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, REGISTRAR_REGISTRANT_CHANGES.expand(account), options, null, RegistrantChange.class);
+        }
+
+        public static EndpointRequest<RegistrantChange> createRegistrantChange(Number account, CreateRegistrantChangeInput input) {
+            return EndpointRequest.of(POST, REGISTRAR_REGISTRANT_CHANGES.expand(account), ListOptions.empty(), input, RegistrantChange.class);
+        }
+
+        public static EndpointRequest<RegistrantChangeCheck> checkRegistrantChange(Number account, CheckRegistrantChangeInput input) {
+            return EndpointRequest.of(POST, REGISTRAR_REGISTRANT_CHANGES_CHECK.expand(account), ListOptions.empty(), input, RegistrantChangeCheck.class);
+        }
+
+        public static EndpointRequest<RegistrantChange> getRegistrantChange(Number account, Number registrantChange) {
+            return EndpointRequest.of(GET, REGISTRAR_REGISTRANT_CHANGE.expand(account, registrantChange), ListOptions.empty(), null, RegistrantChange.class);
+        }
+
+        public static EndpointRequest<Void> deleteRegistrantChange(Number account, Number registrantChange) {
+            return EndpointRequest.of(DELETE, REGISTRAR_REGISTRANT_CHANGE.expand(account, registrantChange), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<DomainTransferLock> getDomainTransferLock(Number account, String domain) {
+            return EndpointRequest.of(GET, REGISTRAR_DOMAIN_TRANSFER_LOCK.expand(account, domain), ListOptions.empty(), null, DomainTransferLock.class);
+        }
+
+        public static EndpointRequest<DomainTransferLock> enableDomainTransferLock(Number account, String domain) {
+            return EndpointRequest.of(POST, REGISTRAR_DOMAIN_TRANSFER_LOCK.expand(account, domain), ListOptions.empty(), null, DomainTransferLock.class);
+        }
+
+        public static EndpointRequest<DomainTransferLock> disableDomainTransferLock(Number account, String domain) {
+            return EndpointRequest.of(DELETE, REGISTRAR_DOMAIN_TRANSFER_LOCK.expand(account, domain), ListOptions.empty(), null, DomainTransferLock.class);
+        }
+    }
+
+    public static final class Services {
+        private Services() {
+        }
+
+        public static EndpointRequest<Service> listServices(ListOptions options) {
+            return EndpointRequest.of(GET, SERVICES.expand(), options, null, Service.class);
+        }
+
+        public static EndpointRequest<Service> getService(String service) {
+            return EndpointRequest.of(GET, SERVICE.expand(service), ListOptions.empty(), null, Service.class);
+        }
+
+        public static EndpointRequest<Service> appliedServices(Number account, String domain, ListOptions options) {
+            return EndpointRequest.of(GET, DOMAIN_SERVICES.expand(account, domain), options, null, Service.class);
+        }
+
+        public static EndpointRequest<Service> applyService(Number account, String domain, String service, Map<String, Object> settings) {
+            return EndpointRequest.of(POST, DOMAIN_SERVICE.expand(account, domain, service), ListOptions.empty(), singletonMap("settings", settings), Service.class);
+        }
+
+        public static EndpointRequest<Service> unapplyService(Number account, String domain, String service) {
+            return EndpointRequest.of(DELETE, DOMAIN_SERVICE.expand(account, domain, service), ListOptions.empty(), null, Service.class);
+        }
+    }
+
+    public static final class Templates {
+        private Templates() {
+        }
+
+        public static EndpointRequest<Template> listTemplates(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, TEMPLATES.expand(account), options, null, Template.class);
+        }
+
+        public static EndpointRequest<Template> createTemplate(Number account, TemplateOptions options) {
+            return EndpointRequest.of(POST, TEMPLATES.expand(account), ListOptions.empty(), options, Template.class);
+        }
+
+        public static EndpointRequest<Template> getTemplate(Number account, String template) {
+            return EndpointRequest.of(GET, TEMPLATE.expand(account, template), ListOptions.empty(), null, Template.class);
+        }
+
+        public static EndpointRequest<Template> updateTemplate(Number account, String template, TemplateOptions options) {
+            return EndpointRequest.of(PATCH, TEMPLATE.expand(account, template), ListOptions.empty(), options, Template.class);
+        }
+
+        public static EndpointRequest<Void> deleteTemplate(Number account, String template) {
+            return EndpointRequest.of(DELETE, TEMPLATE.expand(account, template), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<Void> applyTemplate(Number account, String template, String domain) {
+            return EndpointRequest.of(POST, DOMAIN_TEMPLATE.expand(account, domain, template), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<TemplateRecord> listTemplateRecords(Number account, String template, ListOptions options) {
+            return EndpointRequest.of(GET, TEMPLATE_RECORDS.expand(account, template), options, null, TemplateRecord.class);
+        }
+
+        public static EndpointRequest<TemplateRecord> createTemplateRecord(Number account, String template, TemplateRecordOptions options) {
+            return EndpointRequest.of(POST, TEMPLATE_RECORDS.expand(account, template), ListOptions.empty(), options, TemplateRecord.class);
+        }
+
+        public static EndpointRequest<TemplateRecord> getTemplateRecord(Number account, String template, Number record) {
+            return EndpointRequest.of(GET, TEMPLATE_RECORD.expand(account, template, record), ListOptions.empty(), null, TemplateRecord.class);
+        }
+
+        public static EndpointRequest<Void> deleteTemplateRecord(Number account, String template, Number record) {
+            return EndpointRequest.of(DELETE, TEMPLATE_RECORD.expand(account, template, record), ListOptions.empty(), null);
+        }
+    }
+
+    public static final class Tlds {
+        private Tlds() {
+        }
+
+        public static EndpointRequest<Tld> listTlds(ListOptions options) {
+            return EndpointRequest.of(GET, TLDS.expand(), options, null, Tld.class);
+        }
+
+        public static EndpointRequest<Tld> getTld(String tld) {
+            return EndpointRequest.of(GET, TLD.expand(tld), ListOptions.empty(), null, Tld.class);
+        }
+
+        public static EndpointRequest<TldExtendedAttribute> getTldExtendedAttributes(String tld) {
+            return EndpointRequest.of(GET, TLD_EXTENDED_ATTRIBUTES.expand(tld), ListOptions.empty(), null, TldExtendedAttribute.class);
+        }
+    }
+
+    public static final class VanityNameServers {
+        private VanityNameServers() {
+        }
+
+        public static EndpointRequest<VanityNameServer> enableVanityNameServers(Number account, String domain) {
+            return EndpointRequest.of(PUT, VANITY.expand(account, domain), ListOptions.empty(), null, VanityNameServer.class);
+        }
+
+        public static EndpointRequest<Void> disableVanityNameServers(Number account, String domain) {
+            return EndpointRequest.of(DELETE, VANITY.expand(account, domain), ListOptions.empty(), null);
+        }
+    }
+
+    public static final class Webhooks {
+        private Webhooks() {
+        }
+
+        public static EndpointRequest<Webhook> listWebhooks(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, WEBHOOKS.expand(account), options, null, Webhook.class);
+        }
+
+        public static EndpointRequest<Webhook> createWebhook(Number account, String url) {
+            return EndpointRequest.of(POST, WEBHOOKS.expand(account), ListOptions.empty(), singletonMap("url", url), Webhook.class);
+        }
+
+        public static EndpointRequest<Webhook> getWebhook(Number account, Number webhookId) {
+            return EndpointRequest.of(GET, WEBHOOK.expand(account, webhookId), ListOptions.empty(), null, Webhook.class);
+        }
+
+        public static EndpointRequest<Void> deleteWebhook(Number account, Number webhookId) {
+            return EndpointRequest.of(DELETE, WEBHOOK.expand(account, webhookId), ListOptions.empty(), null);
+        }
+    }
+
+    public static final class Zones {
+        private Zones() {
+        }
+
+        public static EndpointRequest<Zone> activateDns(Number account, String zoneName) {
+            return EndpointRequest.of(PUT, ZONE_ACTIVATION.expand(account, zoneName), ListOptions.empty(), null, Zone.class);
+        }
+
+        public static EndpointRequest<Zone> deactivateDns(Number account, String zoneName) {
+            return EndpointRequest.of(DELETE, ZONE_ACTIVATION.expand(account, zoneName), ListOptions.empty(), null, Zone.class);
+        }
+
+        public static EndpointRequest<Zone> listZones(Number account, ListOptions options) {
+            return EndpointRequest.of(GET, ZONES.expand(account), options, null, Zone.class);
+        }
+
+        public static EndpointRequest<Zone> getZone(Number account, String zone) {
+            return EndpointRequest.of(GET, ZONE.expand(account, zone), ListOptions.empty(), null, Zone.class);
+        }
+
+        public static EndpointRequest<ZoneFile> getZoneFile(Number account, String zone) {
+            return EndpointRequest.of(GET, ZONE_FILE.expand(account, zone), ListOptions.empty(), null, ZoneFile.class);
+        }
+
+        public static EndpointRequest<ZoneDistribution> checkZoneDistribution(Number account, String zone) {
+            return EndpointRequest.of(GET, ZONE_DISTRIBUTION.expand(account, zone), ListOptions.empty(), null, ZoneDistribution.class);
+        }
+
+        public static EndpointRequest<ZoneRecord> listZoneRecords(Number account, String zone, ListOptions options) {
+            return EndpointRequest.of(GET, ZONE_RECORDS.expand(account, zone), options, null, ZoneRecord.class);
+        }
+
+        public static EndpointRequest<ZoneRecord> createZoneRecord(Number account, String zone, ZoneRecordOptions options) {
+            return EndpointRequest.of(POST, ZONE_RECORDS.expand(account, zone), ListOptions.empty(), options.asPayload(), ZoneRecord.class);
+        }
+
+        public static EndpointRequest<ZoneRecord> getZoneRecord(Number account, String zone, Number record) {
+            return EndpointRequest.of(GET, ZONE_RECORD.expand(account, zone, record), ListOptions.empty(), null, ZoneRecord.class);
+        }
+
+        public static EndpointRequest<ZoneRecord> updateZoneRecord(Number account, String zone, Number record, ZoneRecordUpdateOptions options) {
+            return EndpointRequest.of(PATCH, ZONE_RECORD.expand(account, zone, record), ListOptions.empty(), options.asPayload(), ZoneRecord.class);
+        }
+
+        public static EndpointRequest<Void> deleteZoneRecord(Number account, String zone, Number record) {
+            return EndpointRequest.of(DELETE, ZONE_RECORD.expand(account, zone, record), ListOptions.empty(), null);
+        }
+
+        public static EndpointRequest<ZoneDistribution> checkZoneRecordDistribution(Number account, String zone, Number record) {
+            return EndpointRequest.of(GET, ZONE_RECORD_DISTRIBUTION.expand(account, zone, record), ListOptions.empty(), null, ZoneDistribution.class);
+        }
+    }
+
+    private EndpointRequests() {
+    }
+}
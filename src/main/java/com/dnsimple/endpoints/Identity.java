@@ -2,11 +2,8 @@ package com.dnsimple.endpoints;
 
 import com.dnsimple.data.WhoamiData;
 import com.dnsimple.http.HttpEndpointClient;
-import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.GET;
-
 /**
  * Provides access to the DNSimple Identity API.
  *
@@ -26,6 +23,6 @@ public class Identity {
      * @see <a href="https://developer.dnsimple.com/v2/identity/#whoami">https://developer.dnsimple.com/v2/identity/#whoami</a>
      */
     public SimpleResponse<WhoamiData> whoami() {
-        return client.simple(GET, "whoami", ListOptions.empty(), null, WhoamiData.class);
+        return client.simple(EndpointRequests.Identity.whoami());
     }
 }
@@ -2,17 +2,9 @@ package com.dnsimple.endpoints;
 
 import com.dnsimple.data.AccessToken;
 import com.dnsimple.http.HttpEndpointClient;
-import com.dnsimple.request.ListOptions;
 import com.dnsimple.request.OauthAuthorizeOptions;
 import com.dnsimple.request.OauthExchangeOptions;
 
-import java.util.Map;
-
-import static com.dnsimple.http.HttpMethod.POST;
-import static java.net.URLEncoder.encode;
-import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.joining;
-
 /**
  * Provides access to the DNSimple OAuth API.
  *
@@ -33,11 +25,7 @@ public class Oauth {
      * @see <a href="https://developer.dnsimple.com/v2/oauth/">https://developer.dnsimple.com/v2/oauth/</a>
      */
     public String authorizeUrl(OauthAuthorizeOptions options) {
-        String baseUrl = client.getApiBase().toString().replaceFirst("api\\.", "") + "/oauth/authorize";
-        Map<String, String> optionsAsMap = options.asMap();
-        optionsAsMap.put("response_type", "code");
-        String queryStringParams = optionsAsMap.entrySet().stream().map(e -> e.getKey() + "=" + encode(e.getValue(), UTF_8)).collect(joining("&"));
-        return baseUrl + "?" + queryStringParams;
+        return EndpointRequests.Oauth.authorizeUrl(client.getApiBase(), options);
     }
 
     /**
@@ -49,8 +37,6 @@ public class Oauth {
      * @see <a href="https://developer.dnsimple.com/v2/oauth">https://developer.dnsimple.com/v2/oauth</a>
      */
     public AccessToken exchangeAuthorizationForToken(OauthExchangeOptions options) {
-        Map<String, String> optionsAsMap = options.asMap();
-        optionsAsMap.put("grant_type", "authorization_code");
-        return client.raw(POST, "oauth/access_token", ListOptions.empty(), optionsAsMap, AccessToken.class);
+        return client.raw(EndpointRequests.Oauth.exchangeAuthorizationForToken(options));
     }
 }
@@ -7,11 +7,7 @@ import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.ListResponse;
 import com.dnsimple.response.SimpleResponse;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import static com.dnsimple.http.HttpMethod.*;
 
 /**
  * Provides access to the DNSimple Registrar API.
@@ -34,7 +30,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#checkDomain">https://developer.dnsimple.com/v2/registrar/#checkDomain</a>
      */
     public SimpleResponse<DomainCheck> checkDomain(Number account, String domainName) {
-        return client.simple(GET, account + "/registrar/domains/" + domainName + "/check", ListOptions.empty(), null, DomainCheck.class);
+        return client.simple(EndpointRequests.Registrar.checkDomain(account, domainName));
     }
 
     /**
@@ -49,8 +45,7 @@ public class Registrar {
      */
     @Deprecated
     public SimpleResponse<DomainPremiumPriceCheck> getDomainPremiumPrice(Number account, String domainName, DomainCheckPremiumPriceAction action) {
-        var options = ListOptions.empty().filter("action", action.name().toLowerCase());
-        return client.simple(GET, account + "/registrar/domains/" + domainName + "/premium_price", options, action, DomainPremiumPriceCheck.class);
+        return client.simple(EndpointRequests.Registrar.getDomainPremiumPrice(account, domainName, action));
     }
 
     /**
@@ -63,7 +58,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#getDomainPrices">https://developer.dnsimple.com/v2/registrar/#getDomainPrices</a>
      */
     public SimpleResponse<DomainPrice> getDomainPrices(Number account, String domainName) {
-        return client.simple(GET, account + "/registrar/domains/" + domainName + "/prices", ListOptions.empty(), null, DomainPrice.class);
+        return client.simple(EndpointRequests.Registrar.getDomainPrices(account, domainName));
     }
 
     /**
@@ -77,7 +72,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#getDomainRegistration">https://developer.dnsimple.com/v2/registrar/#getDomainRegistration</a>
      */
     public SimpleResponse<DomainRegistration> getDomainRegistration(Number account, String domainName, Number domainRegistration) {
-        return client.simple(GET, account + "/registrar/domains/" + domainName + "/registrations/" + domainRegistration, ListOptions.empty(), null, DomainRegistration.class);
+        return client.simple(EndpointRequests.Registrar.getDomainRegistration(account, domainName, domainRegistration));
     }
 
     /**
@@ -91,7 +86,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#getDomainRenewal">https://developer.dnsimple.com/v2/registrar/#getDomainRenewal</a>
      */
     public SimpleResponse<DomainRenewal> getDomainRenewal(Number account, String domainName, Number domainRenewal) {
-        return client.simple(GET, account + "/registrar/domains/" + domainName + "/renewals/" + domainRenewal, ListOptions.empty(), null, DomainRenewal.class);
+        return client.simple(EndpointRequests.Registrar.getDomainRenewal(account, domainName, domainRenewal));
     }
 
     /**
@@ -104,7 +99,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#registerDomain">https://developer.dnsimple.com/v2/registrar/#registerDomain</a>
      */
     public SimpleResponse<DomainRegistration> registerDomain(Number account, String domainName, RegistrationOptions options) {
-        return client.simple(POST, account + "/registrar/domains/" + domainName + "/registrations", ListOptions.empty(), options, DomainRegistration.class);
+        return client.simple(EndpointRequests.Registrar.registerDomain(account, domainName, options));
     }
 
     /**
@@ -117,7 +112,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#transferDomain">https://developer.dnsimple.com/v2/registrar/#transferDomain</a>
      */
     public SimpleResponse<DomainTransfer> transferDomain(Number account, String domain, TransferOptions options) {
-        return client.simple(POST, account + "/registrar/domains/" + domain + "/transfers", ListOptions.empty(), options, DomainTransfer.class);
+        return client.simple(EndpointRequests.Registrar.transferDomain(account, domain, options));
     }
 
     /**
@@ -130,7 +125,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#getDomainTransfer">https://developer.dnsimple.com/v2/registrar/#getDomainTransfer</a>
      */
     public SimpleResponse<DomainTransfer> getDomainTransfer(Number account, String domain, Number domainTransferId) {
-        return client.simple(GET, account + "/registrar/domains/" + domain + "/transfers/" + domainTransferId, ListOptions.empty(), null, DomainTransfer.class);
+        return client.simple(EndpointRequests.Registrar.getDomainTransfer(account, domain, domainTransferId));
     }
 
     /**
@@ -143,7 +138,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#cancelDomainTransfer">https://developer.dnsimple.com/v2/registrar/#cancelDomainTransfer</a>
      */
     public SimpleResponse<DomainTransfer> cancelDomainTransfer(Number account, String domain, Number domainTransferId) {
-        return client.simple(DELETE, account + "/registrar/domains/" + domain + "/transfers/" + domainTransferId, ListOptions.empty(), null, DomainTransfer.class);
+        return client.simple(EndpointRequests.Registrar.cancelDomainTransfer(account, domain, domainTransferId));
     }
 
     /**
@@ -156,7 +151,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#renewDomain">https://developer.dnsimple.com/v2/registrar/#renewDomain</a>
      */
     public SimpleResponse<DomainRenewal> renewDomain(Number account, String domain, RenewOptions options) {
-        return client.simple(POST, account + "/registrar/domains/" + domain + "/renewals", ListOptions.empty(), options, DomainRenewal.class);
+        return client.simple(EndpointRequests.Registrar.renewDomain(account, domain, options));
     }
 
     /**
@@ -168,7 +163,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#authorizeDomainTransferOut">https://developer.dnsimple.com/v2/registrar/#authorizeDomainTransferOut</a>
      */
     public EmptyResponse authorizeTransferOut(Number account, String domain) {
-        return client.empty(POST, account + "/registrar/domains/" + domain + "/authorize_transfer_out", ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Registrar.authorizeTransferOut(account, domain));
     }
 
     /**
@@ -180,7 +175,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/auto-renewal/#enable">https://developer.dnsimple.com/v2/registrar/auto-renewal/#enable</a>
      */
     public EmptyResponse enableAutoRenewal(Number account, String domain) {
-        return client.empty(PUT, account + "/registrar/domains/" + domain + "/auto_renewal", ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Registrar.enableAutoRenewal(account, domain));
     }
 
     /**
@@ -192,7 +187,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/auto-renewal/#disable">https://developer.dnsimple.com/v2/registrar/auto-renewal/#disable</a>
      */
     public EmptyResponse disableAutoRenewal(Number account, String domain) {
-        return client.empty(DELETE, account + "/registrar/domains/" + domain + "/auto_renewal", ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Registrar.disableAutoRenewal(account, domain));
     }
 
     /**
@@ -204,7 +199,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/whois-privacy/#getWhoisPrivacy">https://developer.dnsimple.com/v2/registrar/whois-privacy/#getWhoisPrivacy</a>
      */
     public SimpleResponse<WhoisPrivacy> getWhoisPrivacy(Number account, String domain) {
-        return client.simple(GET, account + "/registrar/domains/" + domain + "/whois_privacy", ListOptions.empty(), null, WhoisPrivacy.class);
+        return client.simple(EndpointRequests.Registrar.getWhoisPrivacy(account, domain));
     }
 
     /**
@@ -216,7 +211,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/whois-privacy/#enableWhoisPrivacy">https://developer.dnsimple.com/v2/registrar/whois-privacy/#enableWhoisPrivacy</a>
      */
     public SimpleResponse<WhoisPrivacy> enableWhoisPrivacy(Number account, String domain) {
-        return client.simple(PUT, account + "/registrar/domains/" + domain + "/whois_privacy", ListOptions.empty(), null, WhoisPrivacy.class);
+        return client.simple(EndpointRequests.Registrar.enableWhoisPrivacy(account, domain));
     }
 
     /**
@@ -228,7 +223,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/whois-privacy/#disableWhoisPrivacy">https://developer.dnsimple.com/v2/registrar/whois-privacy/#disableWhoisPrivacy</a>
      */
     public SimpleResponse<WhoisPrivacy> disableWhoisPrivacy(Number account, String domain) {
-        return client.simple(DELETE, account + "/registrar/domains/" + domain + "/whois_privacy", ListOptions.empty(), null, WhoisPrivacy.class);
+        return client.simple(EndpointRequests.Registrar.disableWhoisPrivacy(account, domain));
     }
 
     /**
@@ -240,7 +235,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/whois-privacy/#renewWhoisPrivacy">https://developer.dnsimple.com/v2/registrar/whois-privacy/#renewWhoisPrivacy</a>
      */
     public SimpleResponse<WhoisPrivacyRenewal> renewWhoisPrivacy(Number account, String domain) {
-        return client.simple(POST, account + "/registrar/domains/" + domain + "/whois_privacy/renewals", ListOptions.empty(), null, WhoisPrivacyRenewal.class);
+        return client.simple(EndpointRequests.Registrar.renewWhoisPrivacy(account, domain));
     }
 
     /**
@@ -252,7 +247,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/delegation/#getDomainDelegation">https://developer.dnsimple.com/v2/registrar/delegation/#getDomainDelegation</a>
      */
     public ListResponse<String> getDomainDelegation(Number account, String domain) {
-        return client.list(GET, account + "/registrar/domains/" + domain + "/delegation", ListOptions.empty(), null, String.class);
+        return client.list(EndpointRequests.Registrar.getDomainDelegation(account, domain));
     }
 
     /**
@@ -265,7 +260,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/delegation/#changeDomainDelegation">https://developer.dnsimple.com/v2/registrar/delegation/#changeDomainDelegation</a>
      */
     public ListResponse<String> changeDomainDelegation(Number account, String domain, List<String> nameServerNames) {
-        return client.list(PUT, account + "/registrar/domains/" + domain + "/delegation", ListOptions.empty(), nameServerNames, String.class);
+        return client.list(EndpointRequests.Registrar.changeDomainDelegation(account, domain, nameServerNames));
     }
 
     /**
@@ -278,7 +273,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/delegation/#changeDomainDelegationToVanity">https://developer.dnsimple.com/v2/registrar/delegation/#changeDomainDelegationToVanity</a>
      */
     public ListResponse<VanityNameServer> changeDomainDelegationToVanity(Number account, String domain, List<String> nameServerNames) {
-        return client.list(PUT, account + "/registrar/domains/" + domain + "/delegation/vanity", ListOptions.empty(), nameServerNames, VanityNameServer.class);
+        return client.list(EndpointRequests.Registrar.changeDomainDelegationToVanity(account, domain, nameServerNames));
     }
 
     /**
@@ -290,7 +285,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/delegation/#changeDomainDelegationFromVanity">https://developer.dnsimple.com/v2/registrar/delegation/#changeDomainDelegationFromVanity</a>
      */
     public EmptyResponse changeDomainDelegationFromVanity(Number account, String domain) {
-        return client.empty(DELETE, account + "/registrar/domains/" + domain + "/delegation/vanity", ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Registrar.changeDomainDelegationFromVanity(account, domain));
     }
 
     /**
@@ -302,7 +297,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#listRegistrantChanges">https://developer.dnsimple.com/v2/registrar/#listRegistrantChanges</a>
      */
     public ListResponse<RegistrantChange> listRegistrantChanges(Number account, ListOptions options) {
-        return client.list(GET, account + "/registrar/registrant_changes", options, null, RegistrantChange.class);
+        return client.list(EndpointRequests.Registrar.listRegistrantChanges(account, options));
     }
 
     /**
@@ -314,7 +309,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#createRegistrantChange">https://developer.dnsimple.com/v2/registrar/#createRegistrantChange</a>
      */
     public SimpleResponse<RegistrantChange> createRegistrantChange(Number account, CreateRegistrantChangeInput input) {
-        return client.simple(POST, account + "/registrar/registrant_changes", ListOptions.empty(), input, RegistrantChange.class);
+        return client.simple(EndpointRequests.Registrar.createRegistrantChange(account, input));
     }
 
     /**
@@ -326,7 +321,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#checkRegistrantChange">https://developer.dnsimple.com/v2/registrar/#checkRegistrantChange</a>
      */
     public SimpleResponse<RegistrantChangeCheck> checkRegistrantChange(Number account, CheckRegistrantChangeInput input) {
-        return client.simple(POST, account + "/registrar/registrant_changes/check", ListOptions.empty(), input, RegistrantChangeCheck.class);
+        return client.simple(EndpointRequests.Registrar.checkRegistrantChange(account, input));
     }
 
     /**
@@ -338,7 +333,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#getRegistrantChange">https://developer.dnsimple.com/v2/registrar/#getRegistrantChange</a>
      */
     public SimpleResponse<RegistrantChange> getRegistrantChange(Number account, Number registrantChange) {
-        return client.simple(GET, account + "/registrar/registrant_changes/" + registrantChange, ListOptions.empty(), null, RegistrantChange.class);
+        return client.simple(EndpointRequests.Registrar.getRegistrantChange(account, registrantChange));
     }
 
     /**
@@ -350,7 +345,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#deleteRegistrantChange">https://developer.dnsimple.com/v2/registrar/#deleteRegistrantChange</a>
      */
     public EmptyResponse deleteRegistrantChange(Number account, Number registrantChange) {
-        return client.empty(DELETE, account + "/registrar/registrant_changes/" + registrantChange, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Registrar.deleteRegistrantChange(account, registrantChange));
     }
 
     /**
@@ -362,7 +357,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#getDomainTransferLock">https://developer.dnsimple.com/v2/registrar/#getDomainTransferLock</a>
      */
     public SimpleResponse<DomainTransferLock> getDomainTransferLock(Number account, String domain) {
-        return client.simple(GET, account + "/registrar/domains/" + domain + "/transfer_lock", ListOptions.empty(), null, DomainTransferLock.class);
+        return client.simple(EndpointRequests.Registrar.getDomainTransferLock(account, domain));
     }
 
     /**
@@ -374,7 +369,7 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#enableDomainTransferLock">https://developer.dnsimple.com/v2/registrar/#enableDomainTransferLock</a>
      */
     public SimpleResponse<DomainTransferLock> enableDomainTransferLock(Number account, String domain) {
-        return client.simple(POST, account + "/registrar/domains/" + domain + "/transfer_lock", ListOptions.empty(), null, DomainTransferLock.class);
+        return client.simple(EndpointRequests.Registrar.enableDomainTransferLock(account, domain));
     }
 
     /**
@@ -386,6 +381,6 @@ public class Registrar {
      * @see <a href="https://developer.dnsimple.com/v2/registrar/#disableDomainTransferLock">https://developer.dnsimple.com/v2/registrar/#disableDomainTransferLock</a>
      */
     public SimpleResponse<DomainTransferLock> disableDomainTransferLock(Number account, String domain) {
-        return client.simple(DELETE, account + "/registrar/domains/" + domain + "/transfer_lock", ListOptions.empty(), null, DomainTransferLock.class);
+        return client.simple(EndpointRequests.Registrar.disableDomainTransferLock(account, domain));
     }
 }
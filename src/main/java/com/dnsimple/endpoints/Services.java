@@ -7,10 +7,9 @@ import com.dnsimple.response.ListResponse;
 import com.dnsimple.response.PaginatedResponse;
 import com.dnsimple.response.SimpleResponse;
 
+import java.util.Iterator;
 import java.util.Map;
-
-import static com.dnsimple.http.HttpMethod.*;
-import static java.util.Collections.singletonMap;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple one-click Services API.
@@ -31,7 +30,7 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/#list">https://developer.dnsimple.com/v2/services/#list</a>
      */
     public ListResponse<Service> listServices() {
-        return client.list(GET, "services", ListOptions.empty(), null, Service.class);
+        return client.list(EndpointRequests.Services.listServices(ListOptions.empty()));
     }
 
     /**
@@ -42,7 +41,7 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/#listServices">https://developer.dnsimple.com/v2/services/#listServices</a>
      */
     public ListResponse<Service> listServices(ListOptions options) {
-        return client.list(GET, "services", options, null, Service.class);
+        return client.list(EndpointRequests.Services.listServices(options));
     }
 
     /**
@@ -53,7 +52,7 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/#getService">https://developer.dnsimple.com/v2/services/#getService</a>
      */
     public SimpleResponse<Service> getService(String service) {
-        return client.simple(GET, "services/" + service, ListOptions.empty(), null, Service.class);
+        return client.simple(EndpointRequests.Services.getService(service));
     }
 
     /**
@@ -65,7 +64,7 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices">https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices</a>
      */
     public PaginatedResponse<Service> appliedServices(Number account, String domain) {
-        return client.page(GET, account + "/domains/" + domain + "/services", ListOptions.empty(), null, Service.class);
+        return client.page(EndpointRequests.Services.appliedServices(account, domain, ListOptions.empty()));
     }
 
     /**
@@ -78,7 +77,37 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices">https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices</a>
      */
     public PaginatedResponse<Service> appliedServices(Number account, String domain, ListOptions options) {
-        return client.page(GET, account + "/domains/" + domain + "/services", options, null, Service.class);
+        return client.page(EndpointRequests.Services.appliedServices(account, domain, options));
+    }
+
+    /**
+     * Streams all the one-click services applied to the domain, requesting pages of 100 items
+     * lazily and prefetching the next page in the background while the current one is
+     * consumed. The stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param domain  The domain name or ID
+     * @param options The options for the list request
+     * @return The stream of all the one-click services applied to the domain
+     * @see <a href="https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices">https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices</a>
+     */
+    public Stream<Service> streamAllAppliedServices(Number account, String domain, ListOptions options) {
+        return client.streamAll(EndpointRequests.Services.appliedServices(account, domain, options));
+    }
+
+    /**
+     * Iterates over all the one-click services applied to the domain, requesting pages of 100
+     * items lazily and prefetching the next page in the background while the current one is
+     * consumed.
+     *
+     * @param account The account ID
+     * @param domain  The domain name or ID
+     * @param options The options for the list request
+     * @return The iterator over all the one-click services applied to the domain
+     * @see <a href="https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices">https://developer.dnsimple.com/v2/services/domains/#listDomainAppliedServices</a>
+     */
+    public Iterator<Service> iterateAllAppliedServices(Number account, String domain, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Services.appliedServices(account, domain, options));
     }
 
     /**
@@ -92,7 +121,7 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/domains/#applyServiceToDomain">https://developer.dnsimple.com/v2/services/domains/#applyServiceToDomain</a>
      */
     public SimpleResponse<Service> applyService(Number account, String domain, String service, Map<String, Object> settings) {
-        return client.simple(POST, account + "/domains/" + domain + "/services/" + service, ListOptions.empty(), singletonMap("settings", settings), Service.class);
+        return client.simple(EndpointRequests.Services.applyService(account, domain, service, settings));
     }
 
     /**
@@ -105,6 +134,6 @@ public class Services {
      * @see <a href="https://developer.dnsimple.com/v2/services/domains/#unapplyServiceFromDomain">https://developer.dnsimple.com/v2/services/domains/#unapplyServiceFromDomain</a>
      */
     public SimpleResponse<Service> unapplyService(Number account, String domain, String service) {
-        return client.simple(DELETE, account + "/domains/" + domain + "/services/" + service, ListOptions.empty(), null, Service.class);
+        return client.simple(EndpointRequests.Services.unapplyService(account, domain, service));
     }
 }
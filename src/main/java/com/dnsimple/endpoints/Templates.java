@@ -10,7 +10,8 @@ import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.PaginatedResponse;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.*;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple Templates API.
@@ -32,7 +33,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/#listTemplates">https://developer.dnsimple.com/v2/templates/#listTemplates</a>
      */
     public PaginatedResponse<Template> listTemplates(Number account) {
-        return client.page(GET, account + "/templates", ListOptions.empty(), null, Template.class);
+        return client.page(EndpointRequests.Templates.listTemplates(account, ListOptions.empty()));
     }
 
     /**
@@ -44,7 +45,34 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/#listTemplates">https://developer.dnsimple.com/v2/templates/#listTemplates</a>
      */
     public PaginatedResponse<Template> listTemplates(Number account, ListOptions options) {
-        return client.page(GET, account + "/templates", options, null, Template.class);
+        return client.page(EndpointRequests.Templates.listTemplates(account, options));
+    }
+
+    /**
+     * Streams all the templates in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The stream of all the templates in the account
+     * @see <a href="https://developer.dnsimple.com/v2/templates/#listTemplates">https://developer.dnsimple.com/v2/templates/#listTemplates</a>
+     */
+    public Stream<Template> streamAllTemplates(Number account, ListOptions options) {
+        return client.streamAll(EndpointRequests.Templates.listTemplates(account, options));
+    }
+
+    /**
+     * Iterates over all the templates in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The iterator over all the templates in the account
+     * @see <a href="https://developer.dnsimple.com/v2/templates/#listTemplates">https://developer.dnsimple.com/v2/templates/#listTemplates</a>
+     */
+    public Iterator<Template> iterateAllTemplates(Number account, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Templates.listTemplates(account, options));
     }
 
     /**
@@ -56,7 +84,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/#createTemplate">https://developer.dnsimple.com/v2/templates/#createTemplate</a>
      */
     public SimpleResponse<Template> createTemplate(Number account, TemplateOptions options) {
-        return client.simple(POST, account + "/templates", ListOptions.empty(), options, Template.class);
+        return client.simple(EndpointRequests.Templates.createTemplate(account, options));
     }
 
     /**
@@ -68,7 +96,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/#getTemplate">https://developer.dnsimple.com/v2/templates/#getTemplate</a>
      */
     public SimpleResponse<Template> getTemplate(Number account, String template) {
-        return client.simple(GET, account + "/templates/" + template, ListOptions.empty(), null, Template.class);
+        return client.simple(EndpointRequests.Templates.getTemplate(account, template));
     }
 
     /**
@@ -81,7 +109,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/#updateTemplate">https://developer.dnsimple.com/v2/templates/#updateTemplate</a>
      */
     public SimpleResponse<Template> updateTemplate(Number account, String template, TemplateOptions options) {
-        return client.simple(PATCH, account + "/templates/" + template, ListOptions.empty(), options, Template.class);
+        return client.simple(EndpointRequests.Templates.updateTemplate(account, template, options));
     }
 
     /**
@@ -93,7 +121,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/#deleteTemplate">https://developer.dnsimple.com/v2/templates/#deleteTemplate</a>
      */
     public EmptyResponse deleteTemplate(Number account, String template) {
-        return client.empty(DELETE, account + "/templates/" + template, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Templates.deleteTemplate(account, template));
     }
 
     /**
@@ -106,7 +134,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/domains/templates/#applyTemplateToDomain">https://developer.dnsimple.com/v2/domains/templates/#applyTemplateToDomain</a>
      */
     public EmptyResponse applyTemplate(Number account, String template, String domain) {
-        return client.empty(POST, account + "/domains/" + domain + "/templates/" + template, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Templates.applyTemplate(account, template, domain));
     }
 
     /**
@@ -118,7 +146,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/records#listTemplateRecords">https://developer.dnsimple.com/v2/templates/records#listTemplateRecords</a>
      */
     public PaginatedResponse<TemplateRecord> listTemplateRecords(Number account, String template) {
-        return client.page(GET, account + "/templates/" + template + "/records", ListOptions.empty(), null, TemplateRecord.class);
+        return client.page(EndpointRequests.Templates.listTemplateRecords(account, template, ListOptions.empty()));
     }
 
     /**
@@ -131,7 +159,36 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/records#listTemplateRecords">https://developer.dnsimple.com/v2/templates/records#listTemplateRecords</a>
      */
     public PaginatedResponse<TemplateRecord> listTemplateRecords(Number account, String template, ListOptions options) {
-        return client.page(GET, account + "/templates/" + template + "/records", options, null, TemplateRecord.class);
+        return client.page(EndpointRequests.Templates.listTemplateRecords(account, template, options));
+    }
+
+    /**
+     * Streams all the records in the template, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account  The account ID
+     * @param template The template short name or ID
+     * @param options  The options for the list request
+     * @return The stream of all the records in the template
+     * @see <a href="https://developer.dnsimple.com/v2/templates/records#listTemplateRecords">https://developer.dnsimple.com/v2/templates/records#listTemplateRecords</a>
+     */
+    public Stream<TemplateRecord> streamAllTemplateRecords(Number account, String template, ListOptions options) {
+        return client.streamAll(EndpointRequests.Templates.listTemplateRecords(account, template, options));
+    }
+
+    /**
+     * Iterates over all the records in the template, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account  The account ID
+     * @param template The template short name or ID
+     * @param options  The options for the list request
+     * @return The iterator over all the records in the template
+     * @see <a href="https://developer.dnsimple.com/v2/templates/records#listTemplateRecords">https://developer.dnsimple.com/v2/templates/records#listTemplateRecords</a>
+     */
+    public Iterator<TemplateRecord> iterateAllTemplateRecords(Number account, String template, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Templates.listTemplateRecords(account, template, options));
     }
 
     /**
@@ -144,7 +201,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/records#createTemplateRecord">https://developer.dnsimple.com/v2/templates/records#createTemplateRecord</a>
      */
     public SimpleResponse<TemplateRecord> createTemplateRecord(Number account, String template, TemplateRecordOptions options) {
-        return client.simple(POST, account + "/templates/" + template + "/records", ListOptions.empty(), options, TemplateRecord.class);
+        return client.simple(EndpointRequests.Templates.createTemplateRecord(account, template, options));
     }
 
     /**
@@ -157,7 +214,7 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/records/#getTemplateRecord">https://developer.dnsimple.com/v2/templates/records/#getTemplateRecord</a>
      */
     public SimpleResponse<TemplateRecord> getTemplateRecord(Number account, String template, Number record) {
-        return client.simple(GET, account + "/templates/" + template + "/records/" + record, ListOptions.empty(), null, TemplateRecord.class);
+        return client.simple(EndpointRequests.Templates.getTemplateRecord(account, template, record));
     }
 
     /**
@@ -170,6 +227,6 @@ public class Templates {
      * @see <a href="https://developer.dnsimple.com/v2/templates/records#deleteTemplateRecord">https://developer.dnsimple.com/v2/templates/records#deleteTemplateRecord</a>
      */
     public EmptyResponse deleteTemplateRecord(Number account, String template, Number record) {
-        return client.empty(DELETE, account + "/templates/" + template + "/records/" + record, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Templates.deleteTemplateRecord(account, template, record));
     }
 }
@@ -8,7 +8,8 @@ import com.dnsimple.response.ListResponse;
 import com.dnsimple.response.PaginatedResponse;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.GET;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple TLDs API.
@@ -29,7 +30,7 @@ public class Tlds {
      * @see <a href="https://developer.dnsimple.com/v2/tlds/#list">https://developer.dnsimple.com/v2/tlds/#list</a>
      */
     public PaginatedResponse<Tld> listTlds() {
-        return client.page(GET, "tlds", ListOptions.empty(), null, Tld.class);
+        return client.page(EndpointRequests.Tlds.listTlds(ListOptions.empty()));
     }
 
     /**
@@ -40,7 +41,33 @@ public class Tlds {
      * @see <a href="https://developer.dnsimple.com/v2/tlds/#list">https://developer.dnsimple.com/v2/tlds/#list</a>
      */
     public PaginatedResponse<Tld> listTlds(ListOptions options) {
-        return client.page(GET, "tlds", options, null, Tld.class);
+        return client.page(EndpointRequests.Tlds.listTlds(options));
+    }
+
+    /**
+     * Streams all the supported TLDs for registration, requesting pages of 100 items lazily
+     * and prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param options The options for the list request
+     * @return The stream of all the supported TLDs for registration
+     * @see <a href="https://developer.dnsimple.com/v2/tlds/#list">https://developer.dnsimple.com/v2/tlds/#list</a>
+     */
+    public Stream<Tld> streamAllTlds(ListOptions options) {
+        return client.streamAll(EndpointRequests.Tlds.listTlds(options));
+    }
+
+    /**
+     * Iterates over all the supported TLDs for registration, requesting pages of 100 items
+     * lazily and prefetching the next page in the background while the current one is
+     * consumed.
+     *
+     * @param options The options for the list request
+     * @return The iterator over all the supported TLDs for registration
+     * @see <a href="https://developer.dnsimple.com/v2/tlds/#list">https://developer.dnsimple.com/v2/tlds/#list</a>
+     */
+    public Iterator<Tld> iterateAllTlds(ListOptions options) {
+        return client.iterateAll(EndpointRequests.Tlds.listTlds(options));
     }
 
     /**
@@ -51,7 +78,7 @@ public class Tlds {
      * @see <a href="https://developer.dnsimple.com/v2/tlds/#get">https://developer.dnsimple.com/v2/tlds/#get</a>
      */
     public SimpleResponse<Tld> getTld(String tld) {
-        return client.simple(GET, "tlds/" + tld, ListOptions.empty(), null, Tld.class);
+        return client.simple(EndpointRequests.Tlds.getTld(tld));
     }
 
     /**
@@ -62,6 +89,6 @@ public class Tlds {
      * @see <a href="https://developer.dnsimple.com/v2/tlds/#extended-attributes">https://developer.dnsimple.com/v2/tlds/#extended-attributes</a>
      */
     public ListResponse<TldExtendedAttribute> getTldExtendedAttributes(String tld) {
-        return client.list(GET, "tlds/" + tld + "/extended_attributes", ListOptions.empty(), null, TldExtendedAttribute.class);
+        return client.list(EndpointRequests.Tlds.getTldExtendedAttributes(tld));
     }
 }
@@ -2,13 +2,9 @@ package com.dnsimple.endpoints;
 
 import com.dnsimple.data.VanityNameServer;
 import com.dnsimple.http.HttpEndpointClient;
-import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.ListResponse;
 
-import static com.dnsimple.http.HttpMethod.DELETE;
-import static com.dnsimple.http.HttpMethod.PUT;
-
 /**
  * Provides access to the  DNSimple Vanity Name Server API
  *
@@ -30,7 +26,7 @@ public class VanityNameServers {
      * @see <a href="https://developer.dnsimple.com/v2/domains/vanity/#enableVanityNameServers">https://developer.dnsimple.com/v2/domains/vanity/#enableVanityNameServers</a>
      */
     public ListResponse<VanityNameServer> enableVanityNameServers(Number account, String domain) {
-        return client.list(PUT, account + "/vanity/" + domain, ListOptions.empty(), null, VanityNameServer.class);
+        return client.list(EndpointRequests.VanityNameServers.enableVanityNameServers(account, domain));
     }
 
     /**
@@ -42,7 +38,7 @@ public class VanityNameServers {
      * @see <a href="https://developer.dnsimple.com/v2/domains/vanity/#disableVanityNameServers">https://developer.dnsimple.com/v2/domains/vanity/#disableVanityNameServers</a>
      */
     public EmptyResponse disableVanityNameServers(Number account, String domain) {
-        return client.empty(DELETE, account + "/vanity/" + domain, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.VanityNameServers.disableVanityNameServers(account, domain));
     }
 }
 
@@ -7,9 +7,6 @@ import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.ListResponse;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.*;
-import static java.util.Collections.singletonMap;
-
 /**
  * Provides access to the DNSimple Webhooks API.
  *
@@ -30,7 +27,7 @@ public class Webhooks {
      * @see <a href="https://developer.dnsimple.com/v2/webhooks/#listWebhooks">https://developer.dnsimple.com/v2/webhooks/#listWebhooks</a>
      */
     public ListResponse<Webhook> listWebhooks(Number account) {
-        return client.list(GET, account + "/webhooks", ListOptions.empty(), null, Webhook.class);
+        return client.list(EndpointRequests.Webhooks.listWebhooks(account, ListOptions.empty()));
     }
 
     /**
@@ -42,7 +39,7 @@ public class Webhooks {
      * @see <a href="https://developer.dnsimple.com/v2/webhooks/#listWebhooks">https://developer.dnsimple.com/v2/webhooks/#listWebhooks</a>
      */
     public ListResponse<Webhook> listWebhooks(Number account, ListOptions options) {
-        return client.list(GET, account + "/webhooks", options, null, Webhook.class);
+        return client.list(EndpointRequests.Webhooks.listWebhooks(account, options));
     }
 
     /**
@@ -54,7 +51,7 @@ public class Webhooks {
      * @see <a href="https://developer.dnsimple.com/v2/webhooks/#createWebhook">https://developer.dnsimple.com/v2/webhooks/#createWebhook</a>
      */
     public SimpleResponse<Webhook> createWebhook(Number account, String url) {
-        return client.simple(POST, account + "/webhooks", ListOptions.empty(), singletonMap("url", url), Webhook.class);
+        return client.simple(EndpointRequests.Webhooks.createWebhook(account, url));
     }
 
     /**
@@ -66,7 +63,7 @@ public class Webhooks {
      * @see <a href="https://developer.dnsimple.com/v2/webhooks/#getWebhook">https://developer.dnsimple.com/v2/webhooks/#getWebhook</a>
      */
     public SimpleResponse<Webhook> getWebhook(Number account, Number webhookId) {
-        return client.simple(GET, account + "/webhooks/" + webhookId, ListOptions.empty(), null, Webhook.class);
+        return client.simple(EndpointRequests.Webhooks.getWebhook(account, webhookId));
     }
 
     /**
@@ -78,6 +75,6 @@ public class Webhooks {
      * @see <a href="https://developer.dnsimple.com/v2/webhooks/#deleteWebhook">https://developer.dnsimple.com/v2/webhooks/#deleteWebhook</a>
      */
     public EmptyResponse deleteWebhook(Number account, Number webhookId) {
-        return client.empty(DELETE, account + "/webhooks/" + webhookId, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Webhooks.deleteWebhook(account, webhookId));
     }
 }
@@ -10,9 +10,13 @@ import com.dnsimple.request.ZoneRecordOptions;
 import com.dnsimple.request.ZoneRecordUpdateOptions;
 import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
 import com.dnsimple.response.SimpleResponse;
 
-import static com.dnsimple.http.HttpMethod.*;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Provides access to the DNSimple Zones API.
@@ -35,7 +39,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#activateZoneService">https://developer.dnsimple.com/v2/zones/#activateZoneService</a>
      */
     public SimpleResponse<Zone> activateDns(Number account, String zoneName) {
-        return client.simple(PUT, account + "/zones/" + zoneName + "/activation", ListOptions.empty(), null, Zone.class);
+        return client.simple(EndpointRequests.Zones.activateDns(account, zoneName));
     }
 
     /**
@@ -47,7 +51,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#deactivateZoneService">https://developer.dnsimple.com/v2/zones/#deactivateZoneService</a>
      */
     public SimpleResponse<Zone> deactivateDns(Number account, String zoneName) {
-        return client.simple(DELETE, account + "/zones/" + zoneName + "/activation", ListOptions.empty(), null, Zone.class);
+        return client.simple(EndpointRequests.Zones.deactivateDns(account, zoneName));
     }
 
     /**
@@ -58,7 +62,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
      */
     public PaginatedResponse<Zone> listZones(Number account) {
-        return client.page(GET, account + "/zones", ListOptions.empty(), null, Zone.class);
+        return client.page(EndpointRequests.Zones.listZones(account, ListOptions.empty()));
     }
 
     /**
@@ -70,7 +74,78 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
      */
     public PaginatedResponse<Zone> listZones(Number account, ListOptions options) {
-        return client.page(GET, account + "/zones", options, null, Zone.class);
+        return client.page(EndpointRequests.Zones.listZones(account, options));
+    }
+
+    /**
+     * Streams all the zones in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The stream of all the zones in the account
+     * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
+     */
+    public Stream<Zone> streamAllZones(Number account, ListOptions options) {
+        return client.streamAll(EndpointRequests.Zones.listZones(account, options));
+    }
+
+    /**
+     * Iterates over all the zones in the account, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The iterator over all the zones in the account
+     * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
+     */
+    public Iterator<Zone> iterateAllZones(Number account, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Zones.listZones(account, options));
+    }
+
+    /**
+     * Lists all the zones in the account, requesting pages of 100 items with up to the
+     * provided number of concurrent requests once the first page reveals the total number of
+     * pages.
+     *
+     * @param account     The account ID
+     * @param options     The options for the list request
+     * @param parallelism The maximum number of concurrent page requests
+     * @return All the zones in the account, in order
+     * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
+     */
+    public List<Zone> fetchAllZones(Number account, ListOptions options, int parallelism) {
+        return client.fetchAll(EndpointRequests.Zones.listZones(account, options), parallelism);
+    }
+
+    /**
+     * Lists all the zones in the account, requesting pages of 100 items with up to the
+     * provided number of concurrent requests once the first page reveals the total number of
+     * pages, and passes each page to the consumer as soon as it arrives. Pages may arrive out
+     * of order, and the consumer is called from different threads, but never concurrently.
+     *
+     * @param account      The account ID
+     * @param options      The options for the list request
+     * @param parallelism  The maximum number of concurrent page requests
+     * @param pageConsumer The consumer of the pages
+     * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
+     */
+    public void fetchAllZones(Number account, ListOptions options, int parallelism, Consumer<? super List<Zone>> pageConsumer) {
+        client.fetchAll(EndpointRequests.Zones.listZones(account, options), parallelism, pageConsumer);
+    }
+
+    /**
+     * Streams all the zones in the account with a parallel stream that requests different
+     * ranges of pages of 100 items concurrently from the threads processing the stream.
+     *
+     * @param account The account ID
+     * @param options The options for the list request
+     * @return The parallel stream of all the zones in the account
+     * @see <a href="https://developer.dnsimple.com/v2/zones/#listZones">https://developer.dnsimple.com/v2/zones/#listZones</a>
+     */
+    public Stream<Zone> parallelStreamAllZones(Number account, ListOptions options) {
+        return client.parallelStreamAll(EndpointRequests.Zones.listZones(account, options));
     }
 
     /**
@@ -82,7 +157,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#getZone">https://developer.dnsimple.com/v2/zones/#getZone</a>
      */
     public SimpleResponse<Zone> getZone(Number account, String zone) {
-        return client.simple(GET, account + "/zones/" + zone, ListOptions.empty(), null, Zone.class);
+        return client.simple(EndpointRequests.Zones.getZone(account, zone));
     }
 
     /**
@@ -94,7 +169,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#getZoneFile">https://developer.dnsimple.com/v2/zones/#getZoneFile</a>
      */
     public SimpleResponse<ZoneFile> getZoneFile(Number account, String zone) {
-        return client.simple(GET, account + "/zones/" + zone + "/file", ListOptions.empty(), null, ZoneFile.class);
+        return client.simple(EndpointRequests.Zones.getZoneFile(account, zone));
     }
 
     /**
@@ -106,7 +181,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#checkZoneDistribution">https://developer.dnsimple.com/v2/zones/#checkZoneDistribution</a>
      */
     public SimpleResponse<ZoneDistribution> checkZoneDistribution(Number account, String zone) {
-        return client.simple(GET, account + "/zones/" + zone + "/distribution", ListOptions.empty(), null, ZoneDistribution.class);
+        return client.simple(EndpointRequests.Zones.checkZoneDistribution(account, zone));
     }
 
     /**
@@ -118,7 +193,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
      */
     public PaginatedResponse<ZoneRecord> listZoneRecords(Number account, String zone) {
-        return client.page(GET, account + "/zones/" + zone + "/records", ListOptions.empty(), null, ZoneRecord.class);
+        return client.page(EndpointRequests.Zones.listZoneRecords(account, zone, ListOptions.empty()));
     }
 
     /**
@@ -131,7 +206,114 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
      */
     public PaginatedResponse<ZoneRecord> listZoneRecords(Number account, String zone, ListOptions options) {
-        return client.page(GET, account + "/zones/" + zone + "/records", options, null, ZoneRecord.class);
+        return client.page(EndpointRequests.Zones.listZoneRecords(account, zone, options));
+    }
+
+    /**
+     * Lists the records in the zone, passing each record to the consumer as soon as it's
+     * parsed instead of collecting them in a list. This allows processing large pages of
+     * records with constant memory.
+     *
+     * @param account  The account ID
+     * @param zone     The zone name
+     * @param options  The options for the list request
+     * @param consumer The consumer of the zone records
+     * @return The pagination details of the list zone records response
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     */
+    public Pagination listZoneRecords(Number account, String zone, ListOptions options, Consumer<? super ZoneRecord> consumer) {
+        return client.page(EndpointRequests.Zones.listZoneRecords(account, zone, options), consumer);
+    }
+
+    /**
+     * Lists all the records in the zone, requesting pages of 100 items one after the other
+     * and passing each record to the consumer as soon as it's parsed. Combined with a
+     * ZoneRecordTable, this allows holding large zones in memory compactly.
+     *
+     * @param account  The account ID
+     * @param zone     The zone name
+     * @param options  The options for the list request
+     * @param consumer The consumer of the zone records
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     * @see com.dnsimple.data.ZoneRecordTable
+     */
+    public void listAllZoneRecords(Number account, String zone, ListOptions options, Consumer<? super ZoneRecord> consumer) {
+        client.forEachAll(EndpointRequests.Zones.listZoneRecords(account, zone, options), consumer);
+    }
+
+    /**
+     * Streams all the records in the zone, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed. The
+     * stream should be closed if it is not consumed completely.
+     *
+     * @param account The account ID
+     * @param zone    The zone name
+     * @param options The options for the list request
+     * @return The stream of all the records in the zone
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     */
+    public Stream<ZoneRecord> streamAllZoneRecords(Number account, String zone, ListOptions options) {
+        return client.streamAll(EndpointRequests.Zones.listZoneRecords(account, zone, options));
+    }
+
+    /**
+     * Iterates over all the records in the zone, requesting pages of 100 items lazily and
+     * prefetching the next page in the background while the current one is consumed.
+     *
+     * @param account The account ID
+     * @param zone    The zone name
+     * @param options The options for the list request
+     * @return The iterator over all the records in the zone
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     */
+    public Iterator<ZoneRecord> iterateAllZoneRecords(Number account, String zone, ListOptions options) {
+        return client.iterateAll(EndpointRequests.Zones.listZoneRecords(account, zone, options));
+    }
+
+    /**
+     * Lists all the records in the zone, requesting pages of 100 items with up to the provided
+     * number of concurrent requests once the first page reveals the total number of pages.
+     *
+     * @param account     The account ID
+     * @param zone        The zone name
+     * @param options     The options for the list request
+     * @param parallelism The maximum number of concurrent page requests
+     * @return All the records in the zone, in order
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     */
+    public List<ZoneRecord> fetchAllZoneRecords(Number account, String zone, ListOptions options, int parallelism) {
+        return client.fetchAll(EndpointRequests.Zones.listZoneRecords(account, zone, options), parallelism);
+    }
+
+    /**
+     * Lists all the records in the zone, requesting pages of 100 items with up to the provided
+     * number of concurrent requests once the first page reveals the total number of pages, and
+     * passes each page to the consumer as soon as it arrives. Pages may arrive out of order,
+     * and the consumer is called from different threads, but never concurrently.
+     *
+     * @param account      The account ID
+     * @param zone         The zone name
+     * @param options      The options for the list request
+     * @param parallelism  The maximum number of concurrent page requests
+     * @param pageConsumer The consumer of the pages
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     */
+    public void fetchAllZoneRecords(Number account, String zone, ListOptions options, int parallelism, Consumer<? super List<ZoneRecord>> pageConsumer) {
+        client.fetchAll(EndpointRequests.Zones.listZoneRecords(account, zone, options), parallelism, pageConsumer);
+    }
+
+    /**
+     * Streams all the records in the zone with a parallel stream that requests different
+     * ranges of pages of 100 items concurrently from the threads processing the stream.
+     *
+     * @param account The account ID
+     * @param zone    The zone name
+     * @param options The options for the list request
+     * @return The parallel stream of all the records in the zone
+     * @see <a href="https://developer.dnsimple.com/v2/zones/records/#listZoneRecords">https://developer.dnsimple.com/v2/zones/records/#listZoneRecords</a>
+     */
+    public Stream<ZoneRecord> parallelStreamAllZoneRecords(Number account, String zone, ListOptions options) {
+        return client.parallelStreamAll(EndpointRequests.Zones.listZoneRecords(account, zone, options));
     }
 
     /**
@@ -144,7 +326,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/records/#createZoneRecord">https://developer.dnsimple.com/v2/zones/records/#createZoneRecord</a>
      */
     public SimpleResponse<ZoneRecord> createZoneRecord(Number account, String zone, ZoneRecordOptions options) {
-        return client.simple(POST, account + "/zones/" + zone + "/records", ListOptions.empty(), options.asPayload(), ZoneRecord.class);
+        return client.simple(EndpointRequests.Zones.createZoneRecord(account, zone, options));
     }
 
     /**
@@ -157,7 +339,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/records/#getZoneRecord">https://developer.dnsimple.com/v2/zones/records/#getZoneRecord</a>
      */
     public SimpleResponse<ZoneRecord> getZoneRecord(Number account, String zone, Number record) {
-        return client.simple(GET, account + "/zones/" + zone + "/records/" + record, ListOptions.empty(), null, ZoneRecord.class);
+        return client.simple(EndpointRequests.Zones.getZoneRecord(account, zone, record));
     }
 
     /**
@@ -171,7 +353,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/records/#updateZoneRecord">https://developer.dnsimple.com/v2/zones/records/#updateZoneRecord</a>
      */
     public SimpleResponse<ZoneRecord> updateZoneRecord(Number account, String zone, Number record, ZoneRecordUpdateOptions options) {
-        return client.simple(PATCH, account + "/zones/" + zone + "/records/" + record, ListOptions.empty(), options.asPayload(), ZoneRecord.class);
+        return client.simple(EndpointRequests.Zones.updateZoneRecord(account, zone, record, options));
     }
 
     /**
@@ -184,7 +366,7 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/records/#deleteZoneRecord">https://developer.dnsimple.com/v2/zones/records/#deleteZoneRecord</a>
      */
     public EmptyResponse deleteZoneRecord(Number account, String zone, Number record) {
-        return client.empty(DELETE, account + "/zones/" + zone + "/records/" + record, ListOptions.empty(), null);
+        return client.empty(EndpointRequests.Zones.deleteZoneRecord(account, zone, record));
     }
 
     /**
@@ -197,6 +379,6 @@ public class Zones {
      * @see <a href="https://developer.dnsimple.com/v2/zones/#checkZoneRecordDistribution">https://developer.dnsimple.com/v2/zones/#checkZoneRecordDistribution</a>
      */
     public SimpleResponse<ZoneDistribution> checkZoneRecordDistribution(Number account, String zone, Number record) {
-        return client.simple(GET, account + "/zones/" + zone + "/records/" + record + "/distribution", ListOptions.empty(), null, ZoneDistribution.class);
+        return client.simple(EndpointRequests.Zones.checkZoneRecordDistribution(account, zone, record));
     }
 }
@@ -0,0 +1,28 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Account;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.response.ListResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Accounts API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/accounts">https://developer.dnsimple.com/v2/accounts</a>
+ */
+public final class Accounts {
+    private final HttpEndpointClient client;
+
+    public Accounts(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Accounts#listAccounts()}.
+     */
+    public CompletableFuture<ListResponse<Account>> listAccounts() {
+        return client.listAsync(EndpointRequests.Accounts.listAccounts());
+    }
+}
@@ -0,0 +1,24 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Charge;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.ListResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+public class Billing {
+    private final HttpEndpointClient client;
+
+    public Billing(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Billing#listCharges(Number, ListOptions)}.
+     */
+    public CompletableFuture<ListResponse<Charge>> listCharges(Number account, ListOptions options) {
+        return client.listAsync(EndpointRequests.Billing.listCharges(account, options));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Certificate;
+import com.dnsimple.data.CertificateBundle;
+import com.dnsimple.data.CertificatePurchase;
+import com.dnsimple.data.CertificateRenewal;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.CertificatePurchaseOptions;
+import com.dnsimple.request.CertificateRenewalPurchaseOptions;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Certificates API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/certificates">https://developer.dnsimple.com/v2/certificates</a>
+ */
+public class Certificates {
+    private final HttpEndpointClient client;
+
+    public Certificates(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#listCertificates(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<Certificate>> listCertificates(Number account, String domain) {
+        return client.pageAsync(EndpointRequests.Certificates.listCertificates(account, domain, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#listCertificates(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Certificate>> listCertificates(Number account, String domain, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Certificates.listCertificates(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#getCertificate(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<Certificate>> getCertificate(Number account, String domain, Number certificateId) {
+        return client.simpleAsync(EndpointRequests.Certificates.getCertificate(account, domain, certificateId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#downloadCertificate(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<CertificateBundle>> downloadCertificate(Number account, String domain, Number certificateId) {
+        return client.simpleAsync(EndpointRequests.Certificates.downloadCertificate(account, domain, certificateId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#getCertificatePrivateKey(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<CertificateBundle>> getCertificatePrivateKey(Number account, String domain, Number certificateId) {
+        return client.simpleAsync(EndpointRequests.Certificates.getCertificatePrivateKey(account, domain, certificateId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#purchaseLetsencryptCertificate(Number, String, CertificatePurchaseOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<CertificatePurchase>> purchaseLetsencryptCertificate(Number account, String domain, CertificatePurchaseOptions options) {
+        return client.simpleAsync(EndpointRequests.Certificates.purchaseLetsencryptCertificate(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#issueLetsencryptCertificate(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<Certificate>> issueLetsencryptCertificate(Number account, String domain, Number certificatePurchaseId) {
+        return client.simpleAsync(EndpointRequests.Certificates.issueLetsencryptCertificate(account, domain, certificatePurchaseId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#purchaseLetsencryptCertificateRenewal(Number, String, Number, CertificateRenewalPurchaseOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<CertificateRenewal>> purchaseLetsencryptCertificateRenewal(Number account, String domain, Number certificateId, CertificateRenewalPurchaseOptions options) {
+        return client.simpleAsync(EndpointRequests.Certificates.purchaseLetsencryptCertificateRenewal(account, domain, certificateId, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Certificates#issueLetsencryptCertificateRenewal(Number, String, Number, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<Certificate>> issueLetsencryptCertificateRenewal(Number account, String domain, Number certificateId, Number certificateRenewalId) {
+        return client.simpleAsync(EndpointRequests.Certificates.issueLetsencryptCertificateRenewal(account, domain, certificateId, certificateRenewalId));
+    }
+}
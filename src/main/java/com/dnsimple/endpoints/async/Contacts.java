@@ -0,0 +1,67 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Contact;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ContactOptions;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Contacts API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/contacts">https://developer.dnsimple.com/v2/contacts</a>
+ */
+public class Contacts {
+    private final HttpEndpointClient client;
+
+    public Contacts(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Contacts#listContacts(Number)}.
+     */
+    public CompletableFuture<PaginatedResponse<Contact>> listContacts(Number account) {
+        return client.pageAsync(EndpointRequests.Contacts.listContacts(account, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Contacts#listContacts(Number, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Contact>> listContacts(Number account, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Contacts.listContacts(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Contacts#createContact(Number, ContactOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<Contact>> createContact(Number account, ContactOptions options) {
+        return client.simpleAsync(EndpointRequests.Contacts.createContact(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Contacts#getContact(Number, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<Contact>> getContact(Number account, Number contactId) {
+        return client.simpleAsync(EndpointRequests.Contacts.getContact(account, contactId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Contacts#updateContact(Number, Number, ContactOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<Contact>> updateContact(Number account, Number contactId, ContactOptions options) {
+        return client.simpleAsync(EndpointRequests.Contacts.updateContact(account, contactId, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Contacts#deleteContact(Number, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteContact(Number account, Number contactId) {
+        return client.emptyAsync(EndpointRequests.Contacts.deleteContact(account, contactId));
+    }
+}
@@ -0,0 +1,230 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.*;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.DSRecordOptions;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Provides asynchronous access to the DNSimple Domains API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/domains">https://developer.dnsimple.com/v2/domains</a>
+ */
+public class Domains {
+    private final HttpEndpointClient client;
+
+    public Domains(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listDomains(Number)}.
+     */
+    public CompletableFuture<PaginatedResponse<Domain>> listDomains(Number account) {
+        return client.pageAsync(EndpointRequests.Domains.listDomains(account, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listDomains(Number, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Domain>> listDomains(Number account, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Domains.listDomains(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#fetchAllDomains(Number, ListOptions, int)}.
+     */
+    public CompletableFuture<List<Domain>> fetchAllDomains(Number account, ListOptions options, int parallelism) {
+        return client.fetchAllAsync(EndpointRequests.Domains.listDomains(account, options), parallelism);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#fetchAllDomains(Number, ListOptions, int, Consumer)}.
+     */
+    public CompletableFuture<Void> fetchAllDomains(Number account, ListOptions options, int parallelism, Consumer<? super List<Domain>> pageConsumer) {
+        return client.fetchAllAsync(EndpointRequests.Domains.listDomains(account, options), parallelism, pageConsumer);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#createDomain(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Domain>> createDomain(Number account, String name) {
+        return client.simpleAsync(EndpointRequests.Domains.createDomain(account, name));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#getDomain(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Domain>> getDomain(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Domains.getDomain(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#deleteDomain(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteDomain(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.Domains.deleteDomain(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listCollaborators(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<Collaborator>> listCollaborators(Number account, String domain) {
+        return client.pageAsync(EndpointRequests.Domains.listCollaborators(account, domain, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listCollaborators(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Collaborator>> listCollaborators(Number account, String domain, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Domains.listCollaborators(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#addCollaborator(Number, String, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Collaborator>> addCollaborator(Number account, String domain, String email) {
+        return client.simpleAsync(EndpointRequests.Domains.addCollaborator(account, domain, email));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#removeCollaborator(Number, String, String)}.
+     */
+    public CompletableFuture<EmptyResponse> removeCollaborator(Number account, String domain, String collaboratorId) {
+        return client.emptyAsync(EndpointRequests.Domains.removeCollaborator(account, domain, collaboratorId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#enableDnssec(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Dnssec>> enableDnssec(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Domains.enableDnssec(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#disableDnssec(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> disableDnssec(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.Domains.disableDnssec(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#getDnssec(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Dnssec>> getDnssec(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Domains.getDnssec(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listDelegationSignerRecords(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<DelegationSignerRecord>> listDelegationSignerRecords(Number account, String domain) {
+        return client.pageAsync(EndpointRequests.Domains.listDelegationSignerRecords(account, domain, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listDelegationSignerRecords(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<DelegationSignerRecord>> listDelegationSignerRecords(Number account, String domain, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Domains.listDelegationSignerRecords(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#createDelegationSignerRecord(Number, String, DSRecordOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<DelegationSignerRecord>> createDelegationSignerRecord(Number account, String domain, DSRecordOptions options) {
+        return client.simpleAsync(EndpointRequests.Domains.createDelegationSignerRecord(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#getDelegationSignerRecord(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<DelegationSignerRecord>> getDelegationSignerRecord(Number account, String domain, Number dsRecordId) {
+        return client.simpleAsync(EndpointRequests.Domains.getDelegationSignerRecord(account, domain, dsRecordId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#deleteDelegationSignerRecord(Number, String, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteDelegationSignerRecord(Number account, String domain, Number dsRecordId) {
+        return client.emptyAsync(EndpointRequests.Domains.deleteDelegationSignerRecord(account, domain, dsRecordId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listEmailForwards(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<EmailForward>> listEmailForwards(Number account, String domain) {
+        return client.pageAsync(EndpointRequests.Domains.listEmailForwards(account, domain, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listEmailForwards(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<EmailForward>> listEmailForwards(Number account, String domain, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Domains.listEmailForwards(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#createEmailForward(Number, String, String, String)}.
+     */
+    public CompletableFuture<SimpleResponse<EmailForward>> createEmailForward(Number account, String domain, String aliasName, String destinationEmail) {
+        return client.simpleAsync(EndpointRequests.Domains.createEmailForward(account, domain, aliasName, destinationEmail));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#getEmailForward(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<EmailForward>> getEmailForward(Number account, String domain, Number emailForward) {
+        return client.simpleAsync(EndpointRequests.Domains.getEmailForward(account, domain, emailForward));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#deleteEmailForward(Number, String, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteEmailForward(Number account, String domain, Number emailForward) {
+        return client.emptyAsync(EndpointRequests.Domains.deleteEmailForward(account, domain, emailForward));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#initiatePush(Number, String, String)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainPush>> initiatePush(Number account, String domain, String newAccountEmail) {
+        return client.simpleAsync(EndpointRequests.Domains.initiatePush(account, domain, newAccountEmail));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listPushes(Number)}.
+     */
+    public CompletableFuture<PaginatedResponse<DomainPush>> listPushes(Number account) {
+        return client.pageAsync(EndpointRequests.Domains.listPushes(account, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#listPushes(Number, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<DomainPush>> listPushes(Number account, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Domains.listPushes(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#acceptPush(Number, Number, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> acceptPush(Number account, Number push, Number contactId) {
+        return client.emptyAsync(EndpointRequests.Domains.acceptPush(account, push, contactId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Domains#rejectPush(Number, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> rejectPush(Number account, Number push) {
+        return client.emptyAsync(EndpointRequests.Domains.rejectPush(account, push));
+    }
+}
@@ -0,0 +1,28 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.WhoamiData;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Identity API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/identity">https://developer.dnsimple.com/v2/identity</a>
+ */
+public class Identity {
+    private final HttpEndpointClient client;
+
+    public Identity(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Identity#whoami()}.
+     */
+    public CompletableFuture<SimpleResponse<WhoamiData>> whoami() {
+        return client.simpleAsync(EndpointRequests.Identity.whoami());
+    }
+}
@@ -0,0 +1,37 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.AccessToken;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.OauthAuthorizeOptions;
+import com.dnsimple.request.OauthExchangeOptions;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple OAuth API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/oauth">https://developer.dnsimple.com/v2/oauth</a>
+ */
+public class Oauth {
+    private final HttpEndpointClient client;
+
+    public Oauth(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Oauth#authorizeUrl(OauthAuthorizeOptions)},
+     * which doesn't send any request.
+     */
+    public String authorizeUrl(OauthAuthorizeOptions options) {
+        return EndpointRequests.Oauth.authorizeUrl(client.getApiBase(), options);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Oauth#exchangeAuthorizationForToken(OauthExchangeOptions)}.
+     */
+    public CompletableFuture<AccessToken> exchangeAuthorizationForToken(OauthExchangeOptions options) {
+        return client.rawAsync(EndpointRequests.Oauth.exchangeAuthorizationForToken(options));
+    }
+}
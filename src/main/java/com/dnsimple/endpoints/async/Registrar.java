@@ -0,0 +1,231 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.*;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.*;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Registrar API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/registrar">https://developer.dnsimple.com/v2/registrar</a>
+ */
+public class Registrar {
+    private final HttpEndpointClient client;
+
+    public Registrar(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#checkDomain(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainCheck>> checkDomain(Number account, String domainName) {
+        return client.simpleAsync(EndpointRequests.Registrar.checkDomain(account, domainName));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainPremiumPrice(Number, String, DomainCheckPremiumPriceAction)}.
+     *
+     * @deprecated As of this version 0.9.1, replaced by {@link #getDomainPrices(Number, String)}
+     */
+    @Deprecated
+    public CompletableFuture<SimpleResponse<DomainPremiumPriceCheck>> getDomainPremiumPrice(Number account, String domainName, DomainCheckPremiumPriceAction action) {
+        return client.simpleAsync(EndpointRequests.Registrar.getDomainPremiumPrice(account, domainName, action));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainPrices(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainPrice>> getDomainPrices(Number account, String domainName) {
+        return client.simpleAsync(EndpointRequests.Registrar.getDomainPrices(account, domainName));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainRegistration(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainRegistration>> getDomainRegistration(Number account, String domainName, Number domainRegistration) {
+        return client.simpleAsync(EndpointRequests.Registrar.getDomainRegistration(account, domainName, domainRegistration));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainRenewal(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainRenewal>> getDomainRenewal(Number account, String domainName, Number domainRenewal) {
+        return client.simpleAsync(EndpointRequests.Registrar.getDomainRenewal(account, domainName, domainRenewal));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#registerDomain(Number, String, RegistrationOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainRegistration>> registerDomain(Number account, String domainName, RegistrationOptions options) {
+        return client.simpleAsync(EndpointRequests.Registrar.registerDomain(account, domainName, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#transferDomain(Number, String, TransferOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainTransfer>> transferDomain(Number account, String domain, TransferOptions options) {
+        return client.simpleAsync(EndpointRequests.Registrar.transferDomain(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainTransfer(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainTransfer>> getDomainTransfer(Number account, String domain, Number domainTransferId) {
+        return client.simpleAsync(EndpointRequests.Registrar.getDomainTransfer(account, domain, domainTransferId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#cancelDomainTransfer(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainTransfer>> cancelDomainTransfer(Number account, String domain, Number domainTransferId) {
+        return client.simpleAsync(EndpointRequests.Registrar.cancelDomainTransfer(account, domain, domainTransferId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#renewDomain(Number, String, RenewOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainRenewal>> renewDomain(Number account, String domain, RenewOptions options) {
+        return client.simpleAsync(EndpointRequests.Registrar.renewDomain(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#authorizeTransferOut(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> authorizeTransferOut(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.Registrar.authorizeTransferOut(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#enableAutoRenewal(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> enableAutoRenewal(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.Registrar.enableAutoRenewal(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#disableAutoRenewal(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> disableAutoRenewal(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.Registrar.disableAutoRenewal(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getWhoisPrivacy(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<WhoisPrivacy>> getWhoisPrivacy(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.getWhoisPrivacy(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#enableWhoisPrivacy(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<WhoisPrivacy>> enableWhoisPrivacy(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.enableWhoisPrivacy(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#disableWhoisPrivacy(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<WhoisPrivacy>> disableWhoisPrivacy(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.disableWhoisPrivacy(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#renewWhoisPrivacy(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<WhoisPrivacyRenewal>> renewWhoisPrivacy(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.renewWhoisPrivacy(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainDelegation(Number, String)}.
+     */
+    public CompletableFuture<ListResponse<String>> getDomainDelegation(Number account, String domain) {
+        return client.listAsync(EndpointRequests.Registrar.getDomainDelegation(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#changeDomainDelegation(Number, String, List)}.
+     */
+    public CompletableFuture<ListResponse<String>> changeDomainDelegation(Number account, String domain, List<String> nameServerNames) {
+        return client.listAsync(EndpointRequests.Registrar.changeDomainDelegation(account, domain, nameServerNames));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#changeDomainDelegationToVanity(Number, String, List)}.
+     */
+    public CompletableFuture<ListResponse<VanityNameServer>> changeDomainDelegationToVanity(Number account, String domain, List<String> nameServerNames) {
+        return client.listAsync(EndpointRequests.Registrar.changeDomainDelegationToVanity(account, domain, nameServerNames));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#changeDomainDelegationFromVanity(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> changeDomainDelegationFromVanity(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.Registrar.changeDomainDelegationFromVanity(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#listRegistrantChanges(Number, ListOptions)}.
+     */
+    public CompletableFuture<ListResponse<RegistrantChange>> listRegistrantChanges(Number account, ListOptions options) {
+        return client.listAsync(EndpointRequests.Registrar.listRegistrantChanges(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#createRegistrantChange(Number, CreateRegistrantChangeInput)}.
+     */
+    public CompletableFuture<SimpleResponse<RegistrantChange>> createRegistrantChange(Number account, CreateRegistrantChangeInput input) {
+        return client.simpleAsync(EndpointRequests.Registrar.createRegistrantChange(account, input));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#checkRegistrantChange(Number, CheckRegistrantChangeInput)}.
+     */
+    public CompletableFuture<SimpleResponse<RegistrantChangeCheck>> checkRegistrantChange(Number account, CheckRegistrantChangeInput input) {
+        return client.simpleAsync(EndpointRequests.Registrar.checkRegistrantChange(account, input));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getRegistrantChange(Number, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<RegistrantChange>> getRegistrantChange(Number account, Number registrantChange) {
+        return client.simpleAsync(EndpointRequests.Registrar.getRegistrantChange(account, registrantChange));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#deleteRegistrantChange(Number, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteRegistrantChange(Number account, Number registrantChange) {
+        return client.emptyAsync(EndpointRequests.Registrar.deleteRegistrantChange(account, registrantChange));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#getDomainTransferLock(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainTransferLock>> getDomainTransferLock(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.getDomainTransferLock(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#enableDomainTransferLock(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainTransferLock>> enableDomainTransferLock(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.enableDomainTransferLock(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Registrar#disableDomainTransferLock(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<DomainTransferLock>> disableDomainTransferLock(Number account, String domain) {
+        return client.simpleAsync(EndpointRequests.Registrar.disableDomainTransferLock(account, domain));
+    }
+}
@@ -0,0 +1,74 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Service;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple one-click Services API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/services">https://developer.dnsimple.com/v2/services</a>
+ */
+public class Services {
+    private final HttpEndpointClient client;
+
+    public Services(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#listServices()}.
+     */
+    public CompletableFuture<ListResponse<Service>> listServices() {
+        return client.listAsync(EndpointRequests.Services.listServices(ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#listServices(ListOptions)}.
+     */
+    public CompletableFuture<ListResponse<Service>> listServices(ListOptions options) {
+        return client.listAsync(EndpointRequests.Services.listServices(options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#getService(String)}.
+     */
+    public CompletableFuture<SimpleResponse<Service>> getService(String service) {
+        return client.simpleAsync(EndpointRequests.Services.getService(service));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#appliedServices(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<Service>> appliedServices(Number account, String domain) {
+        return client.pageAsync(EndpointRequests.Services.appliedServices(account, domain, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#appliedServices(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Service>> appliedServices(Number account, String domain, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Services.appliedServices(account, domain, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#applyService(Number, String, String, Map)}.
+     */
+    public CompletableFuture<SimpleResponse<Service>> applyService(Number account, String domain, String service, Map<String, Object> settings) {
+        return client.simpleAsync(EndpointRequests.Services.applyService(account, domain, service, settings));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Services#unapplyService(Number, String, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Service>> unapplyService(Number account, String domain, String service) {
+        return client.simpleAsync(EndpointRequests.Services.unapplyService(account, domain, service));
+    }
+}
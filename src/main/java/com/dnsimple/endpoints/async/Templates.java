@@ -0,0 +1,111 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Template;
+import com.dnsimple.data.TemplateRecord;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.request.TemplateOptions;
+import com.dnsimple.request.TemplateRecordOptions;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Templates API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/templates">https://developer.dnsimple.com/v2/templates</a>
+ */
+public class Templates {
+    private final HttpEndpointClient client;
+
+    public Templates(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#listTemplates(Number)}.
+     */
+    public CompletableFuture<PaginatedResponse<Template>> listTemplates(Number account) {
+        return client.pageAsync(EndpointRequests.Templates.listTemplates(account, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#listTemplates(Number, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Template>> listTemplates(Number account, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Templates.listTemplates(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#createTemplate(Number, TemplateOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<Template>> createTemplate(Number account, TemplateOptions options) {
+        return client.simpleAsync(EndpointRequests.Templates.createTemplate(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#getTemplate(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Template>> getTemplate(Number account, String template) {
+        return client.simpleAsync(EndpointRequests.Templates.getTemplate(account, template));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#updateTemplate(Number, String, TemplateOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<Template>> updateTemplate(Number account, String template, TemplateOptions options) {
+        return client.simpleAsync(EndpointRequests.Templates.updateTemplate(account, template, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#deleteTemplate(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteTemplate(Number account, String template) {
+        return client.emptyAsync(EndpointRequests.Templates.deleteTemplate(account, template));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#applyTemplate(Number, String, String)}.
+     */
+    public CompletableFuture<EmptyResponse> applyTemplate(Number account, String template, String domain) {
+        return client.emptyAsync(EndpointRequests.Templates.applyTemplate(account, template, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#listTemplateRecords(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<TemplateRecord>> listTemplateRecords(Number account, String template) {
+        return client.pageAsync(EndpointRequests.Templates.listTemplateRecords(account, template, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#listTemplateRecords(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<TemplateRecord>> listTemplateRecords(Number account, String template, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Templates.listTemplateRecords(account, template, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#createTemplateRecord(Number, String, TemplateRecordOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<TemplateRecord>> createTemplateRecord(Number account, String template, TemplateRecordOptions options) {
+        return client.simpleAsync(EndpointRequests.Templates.createTemplateRecord(account, template, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#getTemplateRecord(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<TemplateRecord>> getTemplateRecord(Number account, String template, Number record) {
+        return client.simpleAsync(EndpointRequests.Templates.getTemplateRecord(account, template, record));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Templates#deleteTemplateRecord(Number, String, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteTemplateRecord(Number account, String template, Number record) {
+        return client.emptyAsync(EndpointRequests.Templates.deleteTemplateRecord(account, template, record));
+    }
+}
@@ -0,0 +1,53 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Tld;
+import com.dnsimple.data.TldExtendedAttribute;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple TLDs API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/tlds">https://developer.dnsimple.com/v2/tlds</a>
+ */
+public class Tlds {
+    private final HttpEndpointClient client;
+
+    public Tlds(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Tlds#listTlds()}.
+     */
+    public CompletableFuture<PaginatedResponse<Tld>> listTlds() {
+        return client.pageAsync(EndpointRequests.Tlds.listTlds(ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Tlds#listTlds(ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Tld>> listTlds(ListOptions options) {
+        return client.pageAsync(EndpointRequests.Tlds.listTlds(options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Tlds#getTld(String)}.
+     */
+    public CompletableFuture<SimpleResponse<Tld>> getTld(String tld) {
+        return client.simpleAsync(EndpointRequests.Tlds.getTld(tld));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Tlds#getTldExtendedAttributes(String)}.
+     */
+    public CompletableFuture<ListResponse<TldExtendedAttribute>> getTldExtendedAttributes(String tld) {
+        return client.listAsync(EndpointRequests.Tlds.getTldExtendedAttributes(tld));
+    }
+}
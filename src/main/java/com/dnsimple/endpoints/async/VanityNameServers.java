@@ -0,0 +1,37 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.VanityNameServer;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.ListResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the  DNSimple Vanity Name Server API
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/domains/vanity">https://developer.dnsimple.com/v2/domains/vanity</a>
+ */
+public class VanityNameServers {
+    private final HttpEndpointClient client;
+
+    public VanityNameServers(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.VanityNameServers#enableVanityNameServers(Number, String)}.
+     */
+    public CompletableFuture<ListResponse<VanityNameServer>> enableVanityNameServers(Number account, String domain) {
+        return client.listAsync(EndpointRequests.VanityNameServers.enableVanityNameServers(account, domain));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.VanityNameServers#disableVanityNameServers(Number, String)}.
+     */
+    public CompletableFuture<EmptyResponse> disableVanityNameServers(Number account, String domain) {
+        return client.emptyAsync(EndpointRequests.VanityNameServers.disableVanityNameServers(account, domain));
+    }
+}
+
@@ -0,0 +1,59 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Webhook;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Provides asynchronous access to the DNSimple Webhooks API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/webhooks">https://developer.dnsimple.com/v2/webhooks</a>
+ */
+public class Webhooks {
+    private final HttpEndpointClient client;
+
+    public Webhooks(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Webhooks#listWebhooks(Number)}.
+     */
+    public CompletableFuture<ListResponse<Webhook>> listWebhooks(Number account) {
+        return client.listAsync(EndpointRequests.Webhooks.listWebhooks(account, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Webhooks#listWebhooks(Number, ListOptions)}.
+     */
+    public CompletableFuture<ListResponse<Webhook>> listWebhooks(Number account, ListOptions options) {
+        return client.listAsync(EndpointRequests.Webhooks.listWebhooks(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Webhooks#createWebhook(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Webhook>> createWebhook(Number account, String url) {
+        return client.simpleAsync(EndpointRequests.Webhooks.createWebhook(account, url));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Webhooks#getWebhook(Number, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<Webhook>> getWebhook(Number account, Number webhookId) {
+        return client.simpleAsync(EndpointRequests.Webhooks.getWebhook(account, webhookId));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Webhooks#deleteWebhook(Number, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteWebhook(Number account, Number webhookId) {
+        return client.emptyAsync(EndpointRequests.Webhooks.deleteWebhook(account, webhookId));
+    }
+}
@@ -0,0 +1,157 @@
+package com.dnsimple.endpoints.async;
+
+import com.dnsimple.data.Zone;
+import com.dnsimple.data.ZoneDistribution;
+import com.dnsimple.data.ZoneFile;
+import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.endpoints.EndpointRequests;
+import com.dnsimple.http.HttpEndpointClient;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.request.ZoneRecordOptions;
+import com.dnsimple.request.ZoneRecordUpdateOptions;
+import com.dnsimple.response.EmptyResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.SimpleResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Provides asynchronous access to the DNSimple Zones API.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/zones">https://developer.dnsimple.com/v2/zones</a>
+ */
+public class Zones {
+    private final HttpEndpointClient client;
+
+    public Zones(HttpEndpointClient client) {
+        this.client = client;
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#activateDns(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Zone>> activateDns(Number account, String zoneName) {
+        return client.simpleAsync(EndpointRequests.Zones.activateDns(account, zoneName));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#deactivateDns(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Zone>> deactivateDns(Number account, String zoneName) {
+        return client.simpleAsync(EndpointRequests.Zones.deactivateDns(account, zoneName));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#listZones(Number)}.
+     */
+    public CompletableFuture<PaginatedResponse<Zone>> listZones(Number account) {
+        return client.pageAsync(EndpointRequests.Zones.listZones(account, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#listZones(Number, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<Zone>> listZones(Number account, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Zones.listZones(account, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#fetchAllZones(Number, ListOptions, int)}.
+     */
+    public CompletableFuture<List<Zone>> fetchAllZones(Number account, ListOptions options, int parallelism) {
+        return client.fetchAllAsync(EndpointRequests.Zones.listZones(account, options), parallelism);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#fetchAllZones(Number, ListOptions, int, Consumer)}.
+     */
+    public CompletableFuture<Void> fetchAllZones(Number account, ListOptions options, int parallelism, Consumer<? super List<Zone>> pageConsumer) {
+        return client.fetchAllAsync(EndpointRequests.Zones.listZones(account, options), parallelism, pageConsumer);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#getZone(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<Zone>> getZone(Number account, String zone) {
+        return client.simpleAsync(EndpointRequests.Zones.getZone(account, zone));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#getZoneFile(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<ZoneFile>> getZoneFile(Number account, String zone) {
+        return client.simpleAsync(EndpointRequests.Zones.getZoneFile(account, zone));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#checkZoneDistribution(Number, String)}.
+     */
+    public CompletableFuture<SimpleResponse<ZoneDistribution>> checkZoneDistribution(Number account, String zone) {
+        return client.simpleAsync(EndpointRequests.Zones.checkZoneDistribution(account, zone));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#listZoneRecords(Number, String)}.
+     */
+    public CompletableFuture<PaginatedResponse<ZoneRecord>> listZoneRecords(Number account, String zone) {
+        return client.pageAsync(EndpointRequests.Zones.listZoneRecords(account, zone, ListOptions.empty()));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#listZoneRecords(Number, String, ListOptions)}.
+     */
+    public CompletableFuture<PaginatedResponse<ZoneRecord>> listZoneRecords(Number account, String zone, ListOptions options) {
+        return client.pageAsync(EndpointRequests.Zones.listZoneRecords(account, zone, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#fetchAllZoneRecords(Number, String, ListOptions, int)}.
+     */
+    public CompletableFuture<List<ZoneRecord>> fetchAllZoneRecords(Number account, String zone, ListOptions options, int parallelism) {
+        return client.fetchAllAsync(EndpointRequests.Zones.listZoneRecords(account, zone, options), parallelism);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#fetchAllZoneRecords(Number, String, ListOptions, int, Consumer)}.
+     */
+    public CompletableFuture<Void> fetchAllZoneRecords(Number account, String zone, ListOptions options, int parallelism, Consumer<? super List<ZoneRecord>> pageConsumer) {
+        return client.fetchAllAsync(EndpointRequests.Zones.listZoneRecords(account, zone, options), parallelism, pageConsumer);
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#createZoneRecord(Number, String, ZoneRecordOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<ZoneRecord>> createZoneRecord(Number account, String zone, ZoneRecordOptions options) {
+        return client.simpleAsync(EndpointRequests.Zones.createZoneRecord(account, zone, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#getZoneRecord(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<ZoneRecord>> getZoneRecord(Number account, String zone, Number record) {
+        return client.simpleAsync(EndpointRequests.Zones.getZoneRecord(account, zone, record));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#updateZoneRecord(Number, String, Number, ZoneRecordUpdateOptions)}.
+     */
+    public CompletableFuture<SimpleResponse<ZoneRecord>> updateZoneRecord(Number account, String zone, Number record, ZoneRecordUpdateOptions options) {
+        return client.simpleAsync(EndpointRequests.Zones.updateZoneRecord(account, zone, record, options));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#deleteZoneRecord(Number, String, Number)}.
+     */
+    public CompletableFuture<EmptyResponse> deleteZoneRecord(Number account, String zone, Number record) {
+        return client.emptyAsync(EndpointRequests.Zones.deleteZoneRecord(account, zone, record));
+    }
+
+    /**
+     * Non-blocking variant of {@link com.dnsimple.endpoints.Zones#checkZoneRecordDistribution(Number, String, Number)}.
+     */
+    public CompletableFuture<SimpleResponse<ZoneDistribution>> checkZoneRecordDistribution(Number account, String zone, Number record) {
+        return client.simpleAsync(EndpointRequests.Zones.checkZoneRecordDistribution(account, zone, record));
+    }
+}
@@ -0,0 +1,14 @@
+package com.dnsimple.exception;
+
+public class BulkheadFullException extends DnsimpleException {
+    private final int maxConcurrentRequests;
+
+    public BulkheadFullException(int maxConcurrentRequests) {
+        super("The request was not sent because its endpoints already have " + maxConcurrentRequests + " requests in flight");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+}
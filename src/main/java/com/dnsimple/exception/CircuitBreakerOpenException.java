@@ -0,0 +1,19 @@
+package com.dnsimple.exception;
+
+import java.time.Duration;
+
+public class CircuitBreakerOpenException extends DnsimpleException {
+    private final Duration retryAfter;
+
+    public CircuitBreakerOpenException(Duration retryAfter) {
+        super("The request was not sent because the circuit breaker of its endpoints is open after repeated failures");
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return the time left until the circuit breaker lets a probe request through
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
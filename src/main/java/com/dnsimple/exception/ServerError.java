@@ -1,14 +1,32 @@
 package com.dnsimple.exception;
 
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+
 public class ServerError extends DnsimpleException {
     private final int statusCode;
+    private final Map<String, List<String>> headers;
 
     public ServerError(int statusCode) {
+        this(statusCode, emptyMap());
+    }
+
+    public ServerError(int statusCode, Map<String, List<String>> headers) {
         super("The server failed to process the request and responded with an HTTP " + statusCode + " error");
         this.statusCode = statusCode;
+        this.headers = headers;
     }
 
     public int getStatusCode() {
         return statusCode;
     }
+
+    /**
+     * @return the headers of the error response, like the rate limit headers
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
 }
@@ -0,0 +1,37 @@
+package com.dnsimple.exception;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Collections.emptyMap;
+
+public class TooManyRequestsException extends BadRequestException {
+    private final Optional<Duration> retryAfter;
+    private final Map<String, List<String>> headers;
+
+    public TooManyRequestsException(Map<String, Object> body, Optional<Duration> retryAfter) {
+        this(body, retryAfter, emptyMap());
+    }
+
+    public TooManyRequestsException(Map<String, Object> body, Optional<Duration> retryAfter, Map<String, List<String>> headers) {
+        super(429, body);
+        this.retryAfter = retryAfter;
+        this.headers = headers;
+    }
+
+    /**
+     * @return the time to wait before retrying the request, as requested by the server's Retry-After header
+     */
+    public Optional<Duration> getRetryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * @return the headers of the error response, like the rate limit headers
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+}
@@ -0,0 +1,191 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.DnsimpleException;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.exception.TooManyRequestsException;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * AdaptiveConcurrencyLimiter finds how many requests can be in flight at the same time
+ * before the API starts to slow down or fail, and keeps the requests sent through it
+ * under that limit.
+ * <p>
+ * The limit follows the gradient between the long-term and the short-term average
+ * latencies of the responses. While the recent latency stays within 1.5 times the
+ * long-term one, the API isn't queueing requests and the limit grows by a fifth of its
+ * square root per request, as long as the requests use at least half of it.
+ * When the recent latency rises above that, the limit shrinks in proportion, by up to a
+ * half. Comparing averages instead of a fixed baseline keeps the limit stable when the
+ * requests mix fast and slow endpoints, since only a change of the latency, and not its
+ * level, reads as congestion.
+ * <p>
+ * When a request fails with a server error (5xx), a 429 Too Many Requests error or a
+ * network error, the limit shrinks by a quarter, at most once per round trip, since the
+ * requests that were already in flight don't reflect the reduction yet.
+ * <p>
+ * Requests that find the limit reached wait in order until another request finishes.
+ * <p>
+ * Instances are thread-safe and can be shared between Client objects to limit all their
+ * requests together.
+ *
+ * @see ConcurrencyLimitedHttpRequestFactory
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final int DEFAULT_INITIAL_LIMIT = 10;
+    private static final int DEFAULT_MIN_LIMIT = 1;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final double LATENCY_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SHORT_TERM_WEIGHT = 2.0 / (10 + 1);
+    private static final double LONG_TERM_WEIGHT = 2.0 / (600 + 1);
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.75;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private double shortTermLatency;
+    private double longTermLatency;
+    private long lastDecrease = Long.MIN_VALUE;
+
+    public AdaptiveConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * @param initialLimit the number of concurrent requests allowed until the limit adapts
+     * @param minLimit     the lowest limit the limiter can back off to
+     * @param maxLimit     the highest limit the limiter can grow to
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1)
+            throw new IllegalArgumentException("The minimum limit must be greater than 0");
+        if (initialLimit < minLimit || initialLimit > maxLimit)
+            throw new IllegalArgumentException("The initial limit must be between the minimum and maximum limits");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * @return the number of requests currently allowed to be in flight at the same time
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return the number of requests currently in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Blocks the calling thread until a request can be sent.
+     */
+    void acquire() {
+        CompletableFuture<Void> permit = acquireAsync();
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false))
+                release();
+            Thread.currentThread().interrupt();
+            throw new DnsimpleException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return a future that completes when a request can be sent
+     */
+    synchronized CompletableFuture<Void> acquireAsync() {
+        if (waiters.isEmpty() && inFlight < (int) limit) {
+            inFlight++;
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    /**
+     * Records the outcome of a request sent with a permit of this limiter and gives the
+     * permit back.
+     *
+     * @param start   the System.nanoTime() value when the request was sent
+     * @param latency the time the request took, in nanoseconds
+     * @param error   the error the request failed with, or null if it succeeded
+     */
+    void record(long start, long latency, Throwable error) {
+        synchronized (this) {
+            if (isOverload(error)) {
+                if (start > lastDecrease) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    lastDecrease = start + latency;
+                }
+            } else if (error == null || error instanceof DnsimpleException) {
+                updateLimit(latency);
+            }
+        }
+        release();
+    }
+
+    private void updateLimit(long latency) {
+        if (longTermLatency == 0) {
+            shortTermLatency = latency;
+            longTermLatency = latency;
+        }
+        shortTermLatency += (latency - shortTermLatency) * SHORT_TERM_WEIGHT;
+        longTermLatency += (latency - longTermLatency) * LONG_TERM_WEIGHT;
+        // After a long period of high latency the long-term average lags behind, and
+        // letting it recover faster avoids keeping the limit high when latency rises again
+        if (longTermLatency > shortTermLatency * 2)
+            longTermLatency *= 0.95;
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, LATENCY_TOLERANCE * longTermLatency / shortTermLatency));
+        double target = limit * gradient + Math.sqrt(limit);
+        double next = limit * (1 - SMOOTHING) + target * SMOOTHING;
+        // Requests that don't use the limit say nothing about whether it could be higher
+        if (inFlight * 2 < limit)
+            next = Math.min(next, limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    /**
+     * Gives a permit back and hands permits to the waiters that fit in the limit, which
+     * may be more than one when the limit has just grown. Waiters are completed outside
+     * the lock, since completing them runs the requests that depend on them.
+     */
+    private void release() {
+        List<CompletableFuture<Void>> next = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                CompletableFuture<Void> waiter = waiters.poll();
+                if (!waiter.isDone()) {
+                    inFlight++;
+                    next.add(waiter);
+                }
+            }
+        }
+        for (CompletableFuture<Void> waiter : next)
+            if (!waiter.complete(null))
+                release();
+    }
+
+    private static boolean isOverload(Throwable error) {
+        return error instanceof ServerError
+                || error instanceof TooManyRequestsException
+                || error instanceof DnsimpleException && error.getCause() instanceof IOException;
+    }
+}
@@ -0,0 +1,85 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.BulkheadFullException;
+import com.dnsimple.exception.DnsimpleException;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Bulkhead caps the number of requests to a group of endpoints that can be in flight at
+ * the same time, so that a slow backend can only tie up that many threads and connections,
+ * leaving the rest for other endpoints.
+ * <p>
+ * Blocking requests that find the bulkhead full wait up to the configured time for
+ * another request to finish, and non-blocking requests never wait. Requests that can't
+ * be sent fail with a BulkheadFullException.
+ * <p>
+ * Instances are thread-safe. Requests to all the endpoints that share an instance are
+ * counted together.
+ *
+ * @see BulkheadHttpRequestFactory
+ */
+public class Bulkhead {
+    private final int maxConcurrentRequests;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+
+    /**
+     * @param maxConcurrentRequests the maximum number of requests in flight at the same time
+     */
+    public Bulkhead(int maxConcurrentRequests) {
+        this(maxConcurrentRequests, Duration.ZERO);
+    }
+
+    /**
+     * @param maxConcurrentRequests the maximum number of requests in flight at the same time
+     * @param maxWait               the maximum time a blocking request waits for the bulkhead to have room for it
+     */
+    public Bulkhead(int maxConcurrentRequests, Duration maxWait) {
+        if (maxConcurrentRequests < 1)
+            throw new IllegalArgumentException("The maximum number of concurrent requests must be greater than 0");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrentRequests);
+    }
+
+    /**
+     * @return the number of requests that can be sent right now without waiting
+     */
+    public int getAvailableRequests() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Blocks the calling thread until the bulkhead has room for a request, or the maximum
+     * wait time passes.
+     *
+     * @throws BulkheadFullException if the bulkhead is still full after the maximum wait time
+     */
+    void acquire() {
+        try {
+            if (!permits.tryAcquire(maxWaitNanos, NANOSECONDS))
+                throw new BulkheadFullException(maxConcurrentRequests);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DnsimpleException(e);
+        }
+    }
+
+    /**
+     * Takes room for a request without waiting.
+     *
+     * @throws BulkheadFullException if the bulkhead is full
+     */
+    void tryAcquire() {
+        if (!permits.tryAcquire())
+            throw new BulkheadFullException(maxConcurrentRequests);
+    }
+
+    void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,61 @@
+package com.dnsimple.http;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * HttpRequestFactory decorator that sends requests through another factory only while
+ * a Bulkhead has room for them, and holds that room until their response arrives.
+ *
+ * @see Bulkhead
+ */
+public class BulkheadHttpRequestFactory implements HttpRequestFactory {
+    private final HttpRequestFactory delegate;
+    private final Bulkhead bulkhead;
+
+    public BulkheadHttpRequestFactory(HttpRequestFactory delegate, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        bulkhead.acquire();
+        try {
+            return delegate.execute(userAgent, accessToken, method, uri, body, headers);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        try {
+            bulkhead.tryAcquire();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<RawResponse> response;
+        try {
+            response = delegate.executeAsync(userAgent, accessToken, method, uri, body, headers);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+        return response.whenComplete((rawResponse, error) -> bulkhead.release());
+    }
+}
@@ -0,0 +1,99 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Certificate;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+class CertificateTypeAdapter extends DataTypeAdapter<Certificate> {
+    private final boolean lazyTimestamps;
+
+    CertificateTypeAdapter(Gson gson, TypeAdapter<Certificate> delegate, boolean lazyTimestamps) {
+        super(gson, delegate);
+        this.lazyTimestamps = lazyTimestamps;
+    }
+
+    @Override
+    Certificate readFields(JsonReader in) throws IOException {
+        Long id = null;
+        Long domainId = null;
+        String commonName = null;
+        List<String> alternateNames = null;
+        Integer years = null;
+        String state = null;
+        String authorityIdentifier = null;
+        Boolean autoRenew = null;
+        OffsetDateTime createdAt = null;
+        String createdAtValue = null;
+        OffsetDateTime updatedAt = null;
+        String updatedAtValue = null;
+        OffsetDateTime expiresAt = null;
+        String expiresAtValue = null;
+        String csr = null;
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = nextLong(in);
+                    break;
+                case "domain_id":
+                    domainId = nextLong(in);
+                    break;
+                case "common_name":
+                    commonName = nextString(in);
+                    break;
+                case "alternate_names":
+                    alternateNames = nextStringList(in);
+                    break;
+                case "years":
+                    years = nextInteger(in);
+                    break;
+                case "state":
+                    state = nextString(in);
+                    break;
+                case "authority_identifier":
+                    authorityIdentifier = nextString(in);
+                    break;
+                case "auto_renew":
+                    autoRenew = nextBoolean(in);
+                    break;
+                case "created_at":
+                    if (lazyTimestamps)
+                        createdAtValue = nextString(in);
+                    else
+                        createdAt = nextOffsetDateTime(in);
+                    break;
+                case "updated_at":
+                    if (lazyTimestamps)
+                        updatedAtValue = nextString(in);
+                    else
+                        updatedAt = nextOffsetDateTime(in);
+                    break;
+                case "expires_at":
+                    if (lazyTimestamps)
+                        expiresAtValue = nextString(in);
+                    else
+                        expiresAt = nextOffsetDateTime(in);
+                    break;
+                case "csr":
+                    csr = nextString(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        if (lazyTimestamps)
+            return new LazyCertificate(id, domainId, commonName, alternateNames, years, state, authorityIdentifier, autoRenew, createdAtValue, updatedAtValue, expiresAtValue, csr);
+        return new Certificate(id, domainId, commonName, alternateNames, years, state, authorityIdentifier, autoRenew, createdAt, updatedAt, expiresAt, csr);
+    }
+
+    @Override
+    Certificate writable(Certificate value) {
+        if (value.getClass() == Certificate.class)
+            return value;
+        return new Certificate(value.getId(), value.getDomainId(), value.getCommonName(), value.getAlternateNames(), value.getYears(), value.getState(), value.getAuthorityIdentifier(), value.hasAutoRenew(), value.getCreatedAt(), value.getUpdatedAt(), value.getExpiresAt(), value.getCertificateRequest());
+    }
+}
@@ -0,0 +1,137 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.CircuitBreakerOpenException;
+import com.dnsimple.exception.DnsimpleException;
+import com.dnsimple.exception.ServerError;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * CircuitBreaker stops sending requests to a group of endpoints that keep failing, so
+ * that calls fail fast with a CircuitBreakerOpenException instead of waiting for an
+ * unhealthy backend and tying up threads that other endpoints need.
+ * <p>
+ * The breaker starts closed, letting all requests through. It opens after the configured
+ * number of consecutive failures, which are server errors (5xx) and network errors such
+ * as connection resets or request timeouts. Once the open duration has passed, it
+ * becomes half-open and lets a single probe request through: the breaker closes again
+ * if the probe succeeds, and opens for another period if it fails. Any other response,
+ * including client errors (4xx), counts as a success.
+ * <p>
+ * Only the outcomes of the requests let through since the last change of state count,
+ * so that a slow request sent while the breaker was closed can't close it again once it
+ * has opened.
+ * <p>
+ * Instances are thread-safe. Requests to all the endpoints that share an instance are
+ * counted together.
+ *
+ * @see CircuitBreakingHttpRequestFactory
+ */
+public class CircuitBreaker {
+    private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    private final int failureThreshold;
+    private final long openDurationMillis;
+    private final Clock clock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private long generation;
+    private boolean probeInFlight;
+
+    /**
+     * The states of a circuit breaker
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public CircuitBreaker() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    /**
+     * @param failureThreshold the number of consecutive failures that open the breaker
+     * @param openDuration     the time the breaker stays open before letting a probe request through
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 1)
+            throw new IllegalArgumentException("The failure threshold must be greater than 0");
+        this.failureThreshold = failureThreshold;
+        this.openDurationMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * @return the current state of the breaker
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.millis() - openedAt >= openDurationMillis)
+            return State.HALF_OPEN;
+        return state;
+    }
+
+    /**
+     * Asks for permission to send a request.
+     *
+     * @return the permit, which identifies the state the request was let through in
+     * @throws CircuitBreakerOpenException if the breaker is open, or if it's half-open and
+     *                                     its probe request is still in flight
+     */
+    synchronized long acquire() {
+        if (state == State.CLOSED)
+            return generation;
+        long elapsed = clock.millis() - openedAt;
+        if (state == State.OPEN && elapsed >= openDurationMillis)
+            transition(State.HALF_OPEN);
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return generation;
+        }
+        throw new CircuitBreakerOpenException(Duration.ofMillis(Math.max(0, openDurationMillis - elapsed)));
+    }
+
+    /**
+     * Records the outcome of a request sent with the permission of this breaker. Outcomes
+     * of permits granted before the last change of state are ignored.
+     *
+     * @param permit the permit returned by acquire() for the request
+     * @param error  the error the request failed with, or null if it succeeded
+     */
+    synchronized void record(long permit, Throwable error) {
+        if (permit != generation)
+            return;
+        if (error != null && !(error instanceof DnsimpleException)) {
+            // Neither a response nor a failure of the API, like a cancellation or an Error
+            probeInFlight = false;
+        } else if (isFailure(error)) {
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                openedAt = clock.millis();
+                transition(State.OPEN);
+            }
+        } else if (state == State.HALF_OPEN) {
+            transition(State.CLOSED);
+        } else {
+            consecutiveFailures = 0;
+        }
+    }
+
+    private void transition(State next) {
+        state = next;
+        generation++;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    private static boolean isFailure(Throwable error) {
+        return error instanceof ServerError
+                || error instanceof DnsimpleException && error.getCause() instanceof IOException;
+    }
+}
@@ -0,0 +1,68 @@
+package com.dnsimple.http;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * HttpRequestFactory decorator that sends requests through another factory only while
+ * a CircuitBreaker lets them through, and feeds the breaker with their outcome.
+ *
+ * @see CircuitBreaker
+ */
+public class CircuitBreakingHttpRequestFactory implements HttpRequestFactory {
+    private final HttpRequestFactory delegate;
+    private final CircuitBreaker breaker;
+
+    public CircuitBreakingHttpRequestFactory(HttpRequestFactory delegate, CircuitBreaker breaker) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        long permit = breaker.acquire();
+        RawResponse response;
+        try {
+            response = delegate.execute(userAgent, accessToken, method, uri, body, headers);
+        } catch (Throwable e) {
+            breaker.record(permit, e);
+            throw e;
+        }
+        breaker.record(permit, null);
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        long permit;
+        try {
+            permit = breaker.acquire();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<RawResponse> response;
+        try {
+            response = delegate.executeAsync(userAgent, accessToken, method, uri, body, headers);
+        } catch (Throwable e) {
+            breaker.record(permit, e);
+            throw e;
+        }
+        return response.whenComplete((rawResponse, error) ->
+                breaker.record(permit, error instanceof CompletionException ? error.getCause() : error));
+    }
+}
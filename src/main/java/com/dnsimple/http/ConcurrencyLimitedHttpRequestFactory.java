@@ -0,0 +1,67 @@
+package com.dnsimple.http;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Collections.emptyMap;
+
+/**
+ * HttpRequestFactory decorator that keeps the requests sent through another factory
+ * under the limit of an AdaptiveConcurrencyLimiter, and feeds the limiter with the
+ * latency and outcome of every request.
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+public class ConcurrencyLimitedHttpRequestFactory implements HttpRequestFactory {
+    private final HttpRequestFactory delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedHttpRequestFactory(HttpRequestFactory delegate, AdaptiveConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        limiter.acquire();
+        long start = System.nanoTime();
+        Throwable error = null;
+        try {
+            return delegate.execute(userAgent, accessToken, method, uri, body, headers);
+        } catch (Throwable e) {
+            error = e;
+            throw e;
+        } finally {
+            limiter.record(start, System.nanoTime() - start, error);
+        }
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        return limiter.acquireAsync().thenCompose(ignored -> {
+            long start = System.nanoTime();
+            CompletableFuture<RawResponse> response;
+            try {
+                response = delegate.executeAsync(userAgent, accessToken, method, uri, body, headers);
+            } catch (Throwable e) {
+                limiter.record(start, System.nanoTime() - start, e);
+                throw e;
+            }
+            return response.whenComplete((rawResponse, error) ->
+                    limiter.record(start, System.nanoTime() - start, error instanceof CompletionException ? error.getCause() : error));
+        });
+    }
+}
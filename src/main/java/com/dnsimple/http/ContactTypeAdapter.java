@@ -0,0 +1,98 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Contact;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+class ContactTypeAdapter extends DataTypeAdapter<Contact> {
+    ContactTypeAdapter(Gson gson, TypeAdapter<Contact> delegate) {
+        super(gson, delegate);
+    }
+
+    @Override
+    Contact readFields(JsonReader in) throws IOException {
+        Long id = null;
+        Long accountId = null;
+        String label = null;
+        String firstName = null;
+        String lastName = null;
+        String jobTitle = null;
+        String organizationName = null;
+        String address1 = null;
+        String address2 = null;
+        String city = null;
+        String stateProvince = null;
+        String postalCode = null;
+        String country = null;
+        String phone = null;
+        String fax = null;
+        String email = null;
+        OffsetDateTime createdAt = null;
+        OffsetDateTime updatedAt = null;
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = nextLong(in);
+                    break;
+                case "account_id":
+                    accountId = nextLong(in);
+                    break;
+                case "label":
+                    label = nextString(in);
+                    break;
+                case "first_name":
+                    firstName = nextString(in);
+                    break;
+                case "last_name":
+                    lastName = nextString(in);
+                    break;
+                case "job_title":
+                    jobTitle = nextString(in);
+                    break;
+                case "organization_name":
+                    organizationName = nextString(in);
+                    break;
+                case "address1":
+                    address1 = nextString(in);
+                    break;
+                case "address2":
+                    address2 = nextString(in);
+                    break;
+                case "city":
+                    city = nextString(in);
+                    break;
+                case "state_province":
+                    stateProvince = nextString(in);
+                    break;
+                case "postal_code":
+                    postalCode = nextString(in);
+                    break;
+                case "country":
+                    country = nextString(in);
+                    break;
+                case "phone":
+                    phone = nextString(in);
+                    break;
+                case "fax":
+                    fax = nextString(in);
+                    break;
+                case "email":
+                    email = nextString(in);
+                    break;
+                case "created_at":
+                    createdAt = nextOffsetDateTime(in);
+                    break;
+                case "updated_at":
+                    updatedAt = nextOffsetDateTime(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        return new Contact(id, accountId, label, firstName, lastName, jobTitle, organizationName, address1, address2, city, stateProvince, postalCode, country, phone, fax, email, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,122 @@
+package com.dnsimple.http;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.gson.stream.JsonToken.*;
+
+/**
+ * Base class of the hand-written adapters that read the most frequently listed data
+ * classes field by field, instead of going through Gson's reflective adapter and its
+ * field name translation.
+ * <p>
+ * Fields missing from the JSON object are left null and unknown fields are skipped, as
+ * the reflective adapter does. Writing is delegated to the reflective adapter.
+ */
+abstract class DataTypeAdapter<T> extends TypeAdapter<T> {
+    private final TypeAdapter<T> delegate;
+    private final TypeAdapter<OffsetDateTime> offsetDateTimeAdapter;
+
+    DataTypeAdapter(Gson gson, TypeAdapter<T> delegate) {
+        this.delegate = delegate;
+        this.offsetDateTimeAdapter = gson.getAdapter(TypeToken.get(OffsetDateTime.class));
+    }
+
+    @Override
+    public void write(JsonWriter out, T value) throws IOException {
+        delegate.write(out, value == null ? null : writable(value));
+    }
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        if (in.peek() == NULL) {
+            in.nextNull();
+            return null;
+        }
+        in.beginObject();
+        T value = readFields(in);
+        in.endObject();
+        return value;
+    }
+
+    /**
+     * Reads all the fields of the current JSON object and builds the data object
+     */
+    abstract T readFields(JsonReader in) throws IOException;
+
+    /**
+     * Objects of the data class itself are returned as they are, and objects of any
+     * subclass, like the lazy variants or views, are copied into one.
+     *
+     * @return an object with the same data as the provided one that can be written by
+     * the reflective adapter
+     */
+    T writable(T value) {
+        return value;
+    }
+
+    static Long nextLong(JsonReader in) throws IOException {
+        if (in.peek() == NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextLong();
+    }
+
+    static Integer nextInteger(JsonReader in) throws IOException {
+        if (in.peek() == NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    static Boolean nextBoolean(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case NULL:
+                in.nextNull();
+                return null;
+            case STRING:
+                return Boolean.parseBoolean(in.nextString());
+            default:
+                return in.nextBoolean();
+        }
+    }
+
+    static String nextString(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case NULL:
+                in.nextNull();
+                return null;
+            case BOOLEAN:
+                return Boolean.toString(in.nextBoolean());
+            default:
+                return in.nextString();
+        }
+    }
+
+    static List<String> nextStringList(JsonReader in) throws IOException {
+        if (in.peek() == NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<String> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext())
+            list.add(nextString(in));
+        in.endArray();
+        return list;
+    }
+
+    OffsetDateTime nextOffsetDateTime(JsonReader in) throws IOException {
+        return offsetDateTimeAdapter.read(in);
+    }
+}
@@ -0,0 +1,49 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.*;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Provides the hand-written adapters of the data classes that appear in the largest
+ * responses, letting Gson fall back to its reflective adapter for the rest.
+ * <p>
+ * With lazy timestamps, ZoneRecord, Domain and Certificate objects are read as
+ * subclasses that parse their timestamps when their getters are first called. With a
+ * string pool, the repeated strings of ZoneRecord objects are shared through it.
+ */
+class DataTypeAdapterFactory implements TypeAdapterFactory {
+    private final boolean lazyTimestamps;
+    private final StringPool stringPool;
+
+    DataTypeAdapterFactory(boolean lazyTimestamps) {
+        this(lazyTimestamps, null);
+    }
+
+    /**
+     * @param stringPool the pool used to share repeated strings, or null to not share them
+     */
+    DataTypeAdapterFactory(boolean lazyTimestamps, StringPool stringPool) {
+        this.lazyTimestamps = lazyTimestamps;
+        this.stringPool = stringPool;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == ZoneRecord.class)
+            return (TypeAdapter<T>) new ZoneRecordTypeAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(ZoneRecord.class)), lazyTimestamps, stringPool);
+        if (rawType == Zone.class)
+            return (TypeAdapter<T>) new ZoneTypeAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Zone.class)));
+        if (rawType == Domain.class)
+            return (TypeAdapter<T>) new DomainTypeAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Domain.class)), lazyTimestamps);
+        if (rawType == Certificate.class)
+            return (TypeAdapter<T>) new CertificateTypeAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Certificate.class)), lazyTimestamps);
+        if (rawType == Contact.class)
+            return (TypeAdapter<T>) new ContactTypeAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Contact.class)));
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Domain;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+class DomainTypeAdapter extends DataTypeAdapter<Domain> {
+    private final boolean lazyTimestamps;
+
+    DomainTypeAdapter(Gson gson, TypeAdapter<Domain> delegate, boolean lazyTimestamps) {
+        super(gson, delegate);
+        this.lazyTimestamps = lazyTimestamps;
+    }
+
+    @Override
+    Domain readFields(JsonReader in) throws IOException {
+        Long id = null;
+        Long accountId = null;
+        Long registrantId = null;
+        String name = null;
+        String unicodeName = null;
+        String token = null;
+        String state = null;
+        Boolean autoRenew = null;
+        Boolean privateWhois = null;
+        OffsetDateTime expiresAt = null;
+        String expiresAtValue = null;
+        OffsetDateTime createdAt = null;
+        String createdAtValue = null;
+        OffsetDateTime updatedAt = null;
+        String updatedAtValue = null;
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = nextLong(in);
+                    break;
+                case "account_id":
+                    accountId = nextLong(in);
+                    break;
+                case "registrant_id":
+                    registrantId = nextLong(in);
+                    break;
+                case "name":
+                    name = nextString(in);
+                    break;
+                case "unicode_name":
+                    unicodeName = nextString(in);
+                    break;
+                case "token":
+                    token = nextString(in);
+                    break;
+                case "state":
+                    state = nextString(in);
+                    break;
+                case "auto_renew":
+                    autoRenew = nextBoolean(in);
+                    break;
+                case "private_whois":
+                    privateWhois = nextBoolean(in);
+                    break;
+                case "expires_at":
+                    if (lazyTimestamps)
+                        expiresAtValue = nextString(in);
+                    else
+                        expiresAt = nextOffsetDateTime(in);
+                    break;
+                case "created_at":
+                    if (lazyTimestamps)
+                        createdAtValue = nextString(in);
+                    else
+                        createdAt = nextOffsetDateTime(in);
+                    break;
+                case "updated_at":
+                    if (lazyTimestamps)
+                        updatedAtValue = nextString(in);
+                    else
+                        updatedAt = nextOffsetDateTime(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        if (lazyTimestamps)
+            return new LazyDomain(id, accountId, registrantId, name, unicodeName, token, state, autoRenew, privateWhois, expiresAtValue, createdAtValue, updatedAtValue);
+        return new Domain(id, accountId, registrantId, name, unicodeName, token, state, autoRenew, privateWhois, expiresAt, createdAt, updatedAt);
+    }
+
+    @Override
+    Domain writable(Domain value) {
+        if (value.getClass() == Domain.class)
+            return value;
+        return new Domain(value.getId(), value.getAccountId(), value.getRegistrantId(), value.getName(), value.getUnicodeName(), value.getToken(), value.getState(), value.hasAutoRenew(), value.hasPrivateWhois(), value.getExpiresAt(), value.getCreatedAt(), value.getUpdatedAt());
+    }
+}
@@ -0,0 +1,63 @@
+package com.dnsimple.http;
+
+import com.dnsimple.request.ListOptions;
+
+/**
+ * Description of a request to an endpoint of the API: its method, its expanded path, its
+ * query options, its body and the type of the data it responds with.
+ * <p>
+ * Requests are described once and executed either blocking or non-blocking by the methods
+ * of {@link HttpEndpointClient} that take them, so that both kinds of endpoint classes
+ * share their definition.
+ *
+ * @param <DATA_TYPE> the type of the data of the response
+ */
+public final class EndpointRequest<DATA_TYPE> {
+    private final HttpMethod method;
+    private final String path;
+    private final ListOptions options;
+    private final Object body;
+    private final Class<DATA_TYPE> dataType;
+
+    private EndpointRequest(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        this.method = method;
+        this.path = path;
+        this.options = options;
+        this.body = body;
+        this.dataType = dataType;
+    }
+
+    /**
+     * @return a request whose response has data of the provided type
+     */
+    public static <DATA_TYPE> EndpointRequest<DATA_TYPE> of(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return new EndpointRequest<>(method, path, options, body, dataType);
+    }
+
+    /**
+     * @return a request whose response has no data
+     */
+    public static EndpointRequest<Void> of(HttpMethod method, String path, ListOptions options, Object body) {
+        return new EndpointRequest<>(method, path, options, body, Void.class);
+    }
+
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public ListOptions getOptions() {
+        return options;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public Class<DATA_TYPE> getDataType() {
+        return dataType;
+    }
+}
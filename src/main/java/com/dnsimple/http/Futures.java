@@ -0,0 +1,23 @@
+package com.dnsimple.http;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+class Futures {
+    private Futures() {
+    }
+
+    /**
+     * Waits for the result of a future, rethrowing the exception it failed with instead
+     * of wrapping it in a CompletionException.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+}
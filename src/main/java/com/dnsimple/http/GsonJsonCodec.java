@@ -0,0 +1,205 @@
+package com.dnsimple.http;
+
+import com.dnsimple.response.ListResponse;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
+import com.dnsimple.response.SimpleResponse;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+
+/**
+ * GsonJsonCodec reads and writes the JSON documents exchanged with the API with Gson.
+ * <p>
+ * Use GsonJsonCodec.defaults() to obtain the shared instance used by default, or the
+ * GsonJsonCodec.Builder to customize how responses are deserialized.
+ */
+public class GsonJsonCodec implements JsonCodec {
+    private static final int TIMESTAMP_CACHE_SIZE = 1024;
+    private static final int STRING_POOL_SIZE = 4096;
+    private static final Set<Class<?>> CONTAINER_TYPES = Set.of(SimpleResponse.class, ListResponse.class, PaginatedResponse.class);
+    private static final Type ERROR_TYPE = new TypeToken<Map<String, Object>>() {
+    }.getType();
+    private static final GsonJsonCodec DEFAULTS = new GsonJsonCodec(false, false);
+    private final Gson gson;
+    private final Map<Class<?>, Map<Class<?>, TypeAdapter<?>>> containerAdapters = new ConcurrentHashMap<>();
+    private final Set<Class<?>> preloadedEndpoints = ConcurrentHashMap.newKeySet();
+
+    private GsonJsonCodec(boolean lazyTimestamps, boolean deduplicateStrings) {
+        this.gson = new GsonBuilder()
+                .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter(TIMESTAMP_CACHE_SIZE))
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapterFactory(new DataTypeAdapterFactory(lazyTimestamps, deduplicateStrings ? new StringPool(STRING_POOL_SIZE) : null))
+                .create();
+    }
+
+    /**
+     * @return the codec shared by all the clients that don't customize how responses are deserialized
+     */
+    public static GsonJsonCodec defaults() {
+        return DEFAULTS;
+    }
+
+    @Override
+    public void write(Object value, Writer writer) {
+        gson.toJson(value, writer);
+    }
+
+    @Override
+    public <CONTAINER, DATA_TYPE> CONTAINER readContainer(InputStream inputStream, Class<DATA_TYPE> dataType, Class<CONTAINER> containerType) {
+        try (InputStream stream = inputStream;
+             InputStreamReader isr = new InputStreamReader(stream);
+             BufferedReader br = new BufferedReader(isr);
+             JsonReader reader = gson.newJsonReader(br)) {
+            try {
+                reader.peek();
+            } catch (EOFException e) {
+                return null;
+            }
+            return this.<CONTAINER>containerAdapter(containerType, dataType).read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <DATA_TYPE> Pagination readPage(InputStream inputStream, Class<DATA_TYPE> dataType, Consumer<? super DATA_TYPE> consumer) {
+        try (InputStream stream = inputStream;
+             InputStreamReader isr = new InputStreamReader(stream);
+             BufferedReader br = new BufferedReader(isr);
+             JsonReader reader = gson.newJsonReader(br)) {
+            TypeAdapter<DATA_TYPE> dataAdapter = gson.getAdapter(dataType);
+            Pagination pagination = Pagination.empty();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "data":
+                        reader.beginArray();
+                        while (reader.hasNext())
+                            consumer.accept(dataAdapter.read(reader));
+                        reader.endArray();
+                        break;
+                    case "pagination":
+                        pagination = gson.getAdapter(Pagination.class).read(reader);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return pagination;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <DATA_TYPE> DATA_TYPE read(InputStream inputStream, Class<DATA_TYPE> dataType) {
+        try (InputStream stream = inputStream;
+             InputStreamReader isr = new InputStreamReader(stream);
+             BufferedReader br = new BufferedReader(isr)) {
+            return gson.fromJson(br, dataType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> readError(InputStream inputStream) {
+        try (InputStream stream = inputStream;
+             InputStreamReader isr = new InputStreamReader(stream);
+             BufferedReader br = new BufferedReader(isr)) {
+            return gson.fromJson(br, ERROR_TYPE);
+        } catch (IOException e) {
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Resolves the Gson adapters of the responses returned by the public methods of the
+     * provided endpoint classes, so that the first request to each endpoint doesn't have
+     * to pay for it. Endpoint classes that have already been preloaded are skipped.
+     */
+    @Override
+    public void preloadAdapters(Class<?>... endpointClasses) {
+        for (Class<?> endpointClass : endpointClasses) {
+            if (!preloadedEndpoints.add(endpointClass))
+                continue;
+            for (Method method : endpointClass.getMethods()) {
+                Type returnType = method.getGenericReturnType();
+                if (isParameterized(returnType, CompletableFuture.class))
+                    returnType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+                if (!(returnType instanceof ParameterizedType) || !CONTAINER_TYPES.contains(((ParameterizedType) returnType).getRawType()))
+                    continue;
+                Type dataType = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+                if (dataType instanceof Class && !Modifier.isAbstract(((Class<?>) dataType).getModifiers()))
+                    containerAdapter((Class<?>) ((ParameterizedType) returnType).getRawType(), (Class<?>) dataType);
+            }
+        }
+    }
+
+    private static boolean isParameterized(Type type, Class<?> rawType) {
+        return type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == rawType;
+    }
+
+    /**
+     * Gson caches adapters by type too, but looking them up requires building a new
+     * parameterized type on every response, so they are also cached here by their classes.
+     */
+    @SuppressWarnings("unchecked")
+    private <CONTAINER> TypeAdapter<CONTAINER> containerAdapter(Class<?> containerType, Class<?> dataType) {
+        return (TypeAdapter<CONTAINER>) containerAdapters
+                .computeIfAbsent(containerType, type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dataType, type -> gson.getAdapter(TypeToken.getParameterized(containerType, type)));
+    }
+
+    public static class Builder {
+        private boolean lazyTimestamps = false;
+        private boolean deduplicateStrings = false;
+
+        /**
+         * Defer parsing the timestamps of the ZoneRecord, Domain and Certificate objects
+         * until their getters are called for the first time. This saves parsing timestamps
+         * that are never read in bulk listings.
+         */
+        public Builder lazyTimestamps() {
+            this.lazyTimestamps = true;
+            return this;
+        }
+
+        /**
+         * Share a single instance of the strings that repeat across ZoneRecord objects,
+         * like their zone, type, name and content, to reduce the memory retained by large
+         * listings of zone records. The strings are kept in a pool of bounded size owned
+         * by the codec, and records in the global region share a single, immutable list of
+         * regions.
+         */
+        public Builder deduplicateStrings() {
+            this.deduplicateStrings = true;
+            return this;
+        }
+
+        public GsonJsonCodec build() {
+            return lazyTimestamps || deduplicateStrings ? new GsonJsonCodec(lazyTimestamps, deduplicateStrings) : DEFAULTS;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.dnsimple.http;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * HttpRequestFactory decorator that sends GET requests through another factory, and sends
+ * a duplicate, hedge request through that same factory when the first one takes longer
+ * than a RequestHedger allows. The first successful response of the two is taken.
+ * <p>
+ * The hedge delay starts when this factory is called, so it must sit below any decorator
+ * that makes requests wait before they are sent, like the rate limit pacing or the
+ * concurrency limiter, or requests waiting there would be hedged too.
+ * <p>
+ * The request that loses the race isn't aborted, since cancelling the futures of the
+ * decorated factory doesn't reach the underlying HTTP exchange. It runs to completion,
+ * and its response is closed and discarded when it arrives.
+ * <p>
+ * Blocking requests are sent through the non-blocking variant of the other factory, so
+ * that both requests can be in flight at the same time. With the Java11HttpRequestFactory
+ * this means that their responses are read whole before they are deserialized, instead
+ * of being deserialized as they stream in. Requests with other methods are sent as they
+ * are.
+ *
+ * @see RequestHedger
+ */
+public class HedgingHttpRequestFactory implements HttpRequestFactory {
+    private final HttpRequestFactory delegate;
+    private final RequestHedger hedger;
+
+    public HedgingHttpRequestFactory(HttpRequestFactory delegate, RequestHedger hedger) {
+        this.delegate = delegate;
+        this.hedger = hedger;
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        if (method != GET)
+            return delegate.execute(userAgent, accessToken, method, uri, body, headers);
+        return Futures.join(executeAsync(userAgent, accessToken, method, uri, body, headers));
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        if (method != GET)
+            return delegate.executeAsync(userAgent, accessToken, method, uri, body, headers);
+        long start = System.nanoTime();
+        long hedgeDelay = hedger.onRequest();
+        CompletableFuture<RawResponse> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        race(delegate.executeAsync(userAgent, accessToken, method, uri, body, headers), result, pending, start);
+        CompletableFuture.runAsync(() -> {
+            if (result.isDone() || !hedger.tryHedge())
+                return;
+            pending.incrementAndGet();
+            CompletableFuture<RawResponse> hedge = sendHedge(userAgent, accessToken, method, uri, body, headers);
+            race(hedge, result, pending, start);
+        }, delayedExecutor(hedgeDelay, NANOSECONDS));
+        return result;
+    }
+
+    private CompletableFuture<RawResponse> sendHedge(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        try {
+            return delegate.executeAsync(userAgent, accessToken, method, uri, body, headers);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Completes the result with the first successful response, or with the error of the
+     * last request to fail when none of them succeeds. The successful response that
+     * arrives second is closed, so that its connection is released.
+     */
+    private void race(CompletableFuture<RawResponse> request, CompletableFuture<RawResponse> result, AtomicInteger pending, long start) {
+        request.whenComplete((response, error) -> {
+            if (error == null) {
+                if (result.complete(response))
+                    hedger.recordLatency(System.nanoTime() - start);
+                else
+                    close(response);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+            }
+        });
+    }
+
+    private static void close(RawResponse response) {
+        try {
+            response.getBody().close();
+        } catch (IOException ignored) {
+            // The response is discarded anyway
+        }
+    }
+}
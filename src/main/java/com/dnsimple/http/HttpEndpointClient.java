@@ -4,106 +4,444 @@ import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.EmptyResponse;
 import com.dnsimple.response.ListResponse;
 import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
 import com.dnsimple.response.SimpleResponse;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 
 import java.io.*;
 import java.net.URI;
 import java.net.URL;
-import java.time.LocalDate;
-import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+import static com.dnsimple.request.PageRequest.MAX_ITEMS_PER_PAGE;
+import static java.util.Collections.emptyMap;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.stream.Collectors.toList;
 
 public class HttpEndpointClient {
-    private static final Gson gson = new GsonBuilder()
-            .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
-            .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeDeserializer())
-            .registerTypeAdapter(LocalDate.class, new LocalDateDeserializer())
-            .create();
     private static final String API_VERSION_PATH = "/v2/";
     private final HttpRequestFactory requestFactory;
     private final URL apiBase;
+    private final String versionedApiBase;
     private final String userAgent;
-    private Optional<String> accessToken;
+    private final AtomicReference<Optional<String>> accessToken;
+    private final Optional<ResponseCache> responseCache;
+    private final JsonCodec jsonCodec;
+    private final Optional<RequestCoalescer> requestCoalescer;
 
     public HttpEndpointClient(HttpRequestFactory requestFactory, URL apiBase, String userAgent, Optional<String> accessToken) {
+        this(requestFactory, apiBase, userAgent, accessToken, Optional.empty());
+    }
+
+    public HttpEndpointClient(HttpRequestFactory requestFactory, URL apiBase, String userAgent, Optional<String> accessToken, Optional<ResponseCache> responseCache) {
+        this(requestFactory, apiBase, userAgent, accessToken, responseCache, GsonJsonCodec.defaults());
+    }
+
+    public HttpEndpointClient(HttpRequestFactory requestFactory, URL apiBase, String userAgent, Optional<String> accessToken, Optional<ResponseCache> responseCache, JsonCodec jsonCodec) {
+        this(requestFactory, apiBase, userAgent, new AtomicReference<>(accessToken), responseCache, jsonCodec, Optional.empty());
+    }
+
+    private HttpEndpointClient(HttpRequestFactory requestFactory, URL apiBase, String userAgent, AtomicReference<Optional<String>> accessToken, Optional<ResponseCache> responseCache, JsonCodec jsonCodec, Optional<RequestCoalescer> requestCoalescer) {
         this.requestFactory = requestFactory;
         this.apiBase = apiBase;
+        this.versionedApiBase = apiBase + API_VERSION_PATH;
         this.userAgent = userAgent;
         this.accessToken = accessToken;
+        this.responseCache = responseCache;
+        this.jsonCodec = jsonCodec;
+        this.requestCoalescer = requestCoalescer;
     }
 
     public URL getApiBase() {
         return apiBase;
     }
 
+    /**
+     * Sets the access token of this endpoint client and of all the endpoint clients derived
+     * from it with withRequestFactory()
+     */
     public void setAccessToken(String accessToken) {
-        this.accessToken = Optional.of(accessToken);
+        this.accessToken.set(Optional.of(accessToken));
+    }
+
+    /**
+     * @return an endpoint client that sends the provided access token, and shares the
+     * request factory, response cache and JSON codec of this one
+     */
+    public HttpEndpointClient withAccessToken(String accessToken) {
+        return new HttpEndpointClient(requestFactory, apiBase, userAgent, new AtomicReference<>(Optional.of(accessToken)), responseCache, jsonCodec, requestCoalescer);
+    }
+
+    /**
+     * @return an endpoint client that sends its requests through the provided request
+     * factory, and shares everything else with this one, including its access token
+     */
+    public HttpEndpointClient withRequestFactory(HttpRequestFactory requestFactory) {
+        return new HttpEndpointClient(requestFactory, apiBase, userAgent, accessToken, responseCache, jsonCodec, requestCoalescer);
+    }
+
+    /**
+     * Returns an endpoint client that coalesces identical GET requests that are in flight
+     * at the same time, so that only one of them is sent and all of them get its response.
+     * Requests are identical when they have the same URI, access token and response type.
+     * <p>
+     * The returned endpoint client shares everything else with this one, and the endpoint
+     * clients derived from it share its in-flight requests.
+     */
+    public HttpEndpointClient withRequestCoalescing() {
+        return new HttpEndpointClient(requestFactory, apiBase, userAgent, accessToken, responseCache, jsonCodec, Optional.of(new RequestCoalescer()));
+    }
+
+    /**
+     * Resolves the JSON adapters of the responses returned by the provided endpoint
+     * classes, so that the first request to each endpoint doesn't have to pay for it.
+     */
+    public void preloadAdapters(Class<?>... endpointClasses) {
+        jsonCodec.preloadAdapters(endpointClasses);
+    }
+
+    public EmptyResponse empty(EndpointRequest<Void> request) {
+        return empty(request.getMethod(), request.getPath(), request.getOptions(), request.getBody());
+    }
+
+    public <DATA_TYPE> SimpleResponse<DATA_TYPE> simple(EndpointRequest<DATA_TYPE> request) {
+        return simple(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> ListResponse<DATA_TYPE> list(EndpointRequest<DATA_TYPE> request) {
+        return list(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> PaginatedResponse<DATA_TYPE> page(EndpointRequest<DATA_TYPE> request) {
+        return page(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> Pagination page(EndpointRequest<DATA_TYPE> request, Consumer<? super DATA_TYPE> consumer) {
+        return page(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType(), consumer);
+    }
+
+    public <DATA_TYPE> void forEachAll(EndpointRequest<DATA_TYPE> request, Consumer<? super DATA_TYPE> consumer) {
+        forEachAll(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType(), consumer);
+    }
+
+    public <DATA_TYPE> Iterator<DATA_TYPE> iterateAll(EndpointRequest<DATA_TYPE> request) {
+        return iterateAll(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> Stream<DATA_TYPE> streamAll(EndpointRequest<DATA_TYPE> request) {
+        return streamAll(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> List<DATA_TYPE> fetchAll(EndpointRequest<DATA_TYPE> request, int parallelism) {
+        return fetchAll(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType(), parallelism);
+    }
+
+    public <DATA_TYPE> void fetchAll(EndpointRequest<DATA_TYPE> request, int parallelism, Consumer<? super List<DATA_TYPE>> pageConsumer) {
+        fetchAll(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType(), parallelism, pageConsumer);
+    }
+
+    public <DATA_TYPE> Stream<DATA_TYPE> parallelStreamAll(EndpointRequest<DATA_TYPE> request) {
+        return parallelStreamAll(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> DATA_TYPE raw(EndpointRequest<DATA_TYPE> request) {
+        return raw(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public CompletableFuture<EmptyResponse> emptyAsync(EndpointRequest<Void> request) {
+        return emptyAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody());
+    }
+
+    public <DATA_TYPE> CompletableFuture<SimpleResponse<DATA_TYPE>> simpleAsync(EndpointRequest<DATA_TYPE> request) {
+        return simpleAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> CompletableFuture<ListResponse<DATA_TYPE>> listAsync(EndpointRequest<DATA_TYPE> request) {
+        return listAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> CompletableFuture<PaginatedResponse<DATA_TYPE>> pageAsync(EndpointRequest<DATA_TYPE> request) {
+        return pageAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
+    }
+
+    public <DATA_TYPE> CompletableFuture<List<DATA_TYPE>> fetchAllAsync(EndpointRequest<DATA_TYPE> request, int parallelism) {
+        return fetchAllAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType(), parallelism);
+    }
+
+    public <DATA_TYPE> CompletableFuture<Void> fetchAllAsync(EndpointRequest<DATA_TYPE> request, int parallelism, Consumer<? super List<DATA_TYPE>> pageConsumer) {
+        return fetchAllAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType(), parallelism, pageConsumer);
+    }
+
+    public <DATA_TYPE> CompletableFuture<DATA_TYPE> rawAsync(EndpointRequest<DATA_TYPE> request) {
+        return rawAsync(request.getMethod(), request.getPath(), request.getOptions(), request.getBody(), request.getDataType());
     }
 
     public EmptyResponse empty(HttpMethod method, String path, ListOptions options, Object body) {
-        return execute(userAgent, accessToken, method, path, options, body, Void.class, EmptyResponse.class, EmptyResponse::new);
+        return execute(userAgent, accessToken.get(), method, path, options, body, Void.class, EmptyResponse.class, EmptyResponse::new);
     }
 
     @SuppressWarnings("unchecked")
     public <DATA_TYPE> SimpleResponse<DATA_TYPE> simple(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
-        return execute(userAgent, accessToken, method, path, options, body, dataType, SimpleResponse.class, SimpleResponse::empty);
+        return execute(userAgent, accessToken.get(), method, path, options, body, dataType, SimpleResponse.class, SimpleResponse::empty);
     }
 
     @SuppressWarnings("unchecked")
     public <DATA_TYPE> ListResponse<DATA_TYPE> list(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
-        return execute(userAgent, accessToken, method, path, options, body, dataType, ListResponse.class, ListResponse::empty);
+        return execute(userAgent, accessToken.get(), method, path, options, body, dataType, ListResponse.class, ListResponse::empty);
     }
 
     @SuppressWarnings("unchecked")
     public <DATA_TYPE> PaginatedResponse<DATA_TYPE> page(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
-        return execute(userAgent, accessToken, method, path, options, body, dataType, PaginatedResponse.class, PaginatedResponse::empty);
+        return execute(userAgent, accessToken.get(), method, path, options, body, dataType, PaginatedResponse.class, PaginatedResponse::empty);
+    }
+
+    /**
+     * Requests a page of a paginated endpoint and passes each element of its data to the
+     * provided consumer as soon as it is parsed, without accumulating them in memory.
+     * <p>
+     * Responses are parsed while they are received, and never served from the response cache.
+     *
+     * @return the pagination details of the page, which the API sends after its data
+     */
+    public <DATA_TYPE> Pagination page(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, Consumer<? super DATA_TYPE> consumer) {
+        URI uri = buildUrl(path, options);
+        RawResponse response = requestFactory.execute(userAgent, accessToken.get(), method, uri, body, emptyMap());
+        return response.getStatusCode() != 204
+                ? jsonCodec.readPage(response.getBody(), dataType, consumer)
+                : Pagination.empty();
+    }
+
+    /**
+     * Requests all the pages of a paginated endpoint one after the other, and passes each
+     * element of their data to the provided consumer as soon as it is parsed, without
+     * accumulating them in memory.
+     */
+    public <DATA_TYPE> void forEachAll(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, Consumer<? super DATA_TYPE> consumer) {
+        int page = 1;
+        Integer totalPages;
+        do {
+            totalPages = page(method, path, options.page(page, MAX_ITEMS_PER_PAGE), body, dataType, consumer).getTotalPages();
+            page++;
+        } while (totalPages != null && page <= totalPages);
+    }
+
+    /**
+     * Iterates over the elements of all the pages of a paginated endpoint, requesting
+     * pages of 100 elements lazily and prefetching the next page in the background while
+     * the current one is consumed.
+     */
+    public <DATA_TYPE> Iterator<DATA_TYPE> iterateAll(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return pageIterator(method, path, options, body, dataType);
+    }
+
+    /**
+     * Streams the elements of all the pages of a paginated endpoint, requesting pages of
+     * 100 elements lazily and prefetching the next page in the background while the
+     * current one is consumed. Closing the stream stops requesting pages, but a prefetch
+     * that is still in flight runs to completion and its page is discarded.
+     */
+    public <DATA_TYPE> Stream<DATA_TYPE> streamAll(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        PageIterator<DATA_TYPE> iterator = pageIterator(method, path, options, body, dataType);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, ORDERED | NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Requests all the pages of a paginated endpoint, issuing up to the provided number of
+     * concurrent requests once the first page reveals the total number of pages.
+     *
+     * @return the elements of all the pages, in order
+     */
+    public <DATA_TYPE> List<DATA_TYPE> fetchAll(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, int parallelism) {
+        return Futures.join(fetchAllAsync(method, path, options, body, dataType, parallelism));
+    }
+
+    /**
+     * Requests all the pages of a paginated endpoint, issuing up to the provided number of
+     * concurrent requests once the first page reveals the total number of pages, and passes
+     * the data of each page to the consumer as soon as it arrives.
+     * <p>
+     * The consumer is never called concurrently, but it's called from different threads
+     * and pages may arrive out of order.
+     */
+    public <DATA_TYPE> void fetchAll(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, int parallelism, Consumer<? super List<DATA_TYPE>> pageConsumer) {
+        Futures.join(fetchAllAsync(method, path, options, body, dataType, parallelism, pageConsumer));
+    }
+
+    /**
+     * Streams the elements of all the pages of a paginated endpoint with a parallel stream
+     * whose spliterator splits by ranges of pages, so that the pages are requested
+     * concurrently by the threads processing the stream.
+     */
+    public <DATA_TYPE> Stream<DATA_TYPE> parallelStreamAll(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        PageSpliterator<DATA_TYPE> spliterator = new PageSpliterator<>(page -> page(method, path, options.page(page, MAX_ITEMS_PER_PAGE), body, dataType), MAX_ITEMS_PER_PAGE);
+        return StreamSupport.stream(spliterator, true);
     }
 
     public <DATA_TYPE> DATA_TYPE raw(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
-        return execute(userAgent, accessToken, method, path, options, body, dataType);
+        return execute(userAgent, accessToken.get(), method, path, options, body, dataType);
+    }
+
+    public CompletableFuture<EmptyResponse> emptyAsync(HttpMethod method, String path, ListOptions options, Object body) {
+        return executeAsync(userAgent, accessToken.get(), method, path, options, body, Void.class, EmptyResponse.class, EmptyResponse::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <DATA_TYPE> CompletableFuture<SimpleResponse<DATA_TYPE>> simpleAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return executeAsync(userAgent, accessToken.get(), method, path, options, body, dataType, SimpleResponse.class, SimpleResponse::empty);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <DATA_TYPE> CompletableFuture<ListResponse<DATA_TYPE>> listAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return executeAsync(userAgent, accessToken.get(), method, path, options, body, dataType, ListResponse.class, ListResponse::empty);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <DATA_TYPE> CompletableFuture<PaginatedResponse<DATA_TYPE>> pageAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return executeAsync(userAgent, accessToken.get(), method, path, options, body, dataType, PaginatedResponse.class, PaginatedResponse::empty);
+    }
+
+    /**
+     * Requests all the pages of a paginated endpoint, issuing up to the provided number of
+     * concurrent requests once the first page reveals the total number of pages.
+     *
+     * @return a future of the elements of all the pages, in order
+     */
+    public <DATA_TYPE> CompletableFuture<List<DATA_TYPE>> fetchAllAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, int parallelism) {
+        Map<Integer, List<DATA_TYPE>> pages = new TreeMap<>();
+        return fetchPagesAsync(method, path, options, body, dataType, parallelism, pages::put)
+                .thenApply(ignored -> pages.values().stream().flatMap(List::stream).collect(toList()));
+    }
+
+    /**
+     * Requests all the pages of a paginated endpoint, issuing up to the provided number of
+     * concurrent requests once the first page reveals the total number of pages, and passes
+     * the data of each page to the consumer as soon as it arrives.
+     * <p>
+     * The consumer is never called concurrently, but it's called from different threads
+     * and pages may arrive out of order.
+     *
+     * @return a future that completes when all the pages have been consumed
+     */
+    public <DATA_TYPE> CompletableFuture<Void> fetchAllAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, int parallelism, Consumer<? super List<DATA_TYPE>> pageConsumer) {
+        return fetchPagesAsync(method, path, options, body, dataType, parallelism, (page, data) -> pageConsumer.accept(data));
+    }
+
+    public <DATA_TYPE> CompletableFuture<DATA_TYPE> rawAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return executeAsync(userAgent, accessToken.get(), method, path, options, body, dataType);
+    }
+
+    private <DATA_TYPE> PageIterator<DATA_TYPE> pageIterator(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        return new PageIterator<>(page -> pageAsync(method, path, options.page(page, MAX_ITEMS_PER_PAGE), body, dataType));
+    }
+
+    private <DATA_TYPE> CompletableFuture<Void> fetchPagesAsync(HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, int parallelism, BiConsumer<Integer, List<DATA_TYPE>> pageConsumer) {
+        return new ParallelPageFetcher<>(page -> pageAsync(method, path, options.page(page, MAX_ITEMS_PER_PAGE), body, dataType), parallelism, pageConsumer).fetch();
     }
 
     private <DATA_TYPE, CONTAINER> CONTAINER execute(String userAgent, Optional<String> accessToken, HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, Class<CONTAINER> containerType, Supplier<CONTAINER> emptyContainerSupplier) {
-        URI uri = buildUrl(apiBase, API_VERSION_PATH, path, options);
-        RawResponse response = requestFactory.execute(userAgent, accessToken, method, uri, body);
-        return response.getStatusCode() != 204
-                ? deserializeContainer(response.getBody(), dataType, containerType)
-                : emptyContainerSupplier.get();
+        URI uri = buildUrl(path, options);
+        return send(userAgent, accessToken, method, uri, body, containerType, dataType, response -> response.getStatusCode() != 204
+                ? jsonCodec.readContainer(response.getBody(), dataType, containerType)
+                : emptyContainerSupplier.get());
     }
 
     private <DATA_TYPE> DATA_TYPE execute(String userAgent, Optional<String> accessToken, HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
-        URI uri = buildUrl(apiBase, API_VERSION_PATH, path, options);
-        RawResponse response = requestFactory.execute(userAgent, accessToken, method, uri, body);
-        return response.getStatusCode() != 204 ? deserialize(response.getBody(), dataType) : null;
-    }
-
-    private static <CONTAINER, DATA_TYPE> CONTAINER deserializeContainer(InputStream inputStream, Class<DATA_TYPE> dataType, Class<CONTAINER> containerType) {
-        try (InputStream stream = inputStream;
-             InputStreamReader isr = new InputStreamReader(stream);
-             BufferedReader br = new BufferedReader(isr)) {
-            return gson.fromJson(br, TypeToken.getParameterized(containerType, dataType).getType());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        URI uri = buildUrl(path, options);
+        return send(userAgent, accessToken, method, uri, body, null, dataType, response -> response.getStatusCode() != 204
+                ? jsonCodec.read(response.getBody(), dataType)
+                : null);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <DATA_TYPE, CONTAINER> CompletableFuture<CONTAINER> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType, Class containerType, Supplier<CONTAINER> emptyContainerSupplier) {
+        URI uri = buildUrl(path, options);
+        return sendAsync(userAgent, accessToken, method, uri, body, containerType, dataType, response -> response.getStatusCode() != 204
+                ? (CONTAINER) jsonCodec.readContainer(response.getBody(), dataType, containerType)
+                : emptyContainerSupplier.get());
+    }
+
+    private <DATA_TYPE> CompletableFuture<DATA_TYPE> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, String path, ListOptions options, Object body, Class<DATA_TYPE> dataType) {
+        URI uri = buildUrl(path, options);
+        return sendAsync(userAgent, accessToken, method, uri, body, null, dataType, response -> response.getStatusCode() != 204
+                ? jsonCodec.read(response.getBody(), dataType)
+                : null);
+    }
+
+    private <T> T send(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Class<?> containerType, Class<?> dataType, Function<RawResponse, T> reader) {
+        if (method == HttpMethod.GET && requestCoalescer.isPresent())
+            return requestCoalescer.get().execute(new RequestCoalescer.Key(uri, accessToken, containerType, dataType), () -> send(userAgent, accessToken, method, uri, body, reader));
+        return send(userAgent, accessToken, method, uri, body, reader);
     }
 
-    private static <DATA_TYPE> DATA_TYPE deserialize(InputStream inputStream, Class<DATA_TYPE> dataType) {
-        try (InputStream stream = inputStream;
-             InputStreamReader isr = new InputStreamReader(stream);
-             BufferedReader br = new BufferedReader(isr)) {
-            return gson.fromJson(br, dataType);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+    private <T> T send(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Function<RawResponse, T> reader) {
+        Optional<ResponseCache> cache = cacheFor(method);
+        Optional<ResponseCache.CachedResponse> cached = cache.flatMap(c -> c.get(uri, accessToken));
+        RawResponse response = requestFactory.execute(userAgent, accessToken, method, uri, body, conditionalHeaders(cached));
+        return read(cache, cached, uri, accessToken, response, reader);
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Class<?> containerType, Class<?> dataType, Function<RawResponse, T> reader) {
+        if (method == HttpMethod.GET && requestCoalescer.isPresent())
+            return requestCoalescer.get().executeAsync(new RequestCoalescer.Key(uri, accessToken, containerType, dataType), () -> sendAsync(userAgent, accessToken, method, uri, body, reader));
+        return sendAsync(userAgent, accessToken, method, uri, body, reader);
+    }
+
+    private <T> CompletableFuture<T> sendAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Function<RawResponse, T> reader) {
+        Optional<ResponseCache> cache = cacheFor(method);
+        Optional<ResponseCache.CachedResponse> cached = cache.flatMap(c -> c.get(uri, accessToken));
+        return requestFactory.executeAsync(userAgent, accessToken, method, uri, body, conditionalHeaders(cached))
+                .thenApply(response -> read(cache, cached, uri, accessToken, response, reader));
+    }
+
+    private Optional<ResponseCache> cacheFor(HttpMethod method) {
+        return method == HttpMethod.GET ? responseCache : Optional.empty();
+    }
+
+    private static Map<String, String> conditionalHeaders(Optional<ResponseCache.CachedResponse> cached) {
+        return cached.map(entry -> Map.of("If-None-Match", entry.etag)).orElse(emptyMap());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T read(Optional<ResponseCache> cache, Optional<ResponseCache.CachedResponse> cached, URI uri, Optional<String> accessToken, RawResponse response, Function<RawResponse, T> reader) {
+        if (response.getStatusCode() == 304 && cached.isPresent()) {
+            try {
+                response.getBody().close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return (T) cached.get().response;
         }
+        T result = reader.apply(response);
+        cache.ifPresent(c -> header(response, "ETag").ifPresent(etag -> c.put(uri, accessToken, etag, result)));
+        return result;
+    }
+
+    private static Optional<String> header(RawResponse response, String name) {
+        return response.getHeaders().entrySet().stream()
+                .filter(header -> name.equalsIgnoreCase(header.getKey()) && !header.getValue().isEmpty())
+                .map(header -> header.getValue().get(0))
+                .findFirst();
     }
 
-    private static URI buildUrl(URL apiBase, String versionPath, String requestedPath, ListOptions options) {
-        return URI.create(apiBase + versionPath + requestedPath + options.asQueryString());
+    /**
+     * The versioned API base is built once, instead of formatting the URL of the API base
+     * on every request
+     */
+    private URI buildUrl(String requestedPath, ListOptions options) {
+        return URI.create(versionedApiBase + requestedPath + options.asQueryString());
     }
 }
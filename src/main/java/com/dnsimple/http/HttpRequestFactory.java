@@ -1,7 +1,9 @@
 package com.dnsimple.http;
 
 import java.net.URI;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defined the low level HTTP operations required by this library
@@ -20,4 +22,62 @@ public interface HttpRequestFactory {
      * @return an RawResponse object with the status code, headers and body of the HTTP response
      */
     RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body);
+
+    /**
+     * Execute an HTTP request to an API endpoint without blocking the calling thread.
+     * <p>
+     * The returned future completes exceptionally with the same exceptions that
+     * {@link #execute(String, Optional, HttpMethod, URI, Object)} would throw.
+     * <p>
+     * The default implementation runs the blocking variant on the common fork-join
+     * pool. Implementations backed by a non-blocking HTTP client should override it.
+     *
+     * @param userAgent   the user agent to be used on the HTTP request
+     * @param accessToken the access token to be used for authentication against the API
+     * @param method      the HTTP method to be used on the HTTP request
+     * @param uri         the URI to be requested
+     * @param body        the HTTP request's body payload
+     * @return a future of the RawResponse object with the status code, headers and body of the HTTP response
+     */
+    default CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return CompletableFuture.supplyAsync(() -> execute(userAgent, accessToken, method, uri, body));
+    }
+
+    /**
+     * Execute an HTTP request to an API endpoint with extra request headers, such as
+     * the If-None-Match header of conditional requests.
+     * <p>
+     * The default implementation ignores the extra headers, which is always safe since
+     * they only allow the server to produce cheaper responses.
+     *
+     * @param userAgent   the user agent to be used on the HTTP request
+     * @param accessToken the access token to be used for authentication against the API
+     * @param method      the HTTP method to be used on the HTTP request
+     * @param uri         the URI to be requested
+     * @param body        the HTTP request's body payload
+     * @param headers     the extra headers to be sent with the HTTP request
+     * @return an RawResponse object with the status code, headers and body of the HTTP response
+     */
+    default RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        return execute(userAgent, accessToken, method, uri, body);
+    }
+
+    /**
+     * Execute an HTTP request to an API endpoint with extra request headers without
+     * blocking the calling thread.
+     * <p>
+     * The default implementation ignores the extra headers, which is always safe since
+     * they only allow the server to produce cheaper responses.
+     *
+     * @param userAgent   the user agent to be used on the HTTP request
+     * @param accessToken the access token to be used for authentication against the API
+     * @param method      the HTTP method to be used on the HTTP request
+     * @param uri         the URI to be requested
+     * @param body        the HTTP request's body payload
+     * @param headers     the extra headers to be sent with the HTTP request
+     * @return a future of the RawResponse object with the status code, headers and body of the HTTP response
+     */
+    default CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        return executeAsync(userAgent, accessToken, method, uri, body);
+    }
 }
@@ -0,0 +1,64 @@
+package com.dnsimple.http;
+
+import com.dnsimple.response.Pagination;
+
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * JsonCodec translates between the JSON documents exchanged with the API and the objects
+ * of this library.
+ * <p>
+ * Implementations must map the snake_case field names of the API to the camelCase fields
+ * of the data and request classes, and read and write timestamps and dates as ISO-8601
+ * strings. Codecs are shared by all the requests of a client, so they must be thread-safe.
+ * <p>
+ * The GsonJsonCodec implementation is used by default.
+ *
+ * @see GsonJsonCodec
+ */
+public interface JsonCodec {
+    /**
+     * Writes the provided request body as JSON.
+     */
+    void write(Object value, Writer writer);
+
+    /**
+     * Reads a response container of the provided type, like SimpleResponse, ListResponse or
+     * PaginatedResponse, holding data of the provided type. The input stream is closed
+     * after reading it.
+     *
+     * @return the container, or null when the input stream is empty
+     */
+    <CONTAINER, DATA_TYPE> CONTAINER readContainer(InputStream inputStream, Class<DATA_TYPE> dataType, Class<CONTAINER> containerType);
+
+    /**
+     * Reads a page of a paginated response, passing each element of its data to the
+     * consumer as soon as it's read. The input stream is closed after reading it.
+     *
+     * @return the pagination details of the page
+     */
+    <DATA_TYPE> Pagination readPage(InputStream inputStream, Class<DATA_TYPE> dataType, Consumer<? super DATA_TYPE> consumer);
+
+    /**
+     * Reads a response that isn't wrapped in a container. The input stream is closed after
+     * reading it.
+     */
+    <DATA_TYPE> DATA_TYPE read(InputStream inputStream, Class<DATA_TYPE> dataType);
+
+    /**
+     * Reads the body of an error response as a generic map of attributes. The input stream
+     * is closed after reading it.
+     */
+    Map<String, Object> readError(InputStream inputStream);
+
+    /**
+     * Prepares the codec to read the responses returned by the provided endpoint classes,
+     * so that the first request to each endpoint doesn't have to pay for it. By default,
+     * this does nothing.
+     */
+    default void preloadAdapters(Class<?>... endpointClasses) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Certificate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Certificate that keeps its timestamps as the strings received from the API until their
+ * getters are called for the first time. Threads racing to read a timestamp may parse
+ * it more than once, which is harmless because the parsed timestamps are immutable.
+ */
+class LazyCertificate extends Certificate {
+    private final transient String createdAtValue;
+    private final transient String updatedAtValue;
+    private final transient String expiresAtValue;
+    private transient OffsetDateTime createdAt;
+    private transient OffsetDateTime updatedAt;
+    private transient OffsetDateTime expiresAt;
+
+    LazyCertificate(Long id, Long domainId, String commonName, List<String> alternateNames, Integer years, String state, String authorityIdentifier, Boolean autoRenew, String createdAt, String updatedAt, String expiresAt, String csr) {
+        super(id, domainId, commonName, alternateNames, years, state, authorityIdentifier, autoRenew, null, null, null, csr);
+        this.createdAtValue = createdAt;
+        this.updatedAtValue = updatedAt;
+        this.expiresAtValue = expiresAt;
+    }
+
+    @Override
+    public OffsetDateTime getCreatedAt() {
+        if (createdAt == null && createdAtValue != null)
+            createdAt = OffsetDateTimeTypeAdapter.parse(createdAtValue);
+        return createdAt;
+    }
+
+    @Override
+    public OffsetDateTime getUpdatedAt() {
+        if (updatedAt == null && updatedAtValue != null)
+            updatedAt = OffsetDateTimeTypeAdapter.parse(updatedAtValue);
+        return updatedAt;
+    }
+
+    @Override
+    public OffsetDateTime getExpiresAt() {
+        if (expiresAt == null && expiresAtValue != null)
+            expiresAt = OffsetDateTimeTypeAdapter.parse(expiresAtValue);
+        return expiresAt;
+    }
+}
@@ -0,0 +1,47 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Domain;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Domain that keeps its timestamps as the strings received from the API until their
+ * getters are called for the first time. Threads racing to read a timestamp may parse
+ * it more than once, which is harmless because the parsed timestamps are immutable.
+ */
+class LazyDomain extends Domain {
+    private final transient String expiresAtValue;
+    private final transient String createdAtValue;
+    private final transient String updatedAtValue;
+    private transient OffsetDateTime expiresAt;
+    private transient OffsetDateTime createdAt;
+    private transient OffsetDateTime updatedAt;
+
+    LazyDomain(Long id, Long accountId, Long registrantId, String name, String unicodeName, String token, String state, Boolean autoRenew, Boolean privateWhois, String expiresAt, String createdAt, String updatedAt) {
+        super(id, accountId, registrantId, name, unicodeName, token, state, autoRenew, privateWhois, null, null, null);
+        this.expiresAtValue = expiresAt;
+        this.createdAtValue = createdAt;
+        this.updatedAtValue = updatedAt;
+    }
+
+    @Override
+    public OffsetDateTime getExpiresAt() {
+        if (expiresAt == null && expiresAtValue != null)
+            expiresAt = OffsetDateTimeTypeAdapter.parse(expiresAtValue);
+        return expiresAt;
+    }
+
+    @Override
+    public OffsetDateTime getCreatedAt() {
+        if (createdAt == null && createdAtValue != null)
+            createdAt = OffsetDateTimeTypeAdapter.parse(createdAtValue);
+        return createdAt;
+    }
+
+    @Override
+    public OffsetDateTime getUpdatedAt() {
+        if (updatedAt == null && updatedAtValue != null)
+            updatedAt = OffsetDateTimeTypeAdapter.parse(updatedAtValue);
+        return updatedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.ZoneRecord;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * ZoneRecord that keeps its timestamps as the strings received from the API until their
+ * getters are called for the first time. Threads racing to read a timestamp may parse
+ * it more than once, which is harmless because the parsed timestamps are immutable.
+ */
+class LazyZoneRecord extends ZoneRecord {
+    private final transient String createdAtValue;
+    private final transient String updatedAtValue;
+    private transient OffsetDateTime createdAt;
+    private transient OffsetDateTime updatedAt;
+
+    LazyZoneRecord(Long id, String zoneId, Long parentId, String type, String name, String content, Integer ttl, Integer priority, Boolean systemRecord, List<String> regions, String createdAt, String updatedAt) {
+        super(id, zoneId, parentId, type, name, content, ttl, priority, systemRecord, regions, null, null);
+        this.createdAtValue = createdAt;
+        this.updatedAtValue = updatedAt;
+    }
+
+    @Override
+    public OffsetDateTime getCreatedAt() {
+        if (createdAt == null && createdAtValue != null)
+            createdAt = OffsetDateTimeTypeAdapter.parse(createdAtValue);
+        return createdAt;
+    }
+
+    @Override
+    public OffsetDateTime getUpdatedAt() {
+        if (updatedAt == null && updatedAtValue != null)
+            updatedAt = OffsetDateTimeTypeAdapter.parse(updatedAtValue);
+        return updatedAt;
+    }
+}
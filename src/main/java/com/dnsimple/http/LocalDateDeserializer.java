@@ -8,6 +8,10 @@ import com.google.gson.JsonParseException;
 import java.lang.reflect.Type;
 import java.time.LocalDate;
 
+/**
+ * @deprecated use LocalDateTypeAdapter, which parses the timestamps without building a JSON tree.
+ */
+@Deprecated
 public class LocalDateDeserializer implements JsonDeserializer<LocalDate> {
     @Override
     public LocalDate deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
@@ -0,0 +1,74 @@
+package com.dnsimple.http;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import static com.google.gson.stream.JsonToken.NULL;
+
+/**
+ * Reads and writes LocalDate values as ISO-8601 strings.
+ * <p>
+ * Dates in the yyyy-MM-dd format sent by the API are parsed directly from their digits,
+ * and any other format is left to LocalDate.parse().
+ */
+public class LocalDateTypeAdapter extends TypeAdapter<LocalDate> {
+    @Override
+    public void write(JsonWriter out, LocalDate value) throws IOException {
+        if (value == null)
+            out.nullValue();
+        else
+            out.value(value.toString());
+    }
+
+    @Override
+    public LocalDate read(JsonReader in) throws IOException {
+        if (in.peek() == NULL) {
+            in.nextNull();
+            return null;
+        }
+        String value = in.nextString();
+        LocalDate date = value.length() == 10 ? parseDate(value) : null;
+        return date != null ? date : LocalDate.parse(value);
+    }
+
+    /**
+     * Parses the yyyy-MM-dd date at the start of the provided string
+     *
+     * @return the date, or null if the string doesn't start with a valid date in that
+     * format, so that the general parser reports the error
+     */
+    static LocalDate parseDate(String value) {
+        if (value.length() < 10 || value.charAt(4) != '-' || value.charAt(7) != '-')
+            return null;
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 7);
+        int day = parseDigits(value, 8, 10);
+        if (year < 0 || month < 0 || day < 0)
+            return null;
+        try {
+            return LocalDate.of(year, month, day);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the number formed by the digits between the provided positions, or -1 if
+     * there is any other character between them
+     */
+    static int parseDigits(String value, int start, int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + (c - '0');
+        }
+        return number;
+    }
+}
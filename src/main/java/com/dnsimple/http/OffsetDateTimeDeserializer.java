@@ -8,6 +8,10 @@ import com.google.gson.JsonParseException;
 import java.lang.reflect.Type;
 import java.time.OffsetDateTime;
 
+/**
+ * @deprecated use OffsetDateTimeTypeAdapter, which parses the timestamps without building a JSON tree.
+ */
+@Deprecated
 public class OffsetDateTimeDeserializer implements JsonDeserializer<OffsetDateTime> {
     @Override
     public OffsetDateTime deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) throws JsonParseException {
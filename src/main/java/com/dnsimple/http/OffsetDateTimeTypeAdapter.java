@@ -0,0 +1,111 @@
+package com.dnsimple.http;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+
+import static com.dnsimple.http.LocalDateTypeAdapter.parseDate;
+import static com.dnsimple.http.LocalDateTypeAdapter.parseDigits;
+import static com.google.gson.stream.JsonToken.NULL;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Reads and writes OffsetDateTime values as ISO-8601 strings.
+ * <p>
+ * Timestamps in the yyyy-MM-ddTHH:mm:ssZ format sent by the API are parsed directly
+ * from their digits, and any other format is left to OffsetDateTime.parse().
+ * <p>
+ * Optionally, the last parsed timestamps can be cached by their string, which avoids
+ * parsing the same timestamp repeatedly in large listings of objects created or updated
+ * at the same time. The cache is direct-mapped: each string can only be kept in one
+ * slot, which it takes over from any other string that was in it.
+ */
+public class OffsetDateTimeTypeAdapter extends TypeAdapter<OffsetDateTime> {
+    private final CacheEntry[] cache;
+
+    /**
+     * Creates an adapter that doesn't cache the parsed timestamps
+     */
+    public OffsetDateTimeTypeAdapter() {
+        this.cache = null;
+    }
+
+    /**
+     * @param cacheSize the number of parsed timestamps to cache, which is rounded up to
+     *                  the next power of two
+     */
+    public OffsetDateTimeTypeAdapter(int cacheSize) {
+        if (cacheSize < 1)
+            throw new IllegalArgumentException("The cache size must be greater than 0");
+        int size = 1;
+        while (size < cacheSize)
+            size <<= 1;
+        this.cache = new CacheEntry[size];
+    }
+
+    @Override
+    public void write(JsonWriter out, OffsetDateTime value) throws IOException {
+        if (value == null)
+            out.nullValue();
+        else
+            out.value(value.toString());
+    }
+
+    @Override
+    public OffsetDateTime read(JsonReader in) throws IOException {
+        if (in.peek() == NULL) {
+            in.nextNull();
+            return null;
+        }
+        String value = in.nextString();
+        if (cache == null)
+            return parse(value);
+        int slot = value.hashCode() & (cache.length - 1);
+        CacheEntry entry = cache[slot];
+        if (entry != null && entry.value.equals(value))
+            return entry.timestamp;
+        OffsetDateTime timestamp = parse(value);
+        cache[slot] = new CacheEntry(value, timestamp);
+        return timestamp;
+    }
+
+    static OffsetDateTime parse(String value) {
+        OffsetDateTime timestamp = parseUtcSeconds(value);
+        return timestamp != null ? timestamp : OffsetDateTime.parse(value);
+    }
+
+    private static OffsetDateTime parseUtcSeconds(String value) {
+        if (value.length() != 20 || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':' || value.charAt(19) != 'Z')
+            return null;
+        LocalDate date = parseDate(value);
+        int hour = parseDigits(value, 11, 13);
+        int minute = parseDigits(value, 14, 16);
+        int second = parseDigits(value, 17, 19);
+        if (date == null || hour < 0 || minute < 0 || second < 0)
+            return null;
+        try {
+            return OffsetDateTime.of(date, LocalTime.of(hour, minute, second), UTC);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Entries are immutable so that they can be shared between threads without locking
+     */
+    private static class CacheEntry {
+        final String value;
+        final OffsetDateTime timestamp;
+
+        CacheEntry(String value, OffsetDateTime timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+}
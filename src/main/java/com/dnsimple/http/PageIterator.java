@@ -0,0 +1,67 @@
+package com.dnsimple.http;
+
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntFunction;
+
+import static java.util.Collections.emptyIterator;
+
+/**
+ * Iterator over the elements of all the pages of a paginated endpoint.
+ * <p>
+ * The first page is requested when the iterator is first used, and every following page
+ * is requested in the background as soon as the iteration of the previous one starts, so
+ * that at most the page being consumed and the next one are held in memory.
+ */
+class PageIterator<T> implements Iterator<T>, AutoCloseable {
+    private final IntFunction<CompletableFuture<PaginatedResponse<T>>> pageRequester;
+    private Iterator<T> current = emptyIterator();
+    private CompletableFuture<PaginatedResponse<T>> next;
+    private int nextPage;
+    private boolean started;
+
+    PageIterator(IntFunction<CompletableFuture<PaginatedResponse<T>>> pageRequester) {
+        this.pageRequester = pageRequester;
+    }
+
+    @Override
+    public synchronized boolean hasNext() {
+        if (!started) {
+            next = pageRequester.apply(++nextPage);
+            started = true;
+        }
+        while (!current.hasNext() && next != null) {
+            PaginatedResponse<T> page = Futures.join(next);
+            next = hasMorePages(page.getPagination()) ? pageRequester.apply(++nextPage) : null;
+            current = page.getData().iterator();
+        }
+        return current.hasNext();
+    }
+
+    @Override
+    public synchronized T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return current.next();
+    }
+
+    /**
+     * Stops the iteration. The request of the next page, if it's still in flight, isn't
+     * aborted, since cancelling its future doesn't reach the underlying HTTP exchange: it
+     * runs to completion and the page is discarded.
+     */
+    @Override
+    public synchronized void close() {
+        next = null;
+        current = emptyIterator();
+        started = true;
+    }
+
+    private boolean hasMorePages(Pagination pagination) {
+        return pagination.getTotalPages() != null && nextPage < pagination.getTotalPages();
+    }
+}
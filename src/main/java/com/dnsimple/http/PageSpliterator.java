@@ -0,0 +1,82 @@
+package com.dnsimple.http;
+
+import com.dnsimple.response.PaginatedResponse;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import static java.util.Collections.emptyIterator;
+
+/**
+ * Spliterator over the elements of all the pages of a paginated endpoint, which splits
+ * by ranges of pages so that parallel streams request different pages concurrently.
+ * <p>
+ * The first page is requested when the spliterator is first used, to learn the total
+ * number of pages. Each page is requested by the spliterator covering it, when its
+ * traversal reaches the page.
+ */
+class PageSpliterator<T> implements Spliterator<T> {
+    private final IntFunction<PaginatedResponse<T>> pageRequester;
+    private final int perPage;
+    private Iterator<T> current;
+    private int nextPage;
+    private int endPage;
+
+    PageSpliterator(IntFunction<PaginatedResponse<T>> pageRequester, int perPage) {
+        this(pageRequester, perPage, null, 1, 1);
+    }
+
+    private PageSpliterator(IntFunction<PaginatedResponse<T>> pageRequester, int perPage, Iterator<T> current, int nextPage, int endPage) {
+        this.pageRequester = pageRequester;
+        this.perPage = perPage;
+        this.current = current;
+        this.nextPage = nextPage;
+        this.endPage = endPage;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        start();
+        while (!current.hasNext()) {
+            if (nextPage >= endPage)
+                return false;
+            current = pageRequester.apply(nextPage++).getData().iterator();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        start();
+        if (endPage - nextPage < 2)
+            return null;
+        int middlePage = nextPage + (endPage - nextPage) / 2;
+        PageSpliterator<T> prefix = new PageSpliterator<>(pageRequester, perPage, current, nextPage, middlePage);
+        current = emptyIterator();
+        nextPage = middlePage;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return current == null ? Long.MAX_VALUE : (long) (endPage - nextPage) * perPage + (current.hasNext() ? perPage : 0);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private void start() {
+        if (current != null)
+            return;
+        PaginatedResponse<T> firstPage = pageRequester.apply(1);
+        Integer totalPages = firstPage.getPagination().getTotalPages();
+        current = firstPage.getData().iterator();
+        nextPage = 2;
+        endPage = (totalPages == null ? 1 : totalPages) + 1;
+    }
+}
@@ -0,0 +1,91 @@
+package com.dnsimple.http;
+
+import com.dnsimple.response.PaginatedResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Fetches all the pages of a paginated endpoint concurrently.
+ * <p>
+ * The first page is requested alone to learn the total number of pages. Then, the rest
+ * of pages are requested by a fixed number of workers that take the next pending page as
+ * soon as their previous request completes, so that no more than the configured number
+ * of requests are in flight at any time.
+ * <p>
+ * Pages are passed to the consumer as they arrive, one at a time, together with their
+ * page number.
+ */
+class ParallelPageFetcher<T> {
+    private final IntFunction<CompletableFuture<PaginatedResponse<T>>> pageRequester;
+    private final int parallelism;
+    private final BiConsumer<Integer, List<T>> pageConsumer;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final AtomicInteger lastRequestedPage = new AtomicInteger(1);
+    private final AtomicInteger pendingWorkers = new AtomicInteger();
+    private volatile int totalPages;
+
+    ParallelPageFetcher(IntFunction<CompletableFuture<PaginatedResponse<T>>> pageRequester, int parallelism, BiConsumer<Integer, List<T>> pageConsumer) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("The parallelism must be greater than 0");
+        this.pageRequester = pageRequester;
+        this.parallelism = parallelism;
+        this.pageConsumer = pageConsumer;
+    }
+
+    /**
+     * @return a future that completes once all the pages have been consumed, or
+     * exceptionally as soon as any page request or the consumer fails
+     */
+    CompletableFuture<Void> fetch() {
+        pageRequester.apply(1).whenComplete((firstPage, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            Integer pages = firstPage.getPagination().getTotalPages();
+            totalPages = pages == null ? 1 : pages;
+            if (!consume(1, firstPage))
+                return;
+            int workers = Math.min(parallelism, totalPages - 1);
+            if (workers <= 0) {
+                result.complete(null);
+                return;
+            }
+            pendingWorkers.set(workers);
+            for (int i = 0; i < workers; i++)
+                requestNextPage();
+        });
+        return result;
+    }
+
+    private void requestNextPage() {
+        int page = lastRequestedPage.incrementAndGet();
+        if (page > totalPages || result.isDone()) {
+            if (pendingWorkers.decrementAndGet() == 0)
+                result.complete(null);
+            return;
+        }
+        pageRequester.apply(page).whenComplete((response, error) -> {
+            if (error != null)
+                result.completeExceptionally(error);
+            else if (consume(page, response))
+                requestNextPage();
+        });
+    }
+
+    private boolean consume(int page, PaginatedResponse<T> response) {
+        try {
+            synchronized (pageConsumer) {
+                pageConsumer.accept(page, response.getData());
+            }
+            return true;
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.dnsimple.http;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Path of an endpoint with placeholders for its variable segments, like
+ * {@code {account}/zones/{zone}/records}.
+ * <p>
+ * Templates are parsed once, when they are compiled, and expanding them only appends the
+ * literal parts and the percent-encoded values of the placeholders to a buffer of the
+ * expected size. Values made only of characters allowed in a path segment, which are
+ * the vast majority, are appended as they are.
+ */
+public class PathTemplate {
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+    private final String template;
+    private final String[] literals;
+    private final int literalsLength;
+
+    private PathTemplate(String template, String[] literals) {
+        this.template = template;
+        this.literals = literals;
+        int length = 0;
+        for (String literal : literals)
+            length += literal.length();
+        this.literalsLength = length;
+    }
+
+    /**
+     * @param template the path, with each variable segment written as a {@code {name}} placeholder
+     * @return the compiled template
+     */
+    public static PathTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0)
+                throw new IllegalArgumentException("Unclosed placeholder in path template " + template);
+            literals.add(template.substring(start, open));
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+        return new PathTemplate(template, literals.toArray(new String[0]));
+    }
+
+    /**
+     * @param values the values of the placeholders, in order
+     * @return the path with the placeholders replaced by the encoded values
+     */
+    public String expand(Object... values) {
+        if (values.length != literals.length - 1)
+            throw new IllegalArgumentException("Path template " + template + " expects " + (literals.length - 1) + " values but got " + values.length);
+        StringBuilder path = new StringBuilder(literalsLength + values.length * 16);
+        path.append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            appendSegment(path, String.valueOf(values[i]));
+            path.append(literals[i + 1]);
+        }
+        return path.toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static void appendSegment(StringBuilder path, String value) {
+        int i = 0;
+        while (i < value.length() && isAllowed(value.charAt(i)))
+            i++;
+        if (i == value.length()) {
+            path.append(value);
+            return;
+        }
+        path.append(value, 0, i);
+        for (byte b : value.substring(i).getBytes(UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if (isAllowed(c))
+                path.append(c);
+            else
+                path.append('%').append(HEX_DIGITS[c >> 4]).append(HEX_DIGITS[c & 0xF]);
+        }
+    }
+
+    /**
+     * @return whether the character can appear unencoded in a path segment, as defined by RFC 3986
+     */
+    private static boolean isAllowed(char c) {
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))
+            return true;
+        switch (c) {
+            case '-':
+            case '.':
+            case '_':
+            case '~':
+            case '!':
+            case '$':
+            case '&':
+            case '\'':
+            case '(':
+            case ')':
+            case '*':
+            case '+':
+            case ',':
+            case ';':
+            case '=':
+            case ':':
+            case '@':
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.dnsimple.http;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * RateLimitScheduler paces the requests sent with each access token so that they
+ * spread the remaining rate limit budget evenly until the rate limit window resets.
+ * <p>
+ * The budget is learnt from the X-RateLimit-Limit, X-RateLimit-Remaining and
+ * X-RateLimit-Reset headers included in every API response. Until a response has been
+ * seen, or after the rate limit window has reset, requests are not delayed.
+ * <p>
+ * Requests are allowed to run ahead of the sustainable rate in bursts of up to the
+ * configured size. Once a burst is spent, they are spaced evenly so that the remaining
+ * budget lasts until the window resets, instead of exhausting it and having to wait for
+ * the reset. When the budget is spent anyway, requests are scheduled into the next
+ * window at the pace of its full budget, assuming the hourly window of the API, instead
+ * of all being sent the moment the window resets.
+ * <p>
+ * Instances are thread-safe and can be shared between Client objects that use the same
+ * access tokens. The budgets of access tokens whose rate limit window has reset are
+ * forgotten as new access tokens are seen, so that schedulers shared by clients of many
+ * tenants don't grow without bound.
+ *
+ * @see <a href="https://developer.dnsimple.com/v2/#rate-limiting">https://developer.dnsimple.com/v2/#rate-limiting</a>
+ */
+public class RateLimitScheduler {
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    static final String RESET_HEADER = "X-RateLimit-Reset";
+    private static final int DEFAULT_BURST = 10;
+    private static final int MIN_PURGE_SIZE = 1000;
+    private static final long WINDOW_NANOS = HOURS.toNanos(1);
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final int burst;
+    private final Clock clock;
+    private volatile int purgeSize = MIN_PURGE_SIZE;
+
+    public RateLimitScheduler() {
+        this(DEFAULT_BURST);
+    }
+
+    /**
+     * @param burst the number of requests that can be sent immediately before pacing kicks in
+     */
+    public RateLimitScheduler(int burst) {
+        this(burst, Clock.systemUTC());
+    }
+
+    RateLimitScheduler(int burst, Clock clock) {
+        if (burst < 1)
+            throw new IllegalArgumentException("The burst size must be greater than 0");
+        this.burst = burst;
+        this.clock = clock;
+    }
+
+    /**
+     * Reserves a slot to send a request with the provided access token.
+     *
+     * @param accessToken the access token the request will be sent with
+     * @return the number of nanoseconds the request must wait before being sent
+     */
+    public long reserve(Optional<String> accessToken) {
+        Bucket bucket = buckets.get(key(accessToken));
+        return bucket == null ? 0 : bucket.reserve(clock.millis());
+    }
+
+    /**
+     * Blocks the calling thread until a request can be sent with the provided access token.
+     *
+     * @param accessToken the access token the request will be sent with
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public void acquire(Optional<String> accessToken) throws InterruptedException {
+        long delay = reserve(accessToken);
+        if (delay > 0)
+            Thread.sleep(delay / 1_000_000, (int) (delay % 1_000_000));
+    }
+
+    /**
+     * Updates the budget of the provided access token with the rate limit headers of a response.
+     *
+     * @param accessToken the access token the request was sent with
+     * @param headers     the headers of the response
+     */
+    public void update(Optional<String> accessToken, Map<String, List<String>> headers) {
+        Long limit = header(headers, LIMIT_HEADER);
+        Long remaining = header(headers, REMAINING_HEADER);
+        Long reset = header(headers, RESET_HEADER);
+        if (limit == null || remaining == null || reset == null)
+            return;
+        long now = clock.millis();
+        if (reset * 1000 <= now)
+            return;
+        if (buckets.size() >= purgeSize)
+            purge(now);
+        buckets.computeIfAbsent(key(accessToken), token -> new Bucket(burst)).update(now, limit, Math.min(limit, remaining), reset * 1000);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Forgets the buckets whose window has reset, which behave like missing ones. The next
+     * purge waits until the map doubles its remaining size, so that purging stays cheap
+     * when most of the access tokens are active.
+     */
+    private synchronized void purge(long now) {
+        if (buckets.size() < purgeSize)
+            return;
+        buckets.values().removeIf(bucket -> bucket.isExpired(now));
+        purgeSize = Math.max(MIN_PURGE_SIZE, buckets.size() * 2);
+    }
+
+    private static String key(Optional<String> accessToken) {
+        return accessToken.orElse("");
+    }
+
+    private static Long header(Map<String, List<String>> headers, String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey() != null && header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                try {
+                    return Long.parseLong(header.getValue().get(0).trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A GCRA token bucket whose rate is derived from the remaining budget
+     * and the time left until the rate limit window resets.
+     */
+    private static class Bucket {
+        private final int burst;
+        private long limit;
+        private long remaining;
+        private long resetAtMillis;
+        private long theoreticalArrivalNanos;
+
+        Bucket(int burst) {
+            this.burst = burst;
+        }
+
+        synchronized long reserve(long nowMillis) {
+            long now = MILLISECONDS.toNanos(nowMillis);
+            if (resetAtMillis <= nowMillis)
+                return 0;
+            long reset = MILLISECONDS.toNanos(resetAtMillis);
+            if (remaining <= 0) {
+                long interval = WINDOW_NANOS / Math.max(1, limit);
+                long arrival = Math.max(theoreticalArrivalNanos, reset);
+                theoreticalArrivalNanos = arrival + interval;
+                return Math.max(reset, arrival - (burst - 1) * interval) - now;
+            }
+            long interval = (reset - now) / remaining;
+            long arrival = Math.max(theoreticalArrivalNanos, now);
+            long delay = Math.max(0, arrival - (burst - 1) * interval - now);
+            theoreticalArrivalNanos = arrival + interval;
+            remaining--;
+            return delay;
+        }
+
+        synchronized boolean isExpired(long nowMillis) {
+            return resetAtMillis <= nowMillis;
+        }
+
+        synchronized void update(long nowMillis, long limit, long remaining, long resetAtMillis) {
+            if (resetAtMillis <= nowMillis)
+                return;
+            // Responses to requests sent before others that are still in flight report a
+            // stale budget, so only newer windows or lower estimates are taken into account
+            this.remaining = resetAtMillis != this.resetAtMillis ? remaining : Math.min(this.remaining, remaining);
+            this.resetAtMillis = resetAtMillis;
+            this.limit = limit;
+        }
+    }
+}
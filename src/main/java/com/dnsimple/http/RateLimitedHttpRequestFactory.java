@@ -0,0 +1,88 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.DnsimpleException;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.exception.TooManyRequestsException;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * HttpRequestFactory decorator that paces the requests sent through another factory
+ * with a RateLimitScheduler, and feeds the scheduler with the rate limit headers of
+ * every response.
+ *
+ * @see RateLimitScheduler
+ */
+public class RateLimitedHttpRequestFactory implements HttpRequestFactory {
+    private final HttpRequestFactory delegate;
+    private final RateLimitScheduler scheduler;
+
+    public RateLimitedHttpRequestFactory(HttpRequestFactory delegate, RateLimitScheduler scheduler) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        try {
+            scheduler.acquire(accessToken);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DnsimpleException(e);
+        }
+        RawResponse response;
+        try {
+            response = delegate.execute(userAgent, accessToken, method, uri, body, headers);
+        } catch (RuntimeException e) {
+            errorHeaders(e).ifPresent(errorHeaders -> scheduler.update(accessToken, errorHeaders));
+            throw e;
+        }
+        scheduler.update(accessToken, response.getHeaders());
+        return response;
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        long delay = scheduler.reserve(accessToken);
+        CompletableFuture<RawResponse> response = delay > 0
+                ? CompletableFuture.runAsync(() -> {}, delayedExecutor(delay, NANOSECONDS)).thenCompose(ignored -> delegate.executeAsync(userAgent, accessToken, method, uri, body, headers))
+                : delegate.executeAsync(userAgent, accessToken, method, uri, body, headers);
+        return response.whenComplete((rawResponse, error) -> {
+            if (error == null)
+                scheduler.update(accessToken, rawResponse.getHeaders());
+            else
+                errorHeaders(error instanceof CompletionException ? error.getCause() : error).ifPresent(errorHeaders -> scheduler.update(accessToken, errorHeaders));
+        });
+    }
+
+    /**
+     * Error responses carry the rate limit headers too, and a 429 Too Many Requests
+     * response is the one whose budget matters the most
+     */
+    private static Optional<Map<String, List<String>>> errorHeaders(Throwable error) {
+        if (error instanceof TooManyRequestsException)
+            return Optional.of(((TooManyRequestsException) error).getHeaders());
+        if (error instanceof ServerError)
+            return Optional.of(((ServerError) error).getHeaders());
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,95 @@
+package com.dnsimple.http;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical requests that are in flight at the same time, so that only the
+ * first one is sent and the rest share its deserialized result, or its failure.
+ * <p>
+ * Requests are identical when they have the same URI, access token and response type.
+ * Once a request completes, the next identical request is sent again.
+ */
+class RequestCoalescer {
+    private final ConcurrentHashMap<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    <T> T execute(Key key, Supplier<T> request) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, result);
+        if (existing != null)
+            return (T) Futures.join(existing);
+        try {
+            T value = request.get();
+            result.complete(value);
+            return value;
+        } catch (Throwable e) {
+            // Errors must reach the followers too, or they would wait forever
+            result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, result);
+        }
+    }
+
+    /**
+     * Every caller gets its own copy of the shared future, so that cancelling or completing
+     * it doesn't affect the rest of callers
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> executeAsync(Key key, Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, result);
+        if (existing != null)
+            return (CompletableFuture<T>) existing.copy();
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (Throwable e) {
+            inFlight.remove(key, result);
+            result.completeExceptionally(e);
+            throw e;
+        }
+        response.whenComplete((value, error) -> {
+            inFlight.remove(key, result);
+            if (error != null)
+                result.completeExceptionally(error);
+            else
+                result.complete(value);
+        });
+        return (CompletableFuture<T>) result.copy();
+    }
+
+    static class Key {
+        private final URI uri;
+        private final Optional<String> accessToken;
+        private final Class<?> containerType;
+        private final Class<?> dataType;
+
+        Key(URI uri, Optional<String> accessToken, Class<?> containerType, Class<?> dataType) {
+            this.uri = uri;
+            this.accessToken = accessToken;
+            this.containerType = containerType;
+            this.dataType = dataType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Key key = (Key) o;
+            return uri.equals(key.uri) && accessToken.equals(key.accessToken) && containerType == key.containerType && dataType == key.dataType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(uri, accessToken, containerType, dataType);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.dnsimple.http;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * RequestHedger decides when a GET request that is taking longer than usual gets a
+ * duplicate, or hedge, request sent in parallel, so that a few slow responses don't
+ * dominate the tail latency of the calls.
+ * <p>
+ * A request is hedged once it has been waiting for longer than the configured percentile
+ * of the latencies observed for the recent requests, or than the initial delay until
+ * enough latencies have been observed. Hedges are capped to the configured fraction of
+ * the requests, so that they can't take more than that share of the rate limit budget,
+ * and they are only sent while the budget saved from previous requests allows it.
+ * <p>
+ * Latencies differ widely between endpoints, so use a separate instance for each group
+ * of endpoints. Instances are thread-safe.
+ *
+ * @see HedgingHttpRequestFactory
+ */
+public class RequestHedger {
+    private static final double DEFAULT_PERCENTILE = 0.95;
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(500);
+    private static final int LATENCY_SAMPLES = 1000;
+    private static final int MIN_LATENCY_SAMPLES = 100;
+    private static final int UPDATE_INTERVAL = 100;
+    private static final double MAX_HEDGE_BUDGET = 10;
+    private final double percentile;
+    private final double maxHedgeRatio;
+    private final long[] latencies = new long[LATENCY_SAMPLES];
+    private int nextLatency;
+    private int latencyCount;
+    private int latenciesSinceUpdate;
+    private long hedgeDelay;
+    private double hedgeBudget;
+
+    public RequestHedger() {
+        this(DEFAULT_PERCENTILE, DEFAULT_MAX_HEDGE_RATIO, DEFAULT_INITIAL_DELAY);
+    }
+
+    /**
+     * @param percentile    the percentile of the observed latencies after which requests are hedged, like 0.95
+     * @param maxHedgeRatio the maximum fraction of the requests that can be hedged, like 0.05
+     * @param initialDelay  the time after which requests are hedged until enough latencies have been observed
+     */
+    public RequestHedger(double percentile, double maxHedgeRatio, Duration initialDelay) {
+        if (percentile <= 0 || percentile >= 1)
+            throw new IllegalArgumentException("The percentile must be between 0 and 1");
+        if (maxHedgeRatio <= 0 || maxHedgeRatio > 1)
+            throw new IllegalArgumentException("The maximum hedge ratio must be greater than 0 and at most 1");
+        this.percentile = percentile;
+        this.maxHedgeRatio = maxHedgeRatio;
+        this.hedgeDelay = initialDelay.toNanos();
+    }
+
+    /**
+     * @return the time after which requests are currently hedged
+     */
+    public synchronized Duration getHedgeDelay() {
+        return Duration.ofNanos(hedgeDelay);
+    }
+
+    /**
+     * Registers a new request, which adds its share to the budget of hedges.
+     *
+     * @return the number of nanoseconds after which the request must be hedged
+     */
+    synchronized long onRequest() {
+        hedgeBudget = Math.min(MAX_HEDGE_BUDGET, hedgeBudget + maxHedgeRatio);
+        return hedgeDelay;
+    }
+
+    /**
+     * Takes a hedge from the budget.
+     *
+     * @return whether the budget allows sending a hedge
+     */
+    synchronized boolean tryHedge() {
+        if (hedgeBudget < 1)
+            return false;
+        hedgeBudget--;
+        return true;
+    }
+
+    /**
+     * Records the latency of a successful request, including the time it waited for its
+     * hedge when it had one, and updates the hedge delay periodically.
+     */
+    synchronized void recordLatency(long latency) {
+        latencies[nextLatency] = latency;
+        nextLatency = (nextLatency + 1) % LATENCY_SAMPLES;
+        latencyCount = Math.min(latencyCount + 1, LATENCY_SAMPLES);
+        if (++latenciesSinceUpdate >= UPDATE_INTERVAL && latencyCount >= MIN_LATENCY_SAMPLES) {
+            latenciesSinceUpdate = 0;
+            long[] sorted = Arrays.copyOf(latencies, latencyCount);
+            Arrays.sort(sorted);
+            hedgeDelay = sorted[(int) Math.min(sorted.length - 1, Math.round(percentile * sorted.length))];
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.dnsimple.http;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ResponseCache keeps the ETag and the deserialized response of GET requests, so that
+ * they can be repeated as conditional requests and a 304 Not Modified response can be
+ * served from memory without downloading or parsing the response again.
+ * <p>
+ * Entries are keyed by the requested URI and the access token used, and the least
+ * recently used entries are evicted once the maximum number of entries is reached.
+ * <p>
+ * The responses returned from the cache are the same objects that were returned for
+ * the original request, and they must be treated as read-only.
+ */
+public class ResponseCache {
+    private final Map<String, CachedResponse> entries;
+
+    /**
+     * @param maxEntries the maximum number of responses to keep
+     */
+    public ResponseCache(int maxEntries) {
+        if (maxEntries < 1)
+            throw new IllegalArgumentException("The maximum number of entries must be greater than 0");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized Optional<CachedResponse> get(URI uri, Optional<String> accessToken) {
+        return Optional.ofNullable(entries.get(key(uri, accessToken)));
+    }
+
+    synchronized void put(URI uri, Optional<String> accessToken, String etag, Object response) {
+        entries.put(key(uri, accessToken), new CachedResponse(etag, response));
+    }
+
+    /**
+     * Removes all the entries of this cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private static String key(URI uri, Optional<String> accessToken) {
+        return accessToken.orElse("") + " " + uri;
+    }
+
+    static class CachedResponse {
+        final String etag;
+        final Object response;
+
+        CachedResponse(String etag, Object response) {
+            this.etag = etag;
+            this.response = response;
+        }
+    }
+}
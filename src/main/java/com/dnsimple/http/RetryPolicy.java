@@ -0,0 +1,115 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.DnsimpleException;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.exception.TooManyRequestsException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.dnsimple.http.HttpMethod.*;
+
+/**
+ * RetryPolicy defines when and how often failed requests are retried.
+ * <p>
+ * Only idempotent requests (GET, HEAD, PUT and DELETE) are retried, and only when they
+ * fail with a server error (5xx), a 429 Too Many Requests error, or a network error such
+ * as a connection reset. Attempts are spaced with an exponential backoff with full jitter,
+ * or by the time requested by the server's Retry-After header, and they stop once the
+ * maximum number of attempts or the deadline of the call is reached.
+ * <p>
+ * Use RetryPolicy.defaults() to obtain a policy with sensible defaults and customize it
+ * with the rest of methods of this class, which return new RetryPolicy objects.
+ */
+public class RetryPolicy {
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(GET, HEAD, PUT, DELETE);
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration deadline;
+
+    private RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, Duration deadline) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return a policy that makes up to 3 attempts, with a backoff starting at 200
+     * milliseconds and capped at 5 seconds, within a deadline of 30 seconds per call.
+     */
+    public static RetryPolicy defaults() {
+        return new RetryPolicy(3, Duration.ofMillis(200), Duration.ofSeconds(5), Duration.ofSeconds(30));
+    }
+
+    /**
+     * Set the maximum number of attempts per call, including the first one
+     */
+    public RetryPolicy maxAttempts(int maxAttempts) {
+        if (maxAttempts < 1)
+            throw new IllegalArgumentException("The maximum number of attempts must be greater than 0");
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, deadline);
+    }
+
+    /**
+     * Set the base delay of the exponential backoff, which is doubled on every retry
+     */
+    public RetryPolicy baseDelay(Duration baseDelay) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, deadline);
+    }
+
+    /**
+     * Set the maximum delay between attempts
+     */
+    public RetryPolicy maxDelay(Duration maxDelay) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, deadline);
+    }
+
+    /**
+     * Set the maximum time a call can take, including all its attempts and the delays
+     * between them. No retries are attempted when they couldn't start before the deadline.
+     */
+    public RetryPolicy deadline(Duration deadline) {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, deadline);
+    }
+
+    /**
+     * Computes the delay before the next attempt of a failed call.
+     *
+     * @param method  the HTTP method of the call
+     * @param attempt the number of attempts made so far
+     * @param elapsed the time elapsed since the first attempt started
+     * @param error   the error that made the last attempt fail
+     * @return the delay before the next attempt, or empty if the call must not be retried
+     */
+    Optional<Duration> nextDelay(HttpMethod method, int attempt, Duration elapsed, Throwable error) {
+        if (!IDEMPOTENT_METHODS.contains(method) || attempt >= maxAttempts || !isRetryable(error))
+            return Optional.empty();
+        Duration delay = retryAfter(error).orElseGet(() -> backoff(attempt));
+        if (elapsed.plus(delay).compareTo(deadline) >= 0)
+            return Optional.empty();
+        return Optional.of(delay);
+    }
+
+    private Duration backoff(int attempt) {
+        long cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 30));
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    private static Optional<Duration> retryAfter(Throwable error) {
+        if (error instanceof TooManyRequestsException)
+            return ((TooManyRequestsException) error).getRetryAfter().map(delay -> delay.isNegative() ? Duration.ZERO : delay);
+        return Optional.empty();
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        return error instanceof ServerError
+                || error instanceof TooManyRequestsException
+                || error instanceof DnsimpleException && error.getCause() instanceof IOException;
+    }
+}
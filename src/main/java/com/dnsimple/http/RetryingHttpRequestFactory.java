@@ -0,0 +1,77 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.DnsimpleException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * HttpRequestFactory decorator that retries the failed requests sent through another
+ * factory according to a RetryPolicy.
+ *
+ * @see RetryPolicy
+ */
+public class RetryingHttpRequestFactory implements HttpRequestFactory {
+    private final HttpRequestFactory delegate;
+    private final RetryPolicy policy;
+
+    public RetryingHttpRequestFactory(HttpRequestFactory delegate, RetryPolicy policy) {
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return delegate.execute(userAgent, accessToken, method, uri, body, headers);
+            } catch (DnsimpleException e) {
+                Duration delay = policy.nextDelay(method, attempt, Duration.ofNanos(System.nanoTime() - start), e).orElseThrow(() -> e);
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new DnsimpleException(ie);
+                }
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        return executeAsync(userAgent, accessToken, method, uri, body, headers, 1, System.nanoTime());
+    }
+
+    private CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers, int attempt, long start) {
+        return delegate.executeAsync(userAgent, accessToken, method, uri, body, headers).handle((response, error) -> {
+            if (error == null)
+                return CompletableFuture.completedFuture(response);
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            Optional<Duration> delay = policy.nextDelay(method, attempt, Duration.ofNanos(System.nanoTime() - start), cause);
+            if (delay.isEmpty())
+                return CompletableFuture.<RawResponse>failedFuture(cause);
+            return CompletableFuture.runAsync(() -> {}, delayedExecutor(delay.get().toNanos(), NANOSECONDS))
+                    .thenCompose(ignored -> executeAsync(userAgent, accessToken, method, uri, body, headers, attempt + 1, start));
+        }).thenCompose(Function.identity());
+    }
+}
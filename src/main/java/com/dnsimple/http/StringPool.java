@@ -0,0 +1,43 @@
+package com.dnsimple.http;
+
+/**
+ * Bounded pool of strings used to share a single instance of the values that repeat
+ * across the objects of large listings, like the zone, type and content of zone records.
+ * <p>
+ * The pool is direct-mapped: each string can only be kept in one slot, which it takes
+ * over from any other string that was in it, so the pool never grows beyond its size.
+ * Strings longer than the maximum length are not pooled, because they are unlikely to
+ * repeat and would evict the ones that do.
+ */
+class StringPool {
+    static final int MAX_LENGTH = 255;
+    private final String[] slots;
+
+    /**
+     * @param size the number of strings to keep, which is rounded up to the next power of two
+     */
+    StringPool(int size) {
+        if (size < 1)
+            throw new IllegalArgumentException("The pool size must be greater than 0");
+        int slotCount = 1;
+        while (slotCount < size)
+            slotCount <<= 1;
+        this.slots = new String[slotCount];
+    }
+
+    /**
+     * @return the pooled string equal to the provided one, or the provided one after
+     * pooling it when there is none. Strings are immutable, so threads racing for a slot
+     * can only cause a value to be pooled again.
+     */
+    String intern(String value) {
+        if (value == null || value.length() > MAX_LENGTH)
+            return value;
+        int slot = value.hashCode() & (slots.length - 1);
+        String pooled = slots[slot];
+        if (value.equals(pooled))
+            return pooled;
+        slots[slot] = value;
+        return value;
+    }
+}
@@ -0,0 +1,115 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.ZoneRecord;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+class ZoneRecordTypeAdapter extends DataTypeAdapter<ZoneRecord> {
+    /**
+     * Almost every record is in the global region, so they can all share this list
+     */
+    static final List<String> GLOBAL_REGIONS = List.of("global");
+    private final boolean lazyTimestamps;
+    private final StringPool stringPool;
+
+    ZoneRecordTypeAdapter(Gson gson, TypeAdapter<ZoneRecord> delegate, boolean lazyTimestamps, StringPool stringPool) {
+        super(gson, delegate);
+        this.lazyTimestamps = lazyTimestamps;
+        this.stringPool = stringPool;
+    }
+
+    @Override
+    ZoneRecord readFields(JsonReader in) throws IOException {
+        Long id = null;
+        String zoneId = null;
+        Long parentId = null;
+        String type = null;
+        String name = null;
+        String content = null;
+        Integer ttl = null;
+        Integer priority = null;
+        Boolean systemRecord = null;
+        List<String> regions = null;
+        OffsetDateTime createdAt = null;
+        String createdAtValue = null;
+        OffsetDateTime updatedAt = null;
+        String updatedAtValue = null;
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = nextLong(in);
+                    break;
+                case "zone_id":
+                    zoneId = intern(nextString(in));
+                    break;
+                case "parent_id":
+                    parentId = nextLong(in);
+                    break;
+                case "type":
+                    type = intern(nextString(in));
+                    break;
+                case "name":
+                    name = intern(nextString(in));
+                    break;
+                case "content":
+                    content = intern(nextString(in));
+                    break;
+                case "ttl":
+                    ttl = nextInteger(in);
+                    break;
+                case "priority":
+                    priority = nextInteger(in);
+                    break;
+                case "system_record":
+                    systemRecord = nextBoolean(in);
+                    break;
+                case "regions":
+                    regions = nextRegions(in);
+                    break;
+                case "created_at":
+                    if (lazyTimestamps)
+                        createdAtValue = nextString(in);
+                    else
+                        createdAt = nextOffsetDateTime(in);
+                    break;
+                case "updated_at":
+                    if (lazyTimestamps)
+                        updatedAtValue = nextString(in);
+                    else
+                        updatedAt = nextOffsetDateTime(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        if (lazyTimestamps)
+            return new LazyZoneRecord(id, zoneId, parentId, type, name, content, ttl, priority, systemRecord, regions, createdAtValue, updatedAtValue);
+        return new ZoneRecord(id, zoneId, parentId, type, name, content, ttl, priority, systemRecord, regions, createdAt, updatedAt);
+    }
+
+    @Override
+    ZoneRecord writable(ZoneRecord value) {
+        if (value.getClass() == ZoneRecord.class)
+            return value;
+        return new ZoneRecord(value.getId(), value.getZoneId(), value.getParentId(), value.getType(), value.getName(), value.getContent(), value.getTtl(), value.getPriority(), value.isSystemRecord(), value.getRegions(), value.getCreatedAt(), value.getUpdatedAt());
+    }
+
+    private String intern(String value) {
+        return stringPool == null ? value : stringPool.intern(value);
+    }
+
+    private List<String> nextRegions(JsonReader in) throws IOException {
+        List<String> regions = nextStringList(in);
+        if (stringPool == null || regions == null)
+            return regions;
+        if (regions.equals(GLOBAL_REGIONS))
+            return GLOBAL_REGIONS;
+        regions.replaceAll(stringPool::intern);
+        return regions;
+    }
+}
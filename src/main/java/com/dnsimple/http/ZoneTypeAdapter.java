@@ -0,0 +1,50 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Zone;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+class ZoneTypeAdapter extends DataTypeAdapter<Zone> {
+    ZoneTypeAdapter(Gson gson, TypeAdapter<Zone> delegate) {
+        super(gson, delegate);
+    }
+
+    @Override
+    Zone readFields(JsonReader in) throws IOException {
+        Long id = null;
+        Long accountId = null;
+        String name = null;
+        Boolean reverse = null;
+        OffsetDateTime createdAt = null;
+        OffsetDateTime updatedAt = null;
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    id = nextLong(in);
+                    break;
+                case "account_id":
+                    accountId = nextLong(in);
+                    break;
+                case "name":
+                    name = nextString(in);
+                    break;
+                case "reverse":
+                    reverse = nextBoolean(in);
+                    break;
+                case "created_at":
+                    createdAt = nextOffsetDateTime(in);
+                    break;
+                case "updated_at":
+                    updatedAt = nextOffsetDateTime(in);
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+        return new Zone(id, accountId, name, reverse, createdAt, updatedAt);
+    }
+}
@@ -4,84 +4,332 @@ import com.dnsimple.exception.BadRequestException;
 import com.dnsimple.exception.DnsimpleException;
 import com.dnsimple.exception.ResourceNotFoundException;
 import com.dnsimple.exception.ServerError;
+import com.dnsimple.exception.TooManyRequestsException;
+import com.dnsimple.http.GsonJsonCodec;
 import com.dnsimple.http.HttpMethod;
 import com.dnsimple.http.HttpRequestFactory;
+import com.dnsimple.http.JsonCodec;
 import com.dnsimple.http.RawResponse;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 
 import java.io.*;
-import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.util.Collections;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
 
-import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
 import static java.net.http.HttpClient.Redirect.ALWAYS;
 import static java.net.http.HttpClient.Version.HTTP_1_1;
+import static java.net.http.HttpClient.Version.HTTP_2;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.util.Collections.emptyMap;
 
 public class Java11HttpRequestFactory implements HttpRequestFactory {
-    private static final Gson gson = new GsonBuilder().setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES).create();
     private final HttpClient client;
+    private final JsonCodec jsonCodec;
+    private final Optional<Duration> requestTimeout;
+    private final boolean compression;
 
     public Java11HttpRequestFactory() {
-        this.client = HttpClient.newBuilder().version(HTTP_1_1).followRedirects(ALWAYS).build();
+        this(HttpClient.newBuilder().version(HTTP_1_1).followRedirects(ALWAYS).build(), GsonJsonCodec.defaults(), Optional.empty(), false);
+    }
+
+    private Java11HttpRequestFactory(HttpClient client, JsonCodec jsonCodec, Optional<Duration> requestTimeout, boolean compression) {
+        this.client = client;
+        this.jsonCodec = jsonCodec;
+        this.requestTimeout = requestTimeout;
+        this.compression = compression;
+    }
+
+    /**
+     * Returns a factory that shares the HTTP client, with its connections and executor, of
+     * this one, but waits for responses for up to the provided timeout. Requests that time
+     * out fail with a DnsimpleException caused by an HttpTimeoutException.
+     *
+     * @param timeout the request timeout to be used
+     * @return the new Java11HttpRequestFactory object
+     */
+    public Java11HttpRequestFactory withRequestTimeout(Duration timeout) {
+        return new Java11HttpRequestFactory(client, jsonCodec, Optional.of(timeout), compression);
     }
 
     @Override
     public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return execute(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
         try {
-            HttpRequest request = buildRequest(method, uri, body, userAgent, accessToken);
+            HttpRequest request = buildRequest(method, uri, body, userAgent, accessToken, headers);
             HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-            checkStatusCode(response);
-            return new RawResponse(
-                    response.statusCode(),
-                    response.headers().map(),
-                    response.body()
-            );
+            return toRawResponse(response.statusCode(), response.headers(), response.body());
         } catch (IOException | InterruptedException e) {
             throw new DnsimpleException(e);
         }
     }
 
-    private static HttpRequest buildRequest(HttpMethod method, URI uri, Object attributes, String userAgent, Optional<String> accessToken) {
-        String body = gson.toJson(attributes);
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+        return executeAsync(userAgent, accessToken, method, uri, body, emptyMap());
+    }
+
+    @Override
+    public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body, Map<String, String> headers) {
+        HttpRequest request = buildRequest(method, uri, body, userAgent, accessToken, headers);
+        // Bodies are buffered so that the HTTP client's threads are never blocked by
+        // callers consuming a response stream
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).handle((response, error) -> {
+            if (error != null)
+                throw new DnsimpleException(error instanceof CompletionException ? error.getCause() : error);
+            try {
+                return toRawResponse(response.statusCode(), response.headers(), new ByteArrayInputStream(response.body()));
+            } catch (IOException e) {
+                throw new DnsimpleException(e);
+            }
+        });
+    }
+
+    private HttpRequest buildRequest(HttpMethod method, URI uri, Object attributes, String userAgent, Optional<String> accessToken, Map<String, String> headers) {
         var bodyPublisher = attributes != null
-                ? HttpRequest.BodyPublishers.ofString(body)
+                ? serialize(attributes).publisher()
                 : HttpRequest.BodyPublishers.noBody();
         HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
                 .header("Accept", "application/json")
                 .header("Content-Type", "application/json")
                 .header("User-Agent", userAgent)
                 .method(method.name(), bodyPublisher);
+        requestTimeout.ifPresent(builder::timeout);
+        if (compression)
+            builder.header("Accept-Encoding", "gzip, deflate");
+        headers.forEach(builder::header);
         return accessToken.map(token -> builder.header("Authorization", "Bearer " + token))
                 .orElse(builder)
                 .build();
     }
 
-    private static void checkStatusCode(HttpResponse<InputStream> response) throws DnsimpleException {
-        int statusCode = response.statusCode();
-        if (statusCode == 404)
+    /**
+     * The status is checked before the body is decoded, so that errors whose bodies are
+     * never read can't fail on their encoding. The body is closed when anything fails.
+     */
+    private RawResponse toRawResponse(int statusCode, HttpHeaders headers, InputStream body) throws IOException {
+        try {
+            checkStatusCode(statusCode, headers, body);
+            return new RawResponse(statusCode, headers.map(), decode(statusCode, headers, body));
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(body);
+            throw e;
+        }
+    }
+
+    /**
+     * Compressed bodies are decompressed while they are read. On the blocking path, where
+     * the body is streamed from the connection, this lets the JSON parser consume it
+     * incrementally; the non-blocking path has already buffered the compressed body, so
+     * only the decompressed copy is avoided.
+     */
+    private InputStream decode(int statusCode, HttpHeaders headers, InputStream body) throws IOException {
+        if (!compression || statusCode == 204 || statusCode == 304)
+            return body;
+        switch (headers.firstValue("Content-Encoding").orElse("identity").trim().toLowerCase(Locale.ROOT)) {
+            case "gzip":
+                return gunzip(body);
+            case "deflate":
+                return new InflaterInputStream(body);
+            default:
+                return body;
+        }
+    }
+
+    /**
+     * GZIPInputStream reads the gzip header as soon as it's created, so bodies that are
+     * empty or don't start with one are returned as they are instead of failing there
+     */
+    private static InputStream gunzip(InputStream body) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(body, 8192);
+        buffered.mark(8192);
+        try {
+            return new GZIPInputStream(buffered, 8192);
+        } catch (EOFException | ZipException e) {
+            buffered.reset();
+            return buffered;
+        }
+    }
+
+    private BodyBuffer serialize(Object attributes) {
+        BodyBuffer body = new BodyBuffer();
+        try (Writer writer = new OutputStreamWriter(body, UTF_8)) {
+            jsonCodec.write(attributes, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return body;
+    }
+
+    private void checkStatusCode(int statusCode, HttpHeaders headers, InputStream responseBody) throws IOException {
+        if (statusCode == 404) {
+            closeQuietly(responseBody);
             throw new ResourceNotFoundException();
-        if (statusCode >= 500)
-            throw new ServerError(statusCode);
+        }
+        if (statusCode >= 500) {
+            closeQuietly(responseBody);
+            throw new ServerError(statusCode, headers.map());
+        }
         if (statusCode >= 400) {
-            Map<String, Object> body;
-            try (InputStream stream = response.body();
-                 InputStreamReader isr = new InputStreamReader(stream);
-                 BufferedReader br = new BufferedReader(isr)) {
-                Type empMapType = new TypeToken<Map<String, Object>>() {
-                }.getType();
-                body = gson.fromJson(br, empMapType);
-            } catch (IOException e) {
-                body = Collections.emptyMap();
-            }
+            Map<String, Object> body = jsonCodec.readError(decode(statusCode, headers, responseBody));
+            if (statusCode == 429)
+                throw new TooManyRequestsException(body, headers.firstValue("Retry-After").flatMap(Java11HttpRequestFactory::parseRetryAfter), headers.map());
             throw new BadRequestException(statusCode, body);
         }
     }
+
+    private static Optional<Duration> parseRetryAfter(String value) {
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                return Optional.of(Duration.between(OffsetDateTime.now(), OffsetDateTime.parse(value.trim(), RFC_1123_DATE_TIME)));
+            } catch (DateTimeParseException e2) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            // Nothing to do, the response is being discarded
+        }
+    }
+
+    /**
+     * Buffer that request bodies are serialized into as UTF-8 bytes, and that is published
+     * without copying it again
+     */
+    private static class BodyBuffer extends ByteArrayOutputStream {
+        BodyBuffer() {
+            super(256);
+        }
+
+        HttpRequest.BodyPublisher publisher() {
+            return HttpRequest.BodyPublishers.ofByteArray(buf, 0, count);
+        }
+    }
+
+    /**
+     * Builder class to obtain Java11HttpRequestFactory instances. By default, builders
+     * will provide instances that use HTTP/1.1.
+     */
+    public static class Builder {
+        private HttpClient.Version version = HTTP_1_1;
+        private JsonCodec jsonCodec = GsonJsonCodec.defaults();
+        private Optional<Executor> executor = Optional.empty();
+        private Optional<Duration> connectTimeout = Optional.empty();
+        private Optional<Duration> requestTimeout = Optional.empty();
+        private boolean compression = false;
+
+        /**
+         * Use HTTP/2, which multiplexes concurrent requests as streams over a single
+         * connection per host instead of opening one connection per in-flight request.
+         * <p>
+         * The version is negotiated with the server (ALPN over TLS, or an h2c upgrade
+         * over plain HTTP) and requests fall back to HTTP/1.1 when the server doesn't
+         * support HTTP/2.
+         *
+         * @return this Builder object
+         */
+        public Builder http2() {
+            version = HTTP_2;
+            return this;
+        }
+
+        /**
+         * Use the provided codec to write request bodies and read error responses, instead
+         * of the default GsonJsonCodec.
+         *
+         * @param jsonCodec the JSON codec to be used
+         * @return this Builder object
+         */
+        public Builder jsonCodec(JsonCodec jsonCodec) {
+            this.jsonCodec = jsonCodec;
+            return this;
+        }
+
+        /**
+         * Use the provided executor to send asynchronous requests and run their dependent
+         * tasks, instead of the default cached thread pool of the HTTP client. On JDK 21 and
+         * later, an executor that starts a virtual thread per task, such as the one returned
+         * by Executors.newVirtualThreadPerTaskExecutor(), can be used.
+         *
+         * @param executor the executor to be used
+         * @return this Builder object
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Optional.of(executor);
+            return this;
+        }
+
+        /**
+         * Fail requests that can't establish a connection within the provided timeout. By
+         * default, connecting waits as long as the operating system allows.
+         *
+         * @param timeout the connect timeout to be used
+         * @return this Builder object
+         */
+        public Builder connectTimeout(Duration timeout) {
+            this.connectTimeout = Optional.of(timeout);
+            return this;
+        }
+
+        /**
+         * Fail requests whose response doesn't arrive within the provided timeout. By
+         * default, requests wait for their response indefinitely.
+         *
+         * @param timeout the request timeout to be used
+         * @return this Builder object
+         * @see Java11HttpRequestFactory#withRequestTimeout(Duration)
+         */
+        public Builder requestTimeout(Duration timeout) {
+            this.requestTimeout = Optional.of(timeout);
+            return this;
+        }
+
+        /**
+         * Ask the API to compress responses with gzip or deflate, which reduces the size of
+         * large responses like zone files or pages of zone records several times. Compressed
+         * responses are decompressed transparently while they are read.
+         *
+         * @return this Builder object
+         */
+        public Builder compression() {
+            this.compression = true;
+            return this;
+        }
+
+        /**
+         * Builds a Java11HttpRequestFactory object with the configured values and returns it.
+         *
+         * @return the Java11HttpRequestFactory object
+         */
+        public Java11HttpRequestFactory build() {
+            HttpClient.Builder builder = HttpClient.newBuilder().version(version).followRedirects(ALWAYS);
+            executor.ifPresent(builder::executor);
+            connectTimeout.ifPresent(builder::connectTimeout);
+            return new Java11HttpRequestFactory(builder.build(), jsonCodec, requestTimeout, compression);
+        }
+    }
 }
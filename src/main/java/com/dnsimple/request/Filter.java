@@ -14,10 +14,6 @@ public class Filter {
     }
 
     public String asQueryStringParam() {
-        return String.format(
-                "%s=%s",
-                URLEncoder.encode(name, UTF_8),
-                URLEncoder.encode(value, UTF_8)
-        );
+        return URLEncoder.encode(name, UTF_8) + "=" + URLEncoder.encode(value, UTF_8);
     }
 }
@@ -7,72 +7,144 @@ import static com.dnsimple.request.PageRequest.MAX_ITEMS_PER_PAGE;
 import static com.dnsimple.request.SortField.Order.ASC;
 import static com.dnsimple.request.SortField.Order.DESC;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 
+/**
+ * Options of the requests to list endpoints.
+ * <p>
+ * The filters, sorting and other options are encoded once and reused by all the options
+ * derived from these with a different page, so that paginating through a listing only
+ * encodes the page of each request. Options derived with a different page also share
+ * the other options of these, which are only copied when either of them sets one.
+ */
 public class ListOptions {
     private final PageRequest pageRequest;
     private final List<Filter> filters;
     private final List<SortField> sortFields;
-    private final Map<String, String> otherOptions = new HashMap<>();
+    private final boolean frozen;
+    private Map<String, String> otherOptions;
+    private boolean otherOptionsShared;
+    private String encodedParams;
 
-    private ListOptions(PageRequest pageRequest, List<Filter> filters, List<SortField> sortFields) {
+    private ListOptions(PageRequest pageRequest, List<Filter> filters, List<SortField> sortFields, Map<String, String> otherOptions) {
+        this(pageRequest, filters, sortFields, new HashMap<>(otherOptions), false, false, null);
+    }
+
+    private ListOptions(PageRequest pageRequest, List<Filter> filters, List<SortField> sortFields, Map<String, String> otherOptions, boolean frozen, boolean otherOptionsShared, String encodedParams) {
         this.pageRequest = pageRequest;
         this.filters = filters;
         this.sortFields = sortFields;
+        this.otherOptions = otherOptions;
+        this.frozen = frozen;
+        this.otherOptionsShared = otherOptionsShared;
+        this.encodedParams = encodedParams;
     }
 
     public static ListOptions empty() {
-        return new ListOptions(null, new ArrayList<>(), new ArrayList<>());
+        return new ListOptions(null, new ArrayList<>(), new ArrayList<>(), new HashMap<>(), false, false, null);
     }
 
     public ListOptions page(int page) {
-        return new ListOptions(new PageRequest(page, null), filters, sortFields);
+        return withPage(new PageRequest(page, null));
     }
 
     public ListOptions page(int page, int itemsPerPage) {
         if (itemsPerPage > MAX_ITEMS_PER_PAGE)
             throw new IllegalArgumentException("The requested items per page can't be greater than " + MAX_ITEMS_PER_PAGE);
-        return new ListOptions(new PageRequest(page, itemsPerPage), filters, sortFields);
+        return withPage(new PageRequest(page, itemsPerPage));
+    }
+
+    private ListOptions withPage(PageRequest pageRequest) {
+        String params = encodedParams();
+        if (!frozen)
+            otherOptionsShared = true;
+        return new ListOptions(pageRequest, filters, sortFields, otherOptions, frozen, !frozen, params);
     }
 
     public ListOptions filter(String name, String value) {
         List<Filter> newFilters = new ArrayList<>(filters);
         newFilters.add(new Filter(name, value));
-        return new ListOptions(pageRequest, newFilters, sortFields);
+        return new ListOptions(pageRequest, newFilters, sortFields, otherOptions);
     }
 
     public ListOptions sortAsc(String name) {
         List<SortField> newSortFields = new ArrayList<>(sortFields);
         newSortFields.add(new SortField(name, ASC));
-        return new ListOptions(pageRequest, filters, newSortFields);
+        return new ListOptions(pageRequest, filters, newSortFields, otherOptions);
     }
 
     public ListOptions sortDesc(String name) {
         List<SortField> newSortFields = new ArrayList<>(sortFields);
         newSortFields.add(new SortField(name, DESC));
-        return new ListOptions(pageRequest, filters, newSortFields);
+        return new ListOptions(pageRequest, filters, newSortFields, otherOptions);
     }
 
+    /**
+     * @throws UnsupportedOperationException if these options are frozen
+     */
     public ListOptions setOtherOption(String name, String value) {
+        if (frozen)
+            throw new UnsupportedOperationException("Frozen list options can't be modified");
+        if (otherOptionsShared) {
+            this.otherOptions = new HashMap<>(otherOptions);
+            this.otherOptionsShared = false;
+        }
         this.otherOptions.put(name, value);
+        this.encodedParams = null;
         return this;
     }
 
+    /**
+     * Returns options with the same values as these, with their filters, sorting and other
+     * options already encoded, that can't be modified with setOtherOption anymore. Frozen
+     * options can be safely shared between threads, and reused for any number of requests
+     * by only changing their page.
+     *
+     * @return the frozen options
+     */
+    public ListOptions freeze() {
+        if (frozen)
+            return this;
+        return new ListOptions(pageRequest, List.copyOf(filters), List.copyOf(sortFields), Map.copyOf(otherOptions), true, false, encodedParams());
+    }
+
     public String asQueryString() {
-        List<String> qsParams = new ArrayList<>();
-        if (pageRequest != null)
-            qsParams.addAll(pageRequest.asQueryStringParams());
-        qsParams.addAll(filters.stream().map(Filter::asQueryStringParam).collect(toList()));
-        if (!sortFields.isEmpty())
-            qsParams.add("sort=" + sortFields.stream().map(SortField::asQueryStringParam).collect(joining(",")));
-        for (var e : this.otherOptions.entrySet()) {
-            qsParams.add(String.format(
-                    "%s=%s",
-                    URLEncoder.encode(e.getKey(), UTF_8),
-                    URLEncoder.encode(e.getValue(), UTF_8)
-            ));
+        String params = encodedParams();
+        if (pageRequest == null)
+            return params.isEmpty() ? "" : "?" + params;
+        StringBuilder queryString = new StringBuilder(32 + params.length()).append('?');
+        pageRequest.appendTo(queryString);
+        if (!params.isEmpty())
+            queryString.append('&').append(params);
+        return queryString.toString();
+    }
+
+    private String encodedParams() {
+        String params = encodedParams;
+        if (params == null) {
+            params = encodeParams();
+            encodedParams = params;
         }
-        return qsParams.isEmpty() ? "" : "?" + String.join("&", qsParams);
+        return params;
+    }
+
+    private String encodeParams() {
+        StringBuilder params = new StringBuilder();
+        for (Filter filter : filters)
+            separate(params).append(filter.asQueryStringParam());
+        if (!sortFields.isEmpty()) {
+            separate(params).append("sort=");
+            for (int i = 0; i < sortFields.size(); i++) {
+                if (i > 0)
+                    params.append(',');
+                params.append(sortFields.get(i).asQueryStringParam());
+            }
+        }
+        for (var e : otherOptions.entrySet())
+            separate(params).append(URLEncoder.encode(e.getKey(), UTF_8)).append('=').append(URLEncoder.encode(e.getValue(), UTF_8));
+        return params.toString();
+    }
+
+    private static StringBuilder separate(StringBuilder params) {
+        return params.length() == 0 ? params : params.append('&');
     }
 }
@@ -1,10 +1,9 @@
 package com.dnsimple.request;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class PageRequest {
-    static final int MAX_ITEMS_PER_PAGE = 100;
+    public static final int MAX_ITEMS_PER_PAGE = 100;
     final int page;
     final Integer itemsPerPage;
 
@@ -14,10 +13,14 @@ public class PageRequest {
     }
 
     public List<String> asQueryStringParams() {
-        List<String> qsParams = new ArrayList<>();
-        qsParams.add(String.format("page=%d", page));
+        if (itemsPerPage == null)
+            return List.of("page=" + page);
+        return List.of("page=" + page, "per_page=" + itemsPerPage);
+    }
+
+    void appendTo(StringBuilder queryString) {
+        queryString.append("page=").append(page);
         if (itemsPerPage != null)
-            qsParams.add(String.format("per_page=%d", itemsPerPage));
-        return qsParams;
+            queryString.append("&per_page=").append(itemsPerPage);
     }
 }
@@ -5,6 +5,7 @@ import java.net.URLEncoder;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class SortField {
+    private static final String ENCODED_SEPARATOR = URLEncoder.encode(":", UTF_8);
     final String field;
     final Order order;
 
@@ -14,12 +15,7 @@ public class SortField {
     }
 
     public String asQueryStringParam() {
-        return String.format(
-                "%s%s%s",
-                URLEncoder.encode(field, UTF_8),
-                URLEncoder.encode(":", UTF_8),
-                order.queryStringValue
-        );
+        return URLEncoder.encode(field, UTF_8) + ENCODED_SEPARATOR + order.queryStringValue;
     }
 
     public enum Order {
@@ -0,0 +1,44 @@
+package com.dnsimple;
+
+import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.exception.ResourceNotFoundException;
+import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.tools.DnsimpleTestBase;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AsyncClientTest extends DnsimpleTestBase {
+    @Test
+    public void testListZoneRecordsAsync() {
+        server.stubFixtureAt("listZoneRecords/success.http");
+        CompletableFuture<PaginatedResponse<ZoneRecord>> future = client.async().zones.listZoneRecords(1, "example.com");
+        PaginatedResponse<ZoneRecord> response = future.join();
+        assertThat(server.getRecordedRequest().getMethod(), is(GET));
+        assertThat(server.getRecordedRequest().getPath(), is("/v2/1/zones/example.com/records"));
+        assertThat(server.getRecordedRequest().getHeaders(), hasEntry("Authorization", "Bearer " + TEST_ACCESS_TOKEN));
+        assertThat(response.getData(), hasSize(5));
+        assertThat(response.getData().get(0).getId(), is(1L));
+        assertThat(response.getPagination().getTotalEntries(), is(5));
+    }
+
+    @Test
+    public void testEmptyResponseAsync() {
+        assertThat(client.async().zones.deleteZoneRecord(1, "example.com", 2).join(), is(notNullValue()));
+    }
+
+    @Test
+    public void testAsyncErrorsCompleteTheFutureExceptionally() {
+        server.stubFixtureAt("notfound-zone.http");
+        CompletableFuture<?> future = client.async().zones.getZone(1, "example.com");
+        assertThat(future::join, thrownException(is(instanceOf(CompletionException.class))));
+        assertThat(future.isCompletedExceptionally(), is(true));
+        assertThat(future.handle((result, error) -> error.getCause()).join(), is(instanceOf(ResourceNotFoundException.class)));
+    }
+}
@@ -1,15 +1,67 @@
 package com.dnsimple;
 
 import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.property;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
+import com.dnsimple.data.Zone;
+import com.dnsimple.endpoints.Registrar;
 import com.dnsimple.exception.BadRequestException;
+import com.dnsimple.exception.CircuitBreakerOpenException;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.http.AdaptiveConcurrencyLimiter;
+import com.dnsimple.http.Bulkhead;
+import com.dnsimple.http.CircuitBreaker;
+import com.dnsimple.http.GsonJsonCodec;
+import com.dnsimple.http.HttpMethod;
+import com.dnsimple.http.HttpRequestFactory;
+import com.dnsimple.http.JsonCodec;
+import com.dnsimple.http.RawResponse;
+import com.dnsimple.http.RequestHedger;
+import com.dnsimple.http.ResponseCache;
+import com.dnsimple.http.java11.Java11HttpRequestFactory;
 import com.dnsimple.request.ContactOptions;
+import com.dnsimple.response.Pagination;
 import com.dnsimple.tools.DnsimpleTestBase;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
 import org.junit.Test;
 
 public class ClientTest extends DnsimpleTestBase {
@@ -31,6 +83,277 @@ public class ClientTest extends DnsimpleTestBase {
         assertThat(server.getRecordedRequest().getHeaders(), hasEntry("User-Agent", TEST_USER_AGENT + " dnsimple-java/" + Dnsimple.VERSION));
     }
 
+    @Test
+    public void testWithAccessTokenUsesItsOwnAccessToken() {
+        Client tenant = client.withAccessToken("tenant-token");
+        server.stubFixtureAt("listAccounts/success-account.http");
+        tenant.accounts.listAccounts();
+        assertThat(server.getRecordedRequest().getHeaders(), hasEntry("Authorization", "Bearer tenant-token"));
+
+        server.stubFixtureAt("listAccounts/success-account.http");
+        client.accounts.listAccounts();
+        assertThat(server.getRecordedRequest().getHeaders(), hasEntry("Authorization", "Bearer " + TEST_ACCESS_TOKEN));
+
+        client.setAccessToken("other-token");
+        server.stubFixtureAt("listAccounts/success-account.http");
+        tenant.async().accounts.listAccounts().join();
+        assertThat(server.getRecordedRequest().getHeaders(), hasEntry("Authorization", "Bearer tenant-token"));
+    }
+
+    @Test
+    public void testAsyncReturnsTheSameClientEveryTime() {
+        Client tenant = client.withAccessToken("tenant-token");
+        assertThat(tenant.async(), is(sameInstance(tenant.async())));
+        assertThat(tenant.async(), is(not(sameInstance(client.async()))));
+    }
+
+    @Test
+    public void testEndpointRequestTimeoutFailsStalledRequests() throws Exception {
+        try (ServerSocket stalledServer = new ServerSocket(0)) {
+            Client client = new Client.Builder()
+                    .apiBase(new URL("http://localhost:" + stalledServer.getLocalPort()))
+                    .accessToken(TEST_ACCESS_TOKEN)
+                    .requestTimeout(Registrar.class, Duration.ofMillis(100))
+                    .build();
+            assertThat(() -> client.registrar.checkDomain(1, "example.com"), thrownException(property(Throwable::getCause, is(instanceOf(HttpTimeoutException.class)))));
+            assertThat(() -> client.async().registrar.checkDomain(1, "example.com").join(), thrownException(property(Throwable::getCause, property(Throwable::getCause, is(instanceOf(HttpTimeoutException.class))))));
+        }
+    }
+
+    @Test
+    public void testEndpointCircuitBreakerFailsFastWithoutAffectingOtherEndpoints() {
+        List<String> paths = new ArrayList<>();
+        Client client = new Client.Builder()
+                .accessToken(TEST_ACCESS_TOKEN)
+                .httpRequestFactory((userAgent, accessToken, method, uri, body) -> {
+                    paths.add(uri.getPath());
+                    if (uri.getPath().contains("/registrar/"))
+                        throw new ServerError(503);
+                    return new RawResponse(200, Map.of(), new ByteArrayInputStream("{\"data\":{\"id\":1,\"name\":\"example.com\"}}".getBytes(UTF_8)));
+                })
+                .circuitBreaker(Registrar.class, new CircuitBreaker(2, Duration.ofMinutes(1)))
+                .bulkhead(Registrar.class, new Bulkhead(1))
+                .build();
+        assertThat(() -> client.registrar.checkDomain(1, "example.com"), thrownException(is(instanceOf(ServerError.class))));
+        assertThat(() -> client.registrar.checkDomain(1, "example.com"), thrownException(is(instanceOf(ServerError.class))));
+        assertThat(() -> client.registrar.checkDomain(1, "example.com"), thrownException(is(instanceOf(CircuitBreakerOpenException.class))));
+        assertThat(() -> client.async().registrar.checkDomain(1, "example.com").join(), thrownException(property(Throwable::getCause, is(instanceOf(CircuitBreakerOpenException.class)))));
+        assertThat(client.zones.getZone(1, "example.com").getData().getName(), is("example.com"));
+        assertThat(paths, hasSize(3));
+    }
+
+    @Test
+    public void testHedgeDelayStartsOnceRequestsAreSent() throws Exception {
+        List<URI> sent = new CopyOnWriteArrayList<>();
+        HttpRequestFactory factory = new HttpRequestFactory() {
+            @Override
+            public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                return executeAsync(userAgent, accessToken, method, uri, body).join();
+            }
+
+            @Override
+            public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                sent.add(uri);
+                boolean accounts = uri.getPath().endsWith("/accounts");
+                String responseBody = accounts ? "{\"data\":[]}" : "{\"data\":{}}";
+                return CompletableFuture.supplyAsync(() -> new RawResponse(200, Map.of(), new ByteArrayInputStream(responseBody.getBytes(UTF_8))), delayedExecutor(accounts ? 200 : 10, MILLISECONDS));
+            }
+        };
+        Client client = new Client.Builder()
+                .httpRequestFactory(factory)
+                .accessToken(TEST_ACCESS_TOKEN)
+                .adaptiveConcurrencyLimiter(new AdaptiveConcurrencyLimiter(1, 1, 1))
+                .hedgeRequests(Registrar.class, new RequestHedger(0.5, 1, Duration.ofMillis(50)))
+                .build();
+        CompletableFuture<Void> slowRequest = CompletableFuture.runAsync(() -> client.accounts.listAccounts());
+        while (sent.isEmpty())
+            Thread.sleep(1);
+        client.registrar.checkDomain(1, "example.com");
+        slowRequest.join();
+        Thread.sleep(100);
+        assertThat(sent.stream().filter(uri -> uri.getPath().endsWith("/check")).count(), is(1L));
+    }
+
+    @Test
+    public void testCompressionDecompressesGzipAndDeflateResponses() throws Exception {
+        assertThat(getZoneNameWithCompression("gzip", GZIPOutputStream::new), is("example-alpha.com"));
+        assertThat(getZoneNameWithCompression("deflate", DeflaterOutputStream::new), is("example-alpha.com"));
+    }
+
+    @Test
+    public void testCompressionDecompressesAsyncResponses() throws Exception {
+        byte[] body = compress(GZIPOutputStream::new, "{\"data\":{\"id\":1,\"account_id\":1010,\"name\":\"example-alpha.com\"}}");
+        String name = withCompressingServer("200 OK", "gzip", body, client -> client.async().zones.getZone(1, "example-alpha.com").join().getData().getName());
+        assertThat(name, is("example-alpha.com"));
+    }
+
+    @Test
+    public void testCompressionKeepsTheStatusOfErrorsWithEmptyBodies() throws Exception {
+        Throwable error = withCompressingServer("502 Bad Gateway", "gzip", new byte[0], client -> getError(() -> client.zones.getZone(1, "example-alpha.com")));
+        assertThat(error, instanceOf(ServerError.class));
+        error = withCompressingServer("502 Bad Gateway", "gzip", new byte[0], client -> getError(() -> client.async().zones.getZone(1, "example-alpha.com").join()));
+        assertThat(error, instanceOf(ServerError.class));
+    }
+
+    @Test
+    public void testCompressionReadsErrorsThatAreNotCompressed() throws Exception {
+        byte[] body = "{\"message\":\"Invalid zone\"}".getBytes(UTF_8);
+        Throwable error = withCompressingServer("400 Bad Request", "gzip", body, client -> getError(() -> client.zones.getZone(1, "example-alpha.com")));
+        assertThat(error, instanceOf(BadRequestException.class));
+        assertThat(((BadRequestException) error).getBody(), hasEntry("message", "Invalid zone"));
+    }
+
+    private static Throwable getError(Runnable request) {
+        try {
+            request.run();
+            return null;
+        } catch (CompletionException e) {
+            return e.getCause();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static String getZoneNameWithCompression(String contentEncoding, ThrowingFunction<OutputStream, OutputStream> compressor) throws Exception {
+        byte[] body = compress(compressor, "{\"data\":{\"id\":1,\"account_id\":1010,\"name\":\"example-alpha.com\"}}");
+        return withCompressingServer("200 OK", contentEncoding, body, client -> client.zones.getZone(1, "example-alpha.com").getData().getName());
+    }
+
+    private static byte[] compress(ThrowingFunction<OutputStream, OutputStream> compressor, String content) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (OutputStream out = compressor.apply(body)) {
+            out.write(content.getBytes(UTF_8));
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     * Sends a request with the client passed to the provided function to a server that
+     * answers it with the provided status, content encoding and body
+     */
+    private static <T> T withCompressingServer(String status, String contentEncoding, byte[] body, Function<Client, T> request) throws Exception {
+        try (ServerSocket compressingServer = new ServerSocket(0)) {
+            CompletableFuture<String> acceptEncoding = CompletableFuture.supplyAsync(() -> {
+                try (Socket socket = compressingServer.accept()) {
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+                    String acceptEncodingHeader = null;
+                    String line;
+                    while (!(line = reader.readLine()).isEmpty())
+                        if (line.toLowerCase().startsWith("accept-encoding:"))
+                            acceptEncodingHeader = line.substring(line.indexOf(':') + 1).trim();
+                    OutputStream out = socket.getOutputStream();
+                    out.write(("HTTP/1.1 " + status + "\r\nContent-Type: application/json\r\nContent-Encoding: " + contentEncoding + "\r\nContent-Length: " + body.length + "\r\nConnection: close\r\n\r\n").getBytes(UTF_8));
+                    out.write(body);
+                    out.flush();
+                    return acceptEncodingHeader;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            Client client = new Client.Builder()
+                    .apiBase(new URL("http://localhost:" + compressingServer.getLocalPort()))
+                    .accessToken(TEST_ACCESS_TOKEN)
+                    .compression()
+                    .build();
+            T result = request.apply(client);
+            assertThat(acceptEncoding.get(), is("gzip, deflate"));
+            return result;
+        }
+    }
+
+    private interface ThrowingFunction<T, R> {
+        R apply(T value) throws IOException;
+    }
+
+    @Test
+    public void testRequestTimeoutIsOnlyConfigurableForEndpointClasses() {
+        assertThat(() -> new Client.Builder().requestTimeout(String.class, Duration.ofSeconds(1)), thrownException(is(instanceOf(IllegalArgumentException.class))));
+    }
+
+    @Test
+    public void testEndpointRequestTimeoutCantBeUsedWithCustomFactory() {
+        Client.Builder builder = new Client.Builder()
+                .httpRequestFactory(new Java11HttpRequestFactory())
+                .requestTimeout(Registrar.class, Duration.ofSeconds(1));
+        assertThat(builder::build, thrownException(is(instanceOf(IllegalStateException.class))));
+    }
+
+    @Test
+    public void testHttp2FallsBackToHttp1() {
+        client = new Client.Builder()
+                .apiBase(server.getBaseURL())
+                .accessToken(TEST_ACCESS_TOKEN)
+                .http2()
+                .build();
+        server.stubFixtureAt("listAccounts/success-account.http");
+        assertThat(client.accounts.listAccounts().getData(), hasSize(1));
+        assertThat(server.getRecordedRequest().getHeaders(), hasEntry("Upgrade", "h2c"));
+    }
+
+    @Test
+    public void testResponseCacheServesNotModifiedResponsesFromMemory() {
+        client = new Client.Builder()
+                .apiBase(server.getBaseURL())
+                .accessToken(TEST_ACCESS_TOKEN)
+                .responseCache(new ResponseCache(10))
+                .build();
+        server.stubFixtureAt("getZone/success.http");
+        Zone zone = client.zones.getZone(1, "example-alpha.com").getData();
+        assertThat(server.getRecordedRequest().getHeaders(), not(hasKey("If-None-Match")));
+
+        server.stubFixtureAt("notmodified.http");
+        assertThat(client.zones.getZone(1, "example-alpha.com").getData(), is(sameInstance(zone)));
+        assertThat(server.getRecordedRequest().getHeaders(), hasEntry("If-None-Match", "W/\"2161245abd349a34cba32a970e6424ba\""));
+    }
+
+    @Test
+    public void testCustomJsonCodecWritesRequestsAndReadsResponses() {
+        List<String> calls = new ArrayList<>();
+        JsonCodec gson = GsonJsonCodec.defaults();
+        client = new Client.Builder()
+                .apiBase(server.getBaseURL())
+                .accessToken(TEST_ACCESS_TOKEN)
+                .jsonCodec(new JsonCodec() {
+                    @Override
+                    public void write(Object value, Writer writer) {
+                        calls.add("write");
+                        gson.write(value, writer);
+                    }
+
+                    @Override
+                    public <CONTAINER, DATA_TYPE> CONTAINER readContainer(InputStream inputStream, Class<DATA_TYPE> dataType, Class<CONTAINER> containerType) {
+                        calls.add("readContainer");
+                        return gson.readContainer(inputStream, dataType, containerType);
+                    }
+
+                    @Override
+                    public <DATA_TYPE> Pagination readPage(InputStream inputStream, Class<DATA_TYPE> dataType, Consumer<? super DATA_TYPE> consumer) {
+                        calls.add("readPage");
+                        return gson.readPage(inputStream, dataType, consumer);
+                    }
+
+                    @Override
+                    public <DATA_TYPE> DATA_TYPE read(InputStream inputStream, Class<DATA_TYPE> dataType) {
+                        calls.add("read");
+                        return gson.read(inputStream, dataType);
+                    }
+
+                    @Override
+                    public Map<String, Object> readError(InputStream inputStream) {
+                        calls.add("readError");
+                        return gson.readError(inputStream);
+                    }
+                })
+                .build();
+        server.stubFixtureAt("createContact/created.http");
+        client.contacts.createContact(1, ContactOptions.of("First name", "Last name", "Address 1", "City", "state", "postal", "country", "hello@example.com", "phone"));
+        assertThat(calls, contains("write", "readContainer"));
+
+        server.stubFixtureAt("getZone/success.http");
+        client.zones.getZone(1, "example-alpha.com");
+        assertThat(calls, contains("write", "readContainer", "readContainer"));
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     public void testBadResponseErrorIncludesParsedValidationErrors() {
@@ -4,11 +4,13 @@ import com.dnsimple.data.Domain;
 import com.dnsimple.exception.ResourceNotFoundException;
 import com.dnsimple.request.ListOptions;
 import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
 import com.dnsimple.response.SimpleResponse;
 import com.dnsimple.tools.DnsimpleTestBase;
 import org.junit.Test;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.dnsimple.http.HttpMethod.*;
@@ -61,6 +63,16 @@ public class DomainsTest extends DnsimpleTestBase {
         assertThat(response.getPagination().getCurrentPage(), is(1));
     }
 
+    @Test
+    public void testListDomainsStreamsDomainsToConsumer() {
+        server.stubFixtureAt("listDomains/success.http");
+        List<Domain> domains = new ArrayList<>();
+        Pagination pagination = client.domains.listDomains(1, ListOptions.empty(), domains::add);
+        assertThat(domains, hasSize(2));
+        assertThat(domains.get(0).getId(), is(181984L));
+        assertThat(pagination.getCurrentPage(), is(1));
+    }
+
     @Test
     public void testGetDomain() {
         server.stubFixtureAt("getDomain/success.http");
@@ -109,4 +121,11 @@ public class DomainsTest extends DnsimpleTestBase {
         assertThat(server.getRecordedRequest().getMethod(), is(DELETE));
         assertThat(server.getRecordedRequest().getPath(), is("/v2/1/domains/example.com"));
     }
+
+    @Test
+    public void testDeleteDomainEncodesTheDomainInThePath() {
+        server.stubFixtureAt("deleteDomain/success.http");
+        client.domains.deleteDomain(1, "example.com/records?page=2");
+        assertThat(server.getRecordedRequest().getPath(), is("/v2/1/domains/example.com%2Frecords%3Fpage=2"));
+    }
 }
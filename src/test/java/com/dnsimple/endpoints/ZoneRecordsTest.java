@@ -1,17 +1,21 @@
 package com.dnsimple.endpoints;
 
 import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.data.ZoneRecordTable;
 import com.dnsimple.exception.ResourceNotFoundException;
 import com.dnsimple.request.ListOptions;
 import com.dnsimple.request.ZoneRecordOptions;
 import com.dnsimple.request.ZoneRecordUpdateOptions;
 import com.dnsimple.response.PaginatedResponse;
+import com.dnsimple.response.Pagination;
 import com.dnsimple.response.SimpleResponse;
 import com.dnsimple.tools.DnsimpleTestBase;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -19,6 +23,7 @@ import static com.dnsimple.http.HttpMethod.*;
 import static com.dnsimple.tools.CustomMatchers.number;
 import static com.dnsimple.tools.CustomMatchers.thrownException;
 import static java.time.ZoneOffset.UTC;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
@@ -59,6 +64,49 @@ public class ZoneRecordsTest extends DnsimpleTestBase {
         assertThat(response.getPagination().getCurrentPage(), is(1));
     }
 
+    @Test
+    public void testListZoneRecordsStreamsRecordsToConsumer() {
+        server.stubFixtureAt("listZoneRecords/success.http");
+        List<ZoneRecord> zoneRecords = new ArrayList<>();
+        Pagination pagination = client.zones.listZoneRecords(1, "example.com", ListOptions.empty(), zoneRecords::add);
+        assertThat(server.getRecordedRequest().getPath(), is("/v2/1/zones/example.com/records"));
+        assertThat(zoneRecords, hasSize(5));
+        assertThat(zoneRecords.get(0).getId(), is(1L));
+        assertThat(zoneRecords.get(4).getContent(), is("ns4.dnsimple.com"));
+        assertThat(pagination.getTotalEntries(), is(5));
+    }
+
+    @Test
+    public void testListAllZoneRecordsFillsZoneRecordTable() {
+        server.stubFixtureAt("listZoneRecords/success.http");
+        ZoneRecordTable table = new ZoneRecordTable(2);
+        client.zones.listAllZoneRecords(1, "example.com", ListOptions.empty(), table::add);
+        assertThat(server.getRecordedRequest().getPath(), is("/v2/1/zones/example.com/records?page=1&per_page=100"));
+        assertThat(table.size(), is(5));
+        ZoneRecord record = table.get(1);
+        assertThat(record.getId(), is(69061L));
+        assertThat(record.getZoneId(), is("example.com"));
+        assertThat(record.getParentId(), is(nullValue()));
+        assertThat(record.getName(), is(""));
+        assertThat(record.getContent(), is("ns1.dnsimple.com"));
+        assertThat(record.getTtl(), is(3600));
+        assertThat(record.getPriority(), is(nullValue()));
+        assertThat(record.getType(), is("NS"));
+        assertThat(record.isSystemRecord(), is(true));
+        assertThat(record.getRegions(), contains("global"));
+        assertThat(record.getCreatedAt(), is(OffsetDateTime.of(2016, 3, 22, 10, 20, 53, 0, UTC)));
+        assertThat(table.get(0).getUpdatedAt(), is(OffsetDateTime.of(2016, 10, 5, 9, 26, 38, 0, UTC)));
+        assertThat(table.get(4).getRegions(), is(sameInstance(record.getRegions())));
+        assertThat(table.stream().map(ZoneRecord::getId).collect(toList()), contains(1L, 69061L, 2L, 3L, 4L));
+    }
+
+    @Test
+    public void testZoneRecordTableKeepsNullRegions() {
+        ZoneRecordTable table = new ZoneRecordTable(1);
+        table.add(new ZoneRecord(1L, "example.com", null, "A", "www", "127.0.0.1", 3600, null, false, Arrays.asList("SV1", null), null, null));
+        assertThat(table.get(0).getRegions(), contains("SV1", null));
+    }
+
     @Test
     public void testGetZoneRecord() {
         server.stubFixtureAt("getZoneRecord/success.http");
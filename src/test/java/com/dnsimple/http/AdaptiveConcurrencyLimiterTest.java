@@ -0,0 +1,117 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.ServerError;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long LATENCY = MILLISECONDS.toNanos(50);
+    private long now = 0;
+
+    @Test
+    public void testRaisesTheLimitWhileLatencyStaysFlat() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+        for (int round = 0; round < 20; round++)
+            sendRound(limiter, LATENCY, null);
+        assertThat(limiter.getLimit(), is(greaterThan(2)));
+        assertThat(limiter.getLimit(), is(lessThanOrEqualTo(10)));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void testDoesNotRaiseTheLimitWhileItIsUnderused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 20);
+        for (int i = 0; i < 100; i++) {
+            limiter.acquireAsync();
+            limiter.record(now, LATENCY, null);
+            now += LATENCY;
+        }
+        assertThat(limiter.getLimit(), is(10));
+    }
+
+    @Test
+    public void testBacksOffOnServerErrors() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 1, 10);
+        sendRound(limiter, LATENCY, new ServerError(503));
+        assertThat(limiter.getLimit(), is(6));
+    }
+
+    @Test
+    public void testBacksOffWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 50);
+        for (int round = 0; round < 20; round++)
+            sendRound(limiter, LATENCY, null);
+        int limit = limiter.getLimit();
+        for (int round = 0; round < 5; round++)
+            sendRound(limiter, LATENCY * 4, null);
+        assertThat(limiter.getLimit(), is(lessThan(limit / 2)));
+    }
+
+    @Test
+    public void testKeepsRaisingTheLimitWhenFastAndSlowEndpointsAreMixed() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+        long[] latencies = {MILLISECONDS.toNanos(5), MILLISECONDS.toNanos(20), MILLISECONDS.toNanos(400), MILLISECONDS.toNanos(5), MILLISECONDS.toNanos(150)};
+        int sent = 0;
+        for (int round = 0; round < 100; round++) {
+            int requests = limiter.getLimit();
+            for (int i = 0; i < requests; i++)
+                limiter.acquireAsync();
+            for (int i = 0; i < requests; i++)
+                limiter.record(now, latencies[sent++ % latencies.length], null);
+            now += MILLISECONDS.toNanos(400);
+        }
+        assertThat(limiter.getLimit(), is(greaterThan(50)));
+    }
+
+    @Test
+    public void testNeverBacksOffBelowTheMinimumLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 2, 10);
+        for (int round = 0; round < 10; round++)
+            sendRound(limiter, LATENCY, new ServerError(502));
+        assertThat(limiter.getLimit(), is(2));
+    }
+
+    @Test
+    public void testRequestsOverTheLimitWaitForOthersToFinish() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10);
+        CompletableFuture<Void> first = limiter.acquireAsync();
+        CompletableFuture<Void> second = limiter.acquireAsync();
+        assertThat(first.isDone(), is(true));
+        assertThat(second.isDone(), is(false));
+        limiter.record(now, LATENCY, null);
+        assertThat(second.isDone(), is(true));
+        assertThat(limiter.getInFlight(), is(1));
+    }
+
+    @Test
+    public void testGivesThePermitBackWhenARequestFailsWithAnError() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10);
+        HttpRequestFactory factory = new ConcurrencyLimitedHttpRequestFactory((userAgent, accessToken, method, uri, body) -> {
+            throw new StackOverflowError();
+        }, limiter);
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI.create("https://api.dnsimple.com/v2/whoami"), null), thrownException(is(instanceOf(StackOverflowError.class))));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    /**
+     * Sends as many concurrent requests as the current limit allows, all of which started
+     * at the same time, so that a failing round backs off only once
+     */
+    private void sendRound(AdaptiveConcurrencyLimiter limiter, long latency, Throwable error) {
+        int requests = limiter.getLimit();
+        for (int i = 0; i < requests; i++)
+            assertThat(limiter.acquireAsync().isDone(), is(true));
+        for (int i = 0; i < requests; i++)
+            limiter.record(now, latency, error);
+        now += latency + 1;
+    }
+}
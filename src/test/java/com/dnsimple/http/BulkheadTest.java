@@ -0,0 +1,62 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.BulkheadFullException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BulkheadTest {
+    private static final URI URI = java.net.URI.create("https://api.dnsimple.com/v2/1/registrar/domains/example.com/check");
+
+    @Test
+    public void testRejectsRequestsOverItsLimitAndReleasesThemOnCompletion() {
+        CompletableFuture<RawResponse> pending = new CompletableFuture<>();
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ofMillis(10));
+        HttpRequestFactory factory = new BulkheadHttpRequestFactory(new HttpRequestFactory() {
+            @Override
+            public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                return new RawResponse(200, emptyMap(), new ByteArrayInputStream(new byte[0]));
+            }
+
+            @Override
+            public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                return pending;
+            }
+        }, bulkhead);
+        CompletableFuture<RawResponse> inFlight = factory.executeAsync("user-agent", Optional.empty(), GET, URI, null);
+        assertThat(bulkhead.getAvailableRequests(), is(0));
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI, null), thrownException(is(instanceOf(BulkheadFullException.class))));
+        assertThat(() -> factory.executeAsync("user-agent", Optional.empty(), GET, URI, null).join(), thrownException(is(instanceOf(CompletionException.class))));
+        pending.complete(new RawResponse(200, emptyMap(), new ByteArrayInputStream(new byte[0])));
+        assertThat(inFlight.join().getStatusCode(), is(200));
+        assertThat(bulkhead.getAvailableRequests(), is(1));
+        assertThat(factory.execute("user-agent", Optional.empty(), GET, URI, null).getStatusCode(), is(200));
+    }
+
+    @Test
+    public void testBlockingRequestsWaitForRoom() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, Duration.ofSeconds(5));
+        bulkhead.tryAcquire();
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(bulkhead::acquire);
+        assertThat(bulkhead.getAvailableRequests(), is(0));
+        bulkhead.release();
+        waiting.get();
+        assertThat(bulkhead.getAvailableRequests(), is(0));
+    }
+
+    @Test
+    public void testRejectsInvalidLimits() {
+        assertThat(() -> new Bulkhead(0), thrownException(is(instanceOf(IllegalArgumentException.class))));
+    }
+}
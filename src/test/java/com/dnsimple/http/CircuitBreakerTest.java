@@ -0,0 +1,136 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.BadRequestException;
+import com.dnsimple.exception.CircuitBreakerOpenException;
+import com.dnsimple.exception.DnsimpleException;
+import com.dnsimple.exception.ServerError;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static com.dnsimple.http.CircuitBreaker.State.*;
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.property;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CircuitBreakerTest {
+    private static final URI URI = java.net.URI.create("https://api.dnsimple.com/v2/1/registrar/domains/example.com/check");
+    private final MutableClock clock = new MutableClock();
+    private final CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofSeconds(30), clock);
+
+    @Test
+    public void testOpensAfterConsecutiveFailures() {
+        breaker.record(breaker.acquire(), new ServerError(502));
+        breaker.record(breaker.acquire(), null);
+        breaker.record(breaker.acquire(), new ServerError(502));
+        assertThat(breaker.getState(), is(CLOSED));
+        breaker.record(breaker.acquire(), new DnsimpleException(new IOException("Connection reset")));
+        assertThat(breaker.getState(), is(OPEN));
+        assertThat(breaker::acquire, thrownException(property(CircuitBreakerOpenException::getRetryAfter, is(Duration.ofSeconds(30)))));
+    }
+
+    @Test
+    public void testClientErrorsDoNotOpenTheBreaker() {
+        breaker.record(breaker.acquire(), new BadRequestException(404, emptyMap()));
+        breaker.record(breaker.acquire(), new BadRequestException(404, emptyMap()));
+        assertThat(breaker.getState(), is(CLOSED));
+    }
+
+    @Test
+    public void testLetsASingleProbeThroughOnceTheOpenDurationHasPassed() {
+        open();
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(breaker.getState(), is(HALF_OPEN));
+        long probe = breaker.acquire();
+        assertThat(breaker::acquire, thrownException(is(instanceOf(CircuitBreakerOpenException.class))));
+        breaker.record(probe, null);
+        assertThat(breaker.getState(), is(CLOSED));
+        breaker.acquire();
+    }
+
+    @Test
+    public void testIgnoresTheOutcomeOfRequestsSentBeforeTheBreakerOpened() {
+        long slow = breaker.acquire();
+        open();
+        breaker.record(slow, null);
+        assertThat(breaker.getState(), is(OPEN));
+        clock.advance(Duration.ofSeconds(30));
+        long probe = breaker.acquire();
+        breaker.record(slow, new ServerError(503));
+        assertThat(breaker.getState(), is(HALF_OPEN));
+        breaker.record(probe, null);
+        assertThat(breaker.getState(), is(CLOSED));
+    }
+
+    @Test
+    public void testLetsAnotherProbeThroughWhenTheProbeEndsWithoutAResponse() {
+        open();
+        clock.advance(Duration.ofSeconds(30));
+        breaker.record(breaker.acquire(), new StackOverflowError());
+        assertThat(breaker.getState(), is(HALF_OPEN));
+        breaker.record(breaker.acquire(), null);
+        assertThat(breaker.getState(), is(CLOSED));
+    }
+
+    @Test
+    public void testReopensWhenTheProbeFails() {
+        open();
+        clock.advance(Duration.ofSeconds(30));
+        breaker.record(breaker.acquire(), new ServerError(503));
+        assertThat(breaker.getState(), is(OPEN));
+        clock.advance(Duration.ofSeconds(10));
+        assertThat(breaker::acquire, thrownException(property(CircuitBreakerOpenException::getRetryAfter, is(Duration.ofSeconds(20)))));
+    }
+
+    @Test
+    public void testFactoryFailsFastWhileTheBreakerIsOpen() {
+        int[] attempts = {0};
+        HttpRequestFactory factory = new CircuitBreakingHttpRequestFactory((userAgent, accessToken, method, uri, body) -> {
+            attempts[0]++;
+            throw new ServerError(503);
+        }, breaker);
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI, null), thrownException(is(instanceOf(ServerError.class))));
+        assertThat(() -> factory.executeAsync("user-agent", Optional.empty(), GET, URI, null).join(), thrownException(property(Throwable::getCause, is(instanceOf(ServerError.class)))));
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI, null), thrownException(is(instanceOf(CircuitBreakerOpenException.class))));
+        assertThat(() -> factory.executeAsync("user-agent", Optional.empty(), GET, URI, null).join(), thrownException(property(Throwable::getCause, is(instanceOf(CircuitBreakerOpenException.class)))));
+        assertThat(attempts[0], is(2));
+    }
+
+    private void open() {
+        breaker.record(breaker.acquire(), new ServerError(502));
+        breaker.record(breaker.acquire(), new ServerError(502));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2016-10-05T09:27:02Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.*;
+import com.dnsimple.response.PaginatedResponse;
+import com.google.gson.*;
+import com.google.gson.reflect.TypeToken;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+
+import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class DataTypeAdapterFactoryTest {
+    private static final Gson reflectiveGson = new GsonBuilder()
+            .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
+            .registerTypeAdapter(OffsetDateTime.class, (JsonDeserializer<OffsetDateTime>) (json, type, context) -> OffsetDateTime.parse(json.getAsString()))
+            .create();
+    private static final Gson gson = reflectiveGson.newBuilder()
+            .registerTypeAdapterFactory(new DataTypeAdapterFactory(false))
+            .create();
+    private static final Gson printer = new GsonBuilder()
+            .serializeNulls()
+            .registerTypeAdapter(OffsetDateTime.class, (JsonSerializer<OffsetDateTime>) (src, type, context) -> new JsonPrimitive(src.toString()))
+            .create();
+
+    @Test
+    public void testReadsZoneRecordsLikeTheReflectiveAdapter() throws IOException {
+        assertReadsLikeTheReflectiveAdapter("listZoneRecords/success.http", ZoneRecord.class);
+    }
+
+    @Test
+    public void testReadsZonesLikeTheReflectiveAdapter() throws IOException {
+        assertReadsLikeTheReflectiveAdapter("listZones/success.http", Zone.class);
+    }
+
+    @Test
+    public void testReadsDomainsLikeTheReflectiveAdapter() throws IOException {
+        assertReadsLikeTheReflectiveAdapter("listDomains/success.http", Domain.class);
+    }
+
+    @Test
+    public void testReadsCertificatesLikeTheReflectiveAdapter() throws IOException {
+        assertReadsLikeTheReflectiveAdapter("listCertificates/success.http", Certificate.class);
+    }
+
+    @Test
+    public void testReadsContactsLikeTheReflectiveAdapter() throws IOException {
+        assertReadsLikeTheReflectiveAdapter("listContacts/success.http", Contact.class);
+    }
+
+    @Test
+    public void testSkipsUnknownFieldsAndLeavesMissingFieldsNull() {
+        ZoneRecord record = gson.fromJson("{\"id\":1,\"unknown\":{\"nested\":[1,2]},\"ttl\":\"3600\",\"system_record\":null}", ZoneRecord.class);
+        assertThat(record.getId(), is(1L));
+        assertThat(record.getTtl(), is(3600));
+        assertThat(record.isSystemRecord(), is(nullValue()));
+        assertThat(record.getCreatedAt(), is(nullValue()));
+    }
+
+    @Test
+    public void testDefersParsingTimestampsUntilTheyAreRead() {
+        Gson lazyGson = new GsonBuilder()
+                .setFieldNamingPolicy(LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(OffsetDateTime.class, new OffsetDateTimeTypeAdapter())
+                .registerTypeAdapterFactory(new DataTypeAdapterFactory(true))
+                .create();
+        ZoneRecord record = lazyGson.fromJson("{\"id\":1,\"created_at\":\"2016-03-22T10:20:53Z\",\"updated_at\":null}", ZoneRecord.class);
+        assertThat(record, is(instanceOf(LazyZoneRecord.class)));
+        assertThat(record.getId(), is(1L));
+        assertThat(record.getCreatedAt(), is(OffsetDateTime.parse("2016-03-22T10:20:53Z")));
+        assertThat(record.getCreatedAt(), is(sameInstance(record.getCreatedAt())));
+        assertThat(record.getUpdatedAt(), is(nullValue()));
+        assertThat(lazyGson.toJson(record, ZoneRecord.class), containsString("\"created_at\":\"2016-03-22T10:20:53Z\""));
+    }
+
+    @Test
+    public void testSharesRepeatedStringsAcrossZoneRecords() {
+        Gson poolingGson = reflectiveGson.newBuilder()
+                .registerTypeAdapterFactory(new DataTypeAdapterFactory(false, new StringPool(16)))
+                .create();
+        ZoneRecord[] records = poolingGson.fromJson("[" +
+                "{\"zone_id\":\"example.com\",\"type\":\"NS\",\"content\":\"ns1.dnsimple.com\",\"regions\":[\"global\"]}," +
+                "{\"zone_id\":\"example.com\",\"type\":\"NS\",\"content\":\"ns1.dnsimple.com\",\"regions\":[\"global\"]}," +
+                "{\"zone_id\":\"example.com\",\"type\":\"A\",\"content\":\"1.2.3.4\",\"regions\":[\"SV1\",\"IAD\"]}" +
+                "]", ZoneRecord[].class);
+        assertThat(records[1].getZoneId(), is(sameInstance(records[0].getZoneId())));
+        assertThat(records[1].getType(), is(sameInstance(records[0].getType())));
+        assertThat(records[1].getContent(), is(sameInstance(records[0].getContent())));
+        assertThat(records[0].getRegions(), is(sameInstance(ZoneRecordTypeAdapter.GLOBAL_REGIONS)));
+        assertThat(records[1].getRegions(), is(sameInstance(ZoneRecordTypeAdapter.GLOBAL_REGIONS)));
+        assertThat(records[2].getRegions(), contains("SV1", "IAD"));
+    }
+
+    private static <T> void assertReadsLikeTheReflectiveAdapter(String fixture, Class<T> dataType) throws IOException {
+        String json = fixtureBody(fixture);
+        java.lang.reflect.Type type = TypeToken.getParameterized(PaginatedResponse.class, dataType).getType();
+        PaginatedResponse<T> expected = reflectiveGson.fromJson(json, type);
+        PaginatedResponse<T> actual = gson.fromJson(json, type);
+        assertThat(actual.getData(), hasSize(expected.getData().size()));
+        assertThat(printer.toJson(actual.getData()), is(printer.toJson(expected.getData())));
+    }
+
+    private static String fixtureBody(String fixture) throws IOException {
+        try (InputStream inputStream = DataTypeAdapterFactoryTest.class.getResourceAsStream("/com/dnsimple/" + fixture)) {
+            String content = new String(inputStream.readAllBytes(), UTF_8).replace("\r\n", "\n");
+            return content.substring(content.indexOf("\n\n") + 2);
+        }
+    }
+}
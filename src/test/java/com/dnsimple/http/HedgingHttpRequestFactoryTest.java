@@ -0,0 +1,106 @@
+package com.dnsimple.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.dnsimple.http.HttpMethod.DELETE;
+import static com.dnsimple.http.HttpMethod.GET;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class HedgingHttpRequestFactoryTest {
+    private static final URI URI = java.net.URI.create("https://api.dnsimple.com/v2/1/registrar/domains/example.com/check");
+    private final List<CompletableFuture<RawResponse>> requests = new CopyOnWriteArrayList<>();
+    private final List<Integer> closedBodies = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testTakesTheHedgeWhenThePrimaryRequestIsSlow() {
+        HttpRequestFactory factory = new HedgingHttpRequestFactory(responding(300, 10), new RequestHedger(0.95, 1, Duration.ofMillis(20)));
+        RawResponse response = factory.execute("user-agent", Optional.empty(), GET, URI, null);
+        assertThat(response.getStatusCode(), is(201));
+        assertThat(requests, hasSize(2));
+        assertThat(closedBodies, is(empty()));
+    }
+
+    @Test
+    public void testClosesTheResponseThatLosesTheRace() throws Exception {
+        HttpRequestFactory factory = new HedgingHttpRequestFactory(responding(100, 10), new RequestHedger(0.95, 1, Duration.ofMillis(20)));
+        assertThat(factory.execute("user-agent", Optional.empty(), GET, URI, null).getStatusCode(), is(201));
+        requests.get(0).join();
+        for (int i = 0; i < 100 && closedBodies.isEmpty(); i++)
+            Thread.sleep(10);
+        assertThat(closedBodies, contains(200));
+    }
+
+    @Test
+    public void testDoesNotHedgeFastRequests() throws Exception {
+        HttpRequestFactory factory = new HedgingHttpRequestFactory(responding(10, 10), new RequestHedger(0.95, 1, Duration.ofMillis(100)));
+        assertThat(factory.executeAsync("user-agent", Optional.empty(), GET, URI, null).join().getStatusCode(), is(200));
+        Thread.sleep(200);
+        assertThat(requests, hasSize(1));
+    }
+
+    @Test
+    public void testCapsTheHedgesToTheConfiguredRatio() {
+        HttpRequestFactory factory = new HedgingHttpRequestFactory(responding(200, 200, 10), new RequestHedger(0.95, 0.5, Duration.ofMillis(20)));
+        assertThat(factory.execute("user-agent", Optional.empty(), GET, URI, null).getStatusCode(), is(200));
+        assertThat(factory.execute("user-agent", Optional.empty(), GET, URI, null).getStatusCode(), is(202));
+        assertThat(requests, hasSize(3));
+    }
+
+    @Test
+    public void testDoesNotHedgeOtherMethods() {
+        HttpRequestFactory factory = new HedgingHttpRequestFactory(responding(100, 10), new RequestHedger(0.95, 1, Duration.ofMillis(10)));
+        assertThat(factory.execute("user-agent", Optional.empty(), DELETE, URI, null).getStatusCode(), is(200));
+        assertThat(requests, hasSize(1));
+    }
+
+    @Test
+    public void testHedgeDelayFollowsTheObservedLatencies() {
+        RequestHedger hedger = new RequestHedger(0.95, 0.05, Duration.ofMillis(500));
+        for (int i = 1; i < 100; i++)
+            hedger.recordLatency(MILLISECONDS.toNanos(i));
+        assertThat(hedger.getHedgeDelay(), is(Duration.ofMillis(500)));
+        hedger.recordLatency(MILLISECONDS.toNanos(100));
+        assertThat(hedger.getHedgeDelay(), is(Duration.ofMillis(96)));
+    }
+
+    /**
+     * Returns a factory whose requests respond after the provided delays, in order, with a
+     * status code of 200 plus the number of requests sent before, and whose bodies record
+     * that status code when they are closed
+     */
+    private HttpRequestFactory responding(long... delays) {
+        return new HttpRequestFactory() {
+            @Override
+            public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                return executeAsync(userAgent, accessToken, method, uri, body).join();
+            }
+
+            @Override
+            public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                int index = requests.size();
+                Map<String, List<String>> headers = emptyMap();
+                CompletableFuture<RawResponse> response = CompletableFuture.supplyAsync(() -> new RawResponse(200 + index, headers, new ByteArrayInputStream(new byte[0]) {
+                    @Override
+                    public void close() {
+                        closedBodies.add(200 + index);
+                    }
+                }), delayedExecutor(delays[index], MILLISECONDS));
+                requests.add(response);
+                return response;
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.dnsimple.http;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LocalDateTypeAdapterTest {
+    private final LocalDateTypeAdapter adapter = new LocalDateTypeAdapter();
+
+    @Test
+    public void testReadsIsoDates() throws IOException {
+        assertThat(adapter.fromJson("\"2017-02-13\""), is(LocalDate.of(2017, 2, 13)));
+        assertThat(adapter.fromJson("\"+12017-02-13\""), is(LocalDate.of(12017, 2, 13)));
+    }
+
+    @Test
+    public void testReadsNulls() throws IOException {
+        assertThat(adapter.fromJson("null"), is(nullValue()));
+    }
+
+    @Test
+    public void testRejectsInvalidDates() {
+        assertThat(() -> adapter.fromJson("\"2017-02-30\""), thrownException(is(instanceOf(DateTimeException.class))));
+        assertThat(() -> adapter.fromJson("\"2017/02/13\""), thrownException(is(instanceOf(DateTimeException.class))));
+    }
+
+    @Test
+    public void testRejectsOutOfRangeDatesWithTheGeneralParser() {
+        assertThat(() -> adapter.fromJson("\"2017-13-01\""), thrownException(is(instanceOf(DateTimeParseException.class))));
+        assertThat(() -> adapter.fromJson("\"2017-02-30\""), thrownException(is(instanceOf(DateTimeParseException.class))));
+    }
+}
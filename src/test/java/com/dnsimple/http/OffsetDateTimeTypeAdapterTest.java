@@ -0,0 +1,56 @@
+package com.dnsimple.http;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class OffsetDateTimeTypeAdapterTest {
+    private final OffsetDateTimeTypeAdapter adapter = new OffsetDateTimeTypeAdapter();
+
+    @Test
+    public void testReadsUtcTimestamps() throws IOException {
+        assertThat(adapter.fromJson("\"2016-03-22T10:20:53Z\""), is(OffsetDateTime.parse("2016-03-22T10:20:53Z")));
+    }
+
+    @Test
+    public void testReadsOtherIsoTimestamps() throws IOException {
+        assertThat(adapter.fromJson("\"2016-03-22T10:20:53.123Z\""), is(OffsetDateTime.parse("2016-03-22T10:20:53.123Z")));
+        assertThat(adapter.fromJson("\"2016-03-22T10:20:53+02:00\""), is(OffsetDateTime.parse("2016-03-22T10:20:53+02:00")));
+    }
+
+    @Test
+    public void testReadsNulls() throws IOException {
+        assertThat(adapter.fromJson("null"), is(nullValue()));
+    }
+
+    @Test
+    public void testRejectsInvalidTimestamps() {
+        assertThat(() -> adapter.fromJson("\"2016-03-22 10:20:53\""), thrownException(is(instanceOf(DateTimeParseException.class))));
+    }
+
+    @Test
+    public void testRejectsOutOfRangeTimestampsWithTheGeneralParser() {
+        assertThat(() -> adapter.fromJson("\"2024-13-01T00:00:00Z\""), thrownException(is(instanceOf(DateTimeParseException.class))));
+        assertThat(() -> adapter.fromJson("\"2024-02-30T00:00:00Z\""), thrownException(is(instanceOf(DateTimeParseException.class))));
+        assertThat(() -> adapter.fromJson("\"2024-01-01T24:00:00Z\""), thrownException(is(instanceOf(DateTimeParseException.class))));
+    }
+
+    @Test
+    public void testWritesIsoTimestamps() {
+        assertThat(adapter.toJson(OffsetDateTime.parse("2016-03-22T10:20:53Z")), is("\"2016-03-22T10:20:53Z\""));
+    }
+
+    @Test
+    public void testCachesRepeatedTimestamps() throws IOException {
+        OffsetDateTimeTypeAdapter cachingAdapter = new OffsetDateTimeTypeAdapter(16);
+        OffsetDateTime timestamp = cachingAdapter.fromJson("\"2016-03-22T10:20:53Z\"");
+        assertThat(cachingAdapter.fromJson("\"2016-03-22T10:20:53Z\""), is(sameInstance(timestamp)));
+        assertThat(cachingAdapter.fromJson("\"2016-03-22T10:20:54Z\""), is(OffsetDateTime.parse("2016-03-22T10:20:54Z")));
+    }
+}
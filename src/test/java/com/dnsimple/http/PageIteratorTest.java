@@ -0,0 +1,83 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.request.ListOptions;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PageIteratorTest {
+    private final List<URI> requestedUris = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testStreamsTheElementsOfAllThePages() throws Exception {
+        HttpEndpointClient client = client(3);
+        try (Stream<ZoneRecord> records = client.streamAll(GET, "1/zones/example.com/records", ListOptions.empty().filter("type", "A"), null, ZoneRecord.class)) {
+            assertThat(records.map(ZoneRecord::getId).collect(toList()), contains(1L, 2L, 3L, 4L, 5L, 6L));
+        }
+        assertThat(requestedUris, hasSize(3));
+        assertThat(requestedUris.get(0).getQuery(), is("page=1&per_page=100&type=A"));
+        assertThat(requestedUris.get(2).getQuery(), is("page=3&per_page=100&type=A"));
+    }
+
+    @Test
+    public void testPrefetchesTheNextPageWhileTheCurrentOneIsConsumed() throws Exception {
+        Iterator<ZoneRecord> records = client(3).iterateAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class);
+        assertThat(requestedUris, is(empty()));
+        assertThat(records.next().getId(), is(1L));
+        assertThat(requestedUris, hasSize(2));
+    }
+
+    @Test
+    public void testIteratesEmptyEndpoints() throws Exception {
+        Iterator<ZoneRecord> records = client(0).iterateAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class);
+        assertThat(records.hasNext(), is(false));
+        assertThat(requestedUris, hasSize(1));
+    }
+
+    @Test
+    public void testPropagatesTheErrorsOfThePageRequests() throws Exception {
+        HttpRequestFactory factory = (userAgent, accessToken, method, uri, body) -> {
+            throw new ServerError(502);
+        };
+        HttpEndpointClient client = new HttpEndpointClient(factory, new URL("https://api.dnsimple.com"), "user-agent", Optional.empty());
+        Iterator<ZoneRecord> records = client.iterateAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class);
+        assertThat(records::hasNext, thrownException(is(instanceOf(ServerError.class))));
+    }
+
+    private HttpEndpointClient client(int totalPages) throws Exception {
+        HttpRequestFactory factory = new HttpRequestFactory() {
+            @Override
+            public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                int page = Integer.parseInt(uri.getQuery().replaceAll("^page=(\\d+).*", "$1"));
+                String data = totalPages == 0 ? "" : "{\"id\":" + (page * 2 - 1) + "},{\"id\":" + page * 2 + "}";
+                String json = "{\"data\":[" + data + "],\"pagination\":{\"current_page\":" + page + ",\"per_page\":2,\"total_entries\":" + totalPages * 2 + ",\"total_pages\":" + totalPages + "}}";
+                return new RawResponse(200, emptyMap(), new ByteArrayInputStream(json.getBytes(UTF_8)));
+            }
+
+            @Override
+            public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                requestedUris.add(uri);
+                return CompletableFuture.completedFuture(execute(userAgent, accessToken, method, uri, body));
+            }
+        };
+        return new HttpEndpointClient(factory, new URL("https://api.dnsimple.com"), "user-agent", Optional.empty());
+    }
+}
@@ -0,0 +1,96 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.ZoneRecord;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.request.ListOptions;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ParallelPageFetcherTest {
+    private static final int TOTAL_PAGES = 12;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Test
+    public void testFetchesAllThePagesInOrder() throws Exception {
+        List<ZoneRecord> records = client(0).fetchAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class, 4);
+        assertThat(records.stream().map(ZoneRecord::getId).collect(toList()), is(expectedIds()));
+        assertThat(requests.get(), is(TOTAL_PAGES));
+    }
+
+    @Test
+    public void testBoundsTheNumberOfConcurrentRequests() throws Exception {
+        client(0).fetchAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class, 3);
+        assertThat(maxInFlight.get(), is(lessThanOrEqualTo(3)));
+    }
+
+    @Test
+    public void testPassesThePagesToTheConsumerAsTheyArrive() throws Exception {
+        List<ZoneRecord> records = new ArrayList<>();
+        client(0).fetchAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class, 4, records::addAll);
+        assertThat(records.stream().map(ZoneRecord::getId).sorted().collect(toList()), is(expectedIds()));
+    }
+
+    @Test
+    public void testFailsWithTheFirstError() throws Exception {
+        HttpEndpointClient client = client(5);
+        assertThat(() -> client.fetchAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class, 4),
+                thrownException(is(instanceOf(ServerError.class))));
+    }
+
+    @Test
+    public void testStreamsAllThePagesInParallel() throws Exception {
+        List<Long> ids = client(0).parallelStreamAll(GET, "1/zones/example.com/records", ListOptions.empty(), null, ZoneRecord.class)
+                .map(ZoneRecord::getId)
+                .collect(toList());
+        assertThat(ids, is(expectedIds()));
+        assertThat(requests.get(), is(TOTAL_PAGES));
+    }
+
+    private static List<Long> expectedIds() {
+        return LongStream.rangeClosed(1, TOTAL_PAGES * 2).boxed().collect(toList());
+    }
+
+    private HttpEndpointClient client(int failingPage) throws Exception {
+        HttpRequestFactory factory = new HttpRequestFactory() {
+            @Override
+            public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                requests.incrementAndGet();
+                int page = Integer.parseInt(uri.getQuery().replaceAll("^page=(\\d+).*", "$1"));
+                if (page == failingPage)
+                    throw new ServerError(502);
+                String json = "{\"data\":[{\"id\":" + (page * 2 - 1) + "},{\"id\":" + page * 2 + "}],\"pagination\":{\"current_page\":" + page + ",\"per_page\":2,\"total_entries\":" + TOTAL_PAGES * 2 + ",\"total_pages\":" + TOTAL_PAGES + "}}";
+                return new RawResponse(200, emptyMap(), new ByteArrayInputStream(json.getBytes(UTF_8)));
+            }
+
+            @Override
+            public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> execute(userAgent, accessToken, method, uri, body), delayedExecutor(ThreadLocalRandom.current().nextInt(20), MILLISECONDS))
+                        .whenComplete((response, error) -> inFlight.decrementAndGet());
+            }
+        };
+        return new HttpEndpointClient(factory, new URL("https://api.dnsimple.com"), "user-agent", Optional.empty());
+    }
+}
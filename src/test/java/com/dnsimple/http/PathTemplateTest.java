@@ -0,0 +1,37 @@
+package com.dnsimple.http;
+
+import org.junit.Test;
+
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PathTemplateTest {
+    private static final PathTemplate ZONE_RECORD = PathTemplate.compile("{account}/zones/{zone}/records/{record}");
+
+    @Test
+    public void testExpandsThePlaceholdersInOrder() {
+        assertThat(ZONE_RECORD.expand(1010, "example.com", 5L), is("1010/zones/example.com/records/5"));
+    }
+
+    @Test
+    public void testKeepsTheLiteralsAroundThePlaceholders() {
+        assertThat(PathTemplate.compile("{account}/zones/{zone}/activation").expand(1, "example.com"), is("1/zones/example.com/activation"));
+        assertThat(PathTemplate.compile("accounts").expand(), is("accounts"));
+    }
+
+    @Test
+    public void testEncodesTheCharactersNotAllowedInPathSegments() {
+        assertThat(ZONE_RECORD.expand(1, "a b/c?d#e", "b\u00fccher"), is("1/zones/a%20b%2Fc%3Fd%23e/records/b%C3%BCcher"));
+    }
+
+    @Test
+    public void testLeavesTheCharactersAllowedInPathSegmentsAsTheyAre() {
+        assertThat(ZONE_RECORD.expand(1, "user@example.com", "a-b_c.d~e:f"), is("1/zones/user@example.com/records/a-b_c.d~e:f"));
+    }
+
+    @Test
+    public void testRejectsTheWrongNumberOfValues() {
+        assertThat(() -> ZONE_RECORD.expand(1, "example.com"), thrownException(is(instanceOf(IllegalArgumentException.class))));
+    }
+}
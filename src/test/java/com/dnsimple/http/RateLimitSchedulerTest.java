@@ -0,0 +1,129 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.TooManyRequestsException;
+import org.junit.Test;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RateLimitSchedulerTest {
+    private static final Instant NOW = Instant.parse("2016-10-05T09:27:02Z");
+    private static final Optional<String> TOKEN = Optional.of("test-access-token");
+    private final Clock clock = Clock.fixed(NOW, UTC);
+
+    @Test
+    public void testRequestsAreNotDelayedUntilTheBudgetIsKnown() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(1, clock);
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+    }
+
+    @Test
+    public void testRequestsArePacedToSpreadTheRemainingBudget() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(1, clock);
+        scheduler.update(TOKEN, headers(2400, 100, NOW.getEpochSecond() + 100));
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(1)));
+        assertThat(scheduler.reserve(TOKEN), is(greaterThan(SECONDS.toNanos(2))));
+    }
+
+    @Test
+    public void testRequestsCanBurstBeforeBeingPaced() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(3, clock);
+        scheduler.update(TOKEN, headers(2400, 100, NOW.getEpochSecond() + 100));
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+        assertThat(scheduler.reserve(TOKEN), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void testRequestsWaitForTheResetWhenTheBudgetIsSpent() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(10, clock);
+        scheduler.update(TOKEN, headers(2400, 0, NOW.getEpochSecond() + 30));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(30)));
+    }
+
+    @Test
+    public void testRequestsAreSpreadOverTheNextWindowWhenTheBudgetIsSpent() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(2, clock);
+        scheduler.update(TOKEN, headers(3600, 0, NOW.getEpochSecond() + 30));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(30)));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(30)));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(31)));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(32)));
+    }
+
+    @Test
+    public void testExpiredWindowsAreIgnored() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(1, clock);
+        scheduler.update(TOKEN, headers(2400, 0, NOW.getEpochSecond() - 1));
+        assertThat(scheduler.reserve(TOKEN), is(0L));
+    }
+
+    @Test
+    public void testBudgetsAreTrackedPerAccessToken() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(1, clock);
+        scheduler.update(TOKEN, headers(2400, 0, NOW.getEpochSecond() + 30));
+        assertThat(scheduler.reserve(Optional.of("other-access-token")), is(0L));
+    }
+
+    @Test
+    public void testForgetsTheBudgetsOfResetWindowsAsNewAccessTokensAreSeen() {
+        Instant[] now = {NOW};
+        RateLimitScheduler scheduler = new RateLimitScheduler(1, new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now[0];
+            }
+        });
+        for (int i = 0; i < 1000; i++)
+            scheduler.update(Optional.of("tenant-" + i), headers(2400, 100, NOW.getEpochSecond() + 30));
+        assertThat(scheduler.size(), is(1000));
+        now[0] = NOW.plusSeconds(60);
+        scheduler.update(TOKEN, headers(2400, 0, now[0].getEpochSecond() + 30));
+        assertThat(scheduler.size(), is(1));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(30)));
+    }
+
+    @Test
+    public void testLearnsTheBudgetFromTooManyRequestsErrors() {
+        RateLimitScheduler scheduler = new RateLimitScheduler(1, clock);
+        HttpRequestFactory factory = new RateLimitedHttpRequestFactory((userAgent, accessToken, method, uri, body) -> {
+            throw new TooManyRequestsException(emptyMap(), Optional.empty(), headers(2400, 0, NOW.getEpochSecond() + 30));
+        }, scheduler);
+        assertThat(() -> factory.execute("user-agent", TOKEN, GET, URI.create("https://api.dnsimple.com/v2/whoami"), null), thrownException(is(instanceOf(TooManyRequestsException.class))));
+        assertThat(scheduler.reserve(TOKEN), is(SECONDS.toNanos(30)));
+    }
+
+    private static Map<String, List<String>> headers(long limit, long remaining, long reset) {
+        return Map.of(
+                "x-ratelimit-limit", List.of(String.valueOf(limit)),
+                "x-ratelimit-remaining", List.of(String.valueOf(remaining)),
+                "x-ratelimit-reset", List.of(String.valueOf(reset))
+        );
+    }
+}
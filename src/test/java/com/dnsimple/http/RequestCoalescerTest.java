@@ -0,0 +1,141 @@
+package com.dnsimple.http;
+
+import com.dnsimple.data.Zone;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.request.ListOptions;
+import com.dnsimple.response.SimpleResponse;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dnsimple.http.HttpMethod.DELETE;
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.tools.CustomMatchers.property;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RequestCoalescerTest {
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch responseReleased = new CountDownLatch(1);
+
+    @Test
+    public void testIdenticalConcurrentRequestsShareOneResponse() throws Exception {
+        HttpEndpointClient client = client(false);
+        Callable<SimpleResponse<Zone>> getZone = () -> client.simple(GET, "1/zones/example.com", ListOptions.empty(), null, Zone.class);
+        List<Future<SimpleResponse<Zone>>> responses = new ArrayList<>();
+        responses.add(start(getZone));
+        // The leader holds the key of the request while it waits for its response
+        awaitFirstRequest();
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            FutureTask<SimpleResponse<Zone>> follower = new FutureTask<>(getZone);
+            followers.add(new Thread(follower));
+            responses.add(follower);
+        }
+        followers.forEach(Thread::start);
+        responses.add(client.simpleAsync(GET, "1/zones/example.com", ListOptions.empty(), null, Zone.class));
+        for (Thread follower : followers)
+            while (follower.getState() != Thread.State.WAITING)
+                Thread.sleep(1);
+        responseReleased.countDown();
+        Zone zone = responses.get(0).get(5, SECONDS).getData();
+        for (Future<SimpleResponse<Zone>> response : responses)
+            assertThat(response.get(5, SECONDS).getData(), is(sameInstance(zone)));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    public void testFollowersGetTheErrorsOfTheLeader() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        RequestCoalescer.Key key = new RequestCoalescer.Key(URI.create("https://api.dnsimple.com/v2/1/zones"), Optional.empty(), null, Zone.class);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        Future<Object> leader = start(() -> coalescer.execute(key, () -> {
+            leaderStarted.countDown();
+            try {
+                responseReleased.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new StackOverflowError();
+        }));
+        leaderStarted.await();
+        CompletableFuture<Object> follower = coalescer.executeAsync(key, () -> CompletableFuture.completedFuture("not sent"));
+        responseReleased.countDown();
+        assertThat(() -> leader.get(5, SECONDS), thrownException(property(Throwable::getCause, is(instanceOf(StackOverflowError.class)))));
+        assertThat(() -> follower.get(5, SECONDS), thrownException(property(Throwable::getCause, is(instanceOf(StackOverflowError.class)))));
+    }
+
+    @Test
+    public void testCoalescedRequestsShareTheFailure() throws Exception {
+        HttpEndpointClient client = client(true);
+        CompletableFuture<SimpleResponse<Zone>> first = CompletableFuture.supplyAsync(() -> client.simple(GET, "1/zones/example.com", ListOptions.empty(), null, Zone.class));
+        awaitFirstRequest();
+        CompletableFuture<SimpleResponse<Zone>> second = client.simpleAsync(GET, "1/zones/example.com", ListOptions.empty(), null, Zone.class);
+        responseReleased.countDown();
+        assertThat(() -> first.get(5, SECONDS), thrownException(property(Throwable::getCause, is(instanceOf(ServerError.class)))));
+        assertThat(() -> second.get(5, SECONDS), thrownException(property(Throwable::getCause, is(instanceOf(ServerError.class)))));
+        assertThat(requests.get(), is(1));
+    }
+
+    @Test
+    public void testSendsSequentialAndNonGetRequests() throws Exception {
+        HttpEndpointClient client = client(false);
+        responseReleased.countDown();
+        client.simple(GET, "1/zones/example.com", ListOptions.empty(), null, Zone.class);
+        client.simple(GET, "1/zones/example.com", ListOptions.empty(), null, Zone.class);
+        client.empty(DELETE, "1/zones/example.com", ListOptions.empty(), null);
+        assertThat(requests.get(), is(3));
+    }
+
+    private static <T> Future<T> start(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        new Thread(future).start();
+        return future;
+    }
+
+    private void awaitFirstRequest() throws InterruptedException {
+        while (requests.get() == 0)
+            Thread.sleep(5);
+    }
+
+    private HttpEndpointClient client(boolean failing) throws Exception {
+        HttpRequestFactory factory = new HttpRequestFactory() {
+            @Override
+            public RawResponse execute(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                requests.incrementAndGet();
+                try {
+                    responseReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                if (failing)
+                    throw new ServerError(502);
+                if (method == DELETE)
+                    return new RawResponse(204, emptyMap(), new ByteArrayInputStream(new byte[0]));
+                String json = "{\"data\":{\"id\":1,\"name\":\"example.com\"}}";
+                return new RawResponse(200, emptyMap(), new ByteArrayInputStream(json.getBytes(UTF_8)));
+            }
+
+            @Override
+            public CompletableFuture<RawResponse> executeAsync(String userAgent, Optional<String> accessToken, HttpMethod method, URI uri, Object body) {
+                return CompletableFuture.supplyAsync(() -> execute(userAgent, accessToken, method, uri, body));
+            }
+        };
+        return new HttpEndpointClient(factory, new URL("https://api.dnsimple.com"), "user-agent", Optional.of("token")).withRequestCoalescing();
+    }
+}
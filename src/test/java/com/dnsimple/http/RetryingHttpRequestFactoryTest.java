@@ -0,0 +1,109 @@
+package com.dnsimple.http;
+
+import com.dnsimple.exception.BadRequestException;
+import com.dnsimple.exception.DnsimpleException;
+import com.dnsimple.exception.ServerError;
+import com.dnsimple.exception.TooManyRequestsException;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dnsimple.http.HttpMethod.GET;
+import static com.dnsimple.http.HttpMethod.POST;
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static java.util.Collections.emptyMap;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RetryingHttpRequestFactoryTest {
+    private static final URI URI = java.net.URI.create("https://api.dnsimple.com/v2/1/zones");
+    private static final RetryPolicy POLICY = RetryPolicy.defaults().baseDelay(Duration.ofMillis(1)).maxAttempts(3);
+    private final AtomicInteger attempts = new AtomicInteger();
+
+    @Test
+    public void testRetriesIdempotentRequestsOnServerErrors() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(2, new ServerError(502)), POLICY);
+        RawResponse response = factory.execute("user-agent", Optional.empty(), GET, URI, null);
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(attempts.get(), is(3));
+    }
+
+    @Test
+    public void testRetriesIdempotentRequestsOnNetworkErrors() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(1, new DnsimpleException(new IOException("Connection reset"))), POLICY);
+        factory.execute("user-agent", Optional.empty(), GET, URI, null);
+        assertThat(attempts.get(), is(2));
+    }
+
+    @Test
+    public void testHonoursRetryAfter() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(1, new TooManyRequestsException(emptyMap(), Optional.of(Duration.ofMillis(50)))), POLICY);
+        long start = System.nanoTime();
+        factory.execute("user-agent", Optional.empty(), GET, URI, null);
+        assertThat(attempts.get(), is(2));
+        assertThat(Duration.ofNanos(System.nanoTime() - start).toMillis(), is(greaterThanOrEqualTo(50L)));
+    }
+
+    @Test
+    public void testGivesUpAfterTheMaximumNumberOfAttempts() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(5, new ServerError(502)), POLICY);
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI, null),
+                thrownException(is(instanceOf(ServerError.class))));
+        assertThat(attempts.get(), is(3));
+    }
+
+    @Test
+    public void testGivesUpWhenTheDeadlineWouldBeExceeded() {
+        RetryPolicy policy = POLICY.deadline(Duration.ofMillis(10));
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(1, new TooManyRequestsException(emptyMap(), Optional.of(Duration.ofSeconds(60)))), policy);
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI, null),
+                thrownException(is(instanceOf(TooManyRequestsException.class))));
+        assertThat(attempts.get(), is(1));
+    }
+
+    @Test
+    public void testDoesNotRetryNonIdempotentRequests() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(1, new ServerError(502)), POLICY);
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), POST, URI, null),
+                thrownException(is(instanceOf(ServerError.class))));
+        assertThat(attempts.get(), is(1));
+    }
+
+    @Test
+    public void testDoesNotRetryClientErrors() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(1, new BadRequestException(400, emptyMap())), POLICY);
+        assertThat(() -> factory.execute("user-agent", Optional.empty(), GET, URI, null),
+                thrownException(is(instanceOf(BadRequestException.class))));
+        assertThat(attempts.get(), is(1));
+    }
+
+    @Test
+    public void testRetriesAsyncRequests() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(2, new ServerError(503)), POLICY);
+        RawResponse response = factory.executeAsync("user-agent", Optional.empty(), GET, URI, null).join();
+        assertThat(response.getStatusCode(), is(200));
+        assertThat(attempts.get(), is(3));
+    }
+
+    @Test
+    public void testAsyncRequestsFailWithTheLastError() {
+        HttpRequestFactory factory = new RetryingHttpRequestFactory(failing(5, new ServerError(503)), POLICY);
+        assertThat(() -> factory.executeAsync("user-agent", Optional.empty(), GET, URI, null).join(),
+                thrownException(is(instanceOf(CompletionException.class))));
+        assertThat(attempts.get(), is(3));
+    }
+
+    private HttpRequestFactory failing(int failures, DnsimpleException error) {
+        return (userAgent, accessToken, method, uri, body) -> {
+            if (attempts.incrementAndGet() <= failures)
+                throw error;
+            return new RawResponse(200, emptyMap(), new ByteArrayInputStream(new byte[0]));
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.dnsimple.request;
+
+import org.junit.Test;
+
+import static com.dnsimple.tools.CustomMatchers.thrownException;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ListOptionsTest {
+    @Test
+    public void testEncodesThePageFiltersAndSorting() {
+        ListOptions options = ListOptions.empty().filter("name_like", "a b").sortAsc("id").sortDesc("expiration");
+        assertThat(ListOptions.empty().asQueryString(), is(""));
+        assertThat(options.asQueryString(), is("?name_like=a+b&sort=id%3Aasc,expiration%3Adesc"));
+        assertThat(options.page(3, 50).asQueryString(), is("?page=3&per_page=50&name_like=a+b&sort=id%3Aasc,expiration%3Adesc"));
+        assertThat(ListOptions.empty().page(2).asQueryString(), is("?page=2"));
+    }
+
+    @Test
+    public void testReencodesAfterSettingOtherOptions() {
+        ListOptions options = ListOptions.empty().filter("type", "A");
+        assertThat(options.asQueryString(), is("?type=A"));
+        options.setOtherOption("foo", "bar");
+        assertThat(options.asQueryString(), is("?type=A&foo=bar"));
+        assertThat(options.page(1).asQueryString(), is("?page=1&type=A&foo=bar"));
+    }
+
+    @Test
+    public void testPagesDontShareTheOtherOptionsSetAfterwards() {
+        ListOptions options = ListOptions.empty().setOtherOption("foo", "bar");
+        ListOptions page = options.page(2);
+        options.setOtherOption("baz", "qux");
+        page.setOtherOption("quux", "corge");
+        assertThat(options.asQueryString(), allOf(containsString("foo=bar"), containsString("baz=qux"), not(containsString("quux"))));
+        assertThat(page.asQueryString(), allOf(containsString("foo=bar"), containsString("quux=corge"), not(containsString("baz"))));
+        assertThat(options.page(3).asQueryString(), not(containsString("quux")));
+    }
+
+    @Test
+    public void testFrozenOptionsOnlyChangeTheirPage() {
+        ListOptions options = ListOptions.empty().filter("type", "A").setOtherOption("foo", "bar").freeze();
+        assertThat(options.freeze(), is(sameInstance(options)));
+        assertThat(options.page(7, 100).asQueryString(), is("?page=7&per_page=100&type=A&foo=bar"));
+        assertThat(() -> options.page(1).setOtherOption("baz", "qux"), thrownException(is(instanceOf(UnsupportedOperationException.class))));
+        assertThat(options.filter("name_like", "www").asQueryString(), is("?type=A&name_like=www&foo=bar"));
+    }
+}